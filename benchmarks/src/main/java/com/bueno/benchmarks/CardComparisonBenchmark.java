@@ -0,0 +1,91 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.spi.model.TrucoCard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Card value comparison is the innermost operation of every bot decision and of every round resolution.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CardComparisonBenchmark {
+
+    private static final int COMPARISONS = 1024;
+    private static final int OPEN_CARDS = 40;
+
+    private Card[] cards;
+    private Card[] otherCards;
+    private Card[] viras;
+    private TrucoCard[] trucoCards;
+    private TrucoCard[] otherTrucoCards;
+    private TrucoCard[] trucoViras;
+
+    @Setup
+    public void setUp() {
+        final var random = new SplittableRandom(42);
+        cards = new Card[COMPARISONS];
+        otherCards = new Card[COMPARISONS];
+        viras = new Card[COMPARISONS];
+        trucoCards = new TrucoCard[COMPARISONS];
+        otherTrucoCards = new TrucoCard[COMPARISONS];
+        trucoViras = new TrucoCard[COMPARISONS];
+
+        for (int i = 0; i < COMPARISONS; i++) {
+            final int cardId = random.nextInt(1, OPEN_CARDS + 1);
+            final int otherCardId = random.nextInt(1, OPEN_CARDS + 1);
+            final int viraId = random.nextInt(1, OPEN_CARDS + 1);
+            cards[i] = Card.ofId(cardId);
+            otherCards[i] = Card.ofId(otherCardId);
+            viras[i] = Card.ofId(viraId);
+            trucoCards[i] = TrucoCard.ofId(cardId);
+            otherTrucoCards[i] = TrucoCard.ofId(otherCardId);
+            trucoViras[i] = TrucoCard.ofId(viraId);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMPARISONS)
+    public void cardCompareValueTo(Blackhole blackhole) {
+        for (int i = 0; i < COMPARISONS; i++) blackhole.consume(cards[i].compareValueTo(otherCards[i], viras[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMPARISONS)
+    public void trucoCardCompareValueTo(Blackhole blackhole) {
+        for (int i = 0; i < COMPARISONS; i++)
+            blackhole.consume(trucoCards[i].compareValueTo(otherTrucoCards[i], trucoViras[i]));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COMPARISONS)
+    public void trucoCardRelativeValue(Blackhole blackhole) {
+        for (int i = 0; i < COMPARISONS; i++) blackhole.consume(trucoCards[i].relativeValue(trucoViras[i]));
+    }
+}
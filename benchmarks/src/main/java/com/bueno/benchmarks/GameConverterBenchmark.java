@@ -0,0 +1,72 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.converter.ConvertedHands;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Every request of the use case path loads the game from its DTO and saves it back. Loading grows with the number of
+// hands already played, while saving reuses the DTOs of finished hands kept with the loaded game and should stay flat.
+// Hand 1 is the cheapest case and hand 20 a long game.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameConverterBenchmark {
+
+    @Param({"1", "20"})
+    public int hands;
+
+    private Game game;
+    private GameDto dto;
+    private ConvertedHands convertedHands;
+
+    @Setup
+    public void setUp() {
+        game = GameFixtures.gameAtHand(hands);
+        dto = GameConverter.toDto(game);
+        convertedHands = new ConvertedHands();
+        game = GameConverter.fromDto(dto, convertedHands);
+    }
+
+    @Benchmark
+    public GameDto toDto() {
+        return GameConverter.toDto(game, convertedHands);
+    }
+
+    @Benchmark
+    public Game fromDto() {
+        return GameConverter.fromDto(dto);
+    }
+
+    @Benchmark
+    public GameDto roundTrip() {
+        final ConvertedHands loaded = new ConvertedHands();
+        return GameConverter.toDto(GameConverter.fromDto(dto, loaded), loaded);
+    }
+}
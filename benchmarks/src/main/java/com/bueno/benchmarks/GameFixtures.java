@@ -0,0 +1,68 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.HistoryRetention;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.service.SimulationEngine;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+// Deterministic game fixtures shared by the benchmarks. Games are played between bots on seeded decks, so every fork
+// measures exactly the same game state.
+final class GameFixtures {
+
+    static final String BOT_1 = "LazyBot";
+    static final String BOT_2 = "VeioDoBarBot";
+
+    private static final int MAX_SEEDS = 10_000;
+
+    private GameFixtures() {
+    }
+
+    // Plays the first seeded game that lasts long enough until it reaches the given number of hands. The game is left
+    // right at the beginning of that hand, with its first move still to be played.
+    static Game gameAtHand(int hands) {
+        for (long seed = 0; seed < MAX_SEEDS; seed++) {
+            final Game game = newGame(seed);
+            final SimulationEngine engine = new SimulationEngine(game);
+            while (!game.isDone() && game.handsPlayed() < hands) engine.playNextMove();
+            if (!game.isDone() && game.handsPlayed() == hands) return game;
+        }
+        throw new IllegalStateException("No seeded game reaches hand " + hands + " before being over.");
+    }
+
+    static Game newGame(long seed) {
+        return newGame(BOT_1, BOT_2, seed);
+    }
+
+    static Game newGame(String bot1Name, String bot2Name, long seed) {
+        return newGame(bot1Name, bot2Name, seed, HistoryRetention.FULL);
+    }
+
+    static Game newGame(String bot1Name, String bot2Name, long seed, HistoryRetention retention) {
+        final var player1 = Player.ofBot(new UUID(0, 1), bot1Name);
+        final var player2 = Player.ofBot(new UUID(0, 2), bot2Name);
+        return new Game(player1, player2, new SplittableRandom(seed), retention);
+    }
+}
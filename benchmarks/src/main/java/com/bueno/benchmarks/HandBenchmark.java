@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Plays a whole hand without bets, from its creation in the NoCard state through OneCard until Done. Each operation is
+// one complete hand, including the intel recorded for every transition.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+
+    @Param({"2", "3"})
+    public int rounds;
+
+    private final UUID firstUuid = new UUID(0, 1);
+    private final UUID lastUuid = new UUID(0, 2);
+    private Card vira;
+    private List<Card> firstCards;
+    private List<Card> lastCards;
+
+    @Setup
+    public void setUp() {
+        vira = Card.of(Rank.SEVEN, Suit.DIAMONDS);
+        if (rounds == 2) {
+            // The first player wins the first two rounds.
+            firstCards = List.of(Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.TWO, Suit.SPADES), Card.of(Rank.ACE, Suit.SPADES));
+            lastCards = List.of(Card.of(Rank.FOUR, Suit.CLUBS), Card.of(Rank.FIVE, Suit.CLUBS), Card.of(Rank.SIX, Suit.CLUBS));
+        } else {
+            // Each player wins one of the first two rounds, so the third one decides the hand.
+            firstCards = List.of(Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.FOUR, Suit.SPADES), Card.of(Rank.ACE, Suit.SPADES));
+            lastCards = List.of(Card.of(Rank.FIVE, Suit.CLUBS), Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.SIX, Suit.CLUBS));
+        }
+    }
+
+    @Benchmark
+    public Hand playHand() {
+        final Player first = Player.ofBot(firstUuid, GameFixtures.BOT_1);
+        final Player last = Player.ofBot(lastUuid, GameFixtures.BOT_2);
+        first.setCards(firstCards);
+        last.setCards(lastCards);
+
+        final Hand hand = new Hand(first, last, vira);
+        while (!hand.isDone()) {
+            final Player player = hand.getCurrentPlayer();
+            final Card card = player.play(player.getCards().get(0));
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+            else hand.playSecondCard(player, card);
+        }
+        return hand;
+    }
+}
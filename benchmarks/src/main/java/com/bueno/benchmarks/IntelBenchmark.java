@@ -0,0 +1,71 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Intel is converted to DTOs for every client update and adapted to the SPI model before every bot decision.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IntelBenchmark {
+
+    private static final int HAND = 5;
+
+    private Intel intel;
+    private IntelDto dto;
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        final Game game = GameFixtures.gameAtHand(HAND);
+        intel = game.getIntel();
+        dto = IntelConverter.toDto(intel);
+        player = game.currentHand().getCurrentPlayer();
+    }
+
+    @Benchmark
+    public IntelDto intelToDto() {
+        return IntelConverter.toDto(intel);
+    }
+
+    @Benchmark
+    public Intel intelFromDto() {
+        return IntelConverter.fromDto(dto);
+    }
+
+    @Benchmark
+    public GameIntel toGameIntel() {
+        return SpiModelAdapter.toGameIntel(player, intel);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.hand.HistoryRetention;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.usecases.game.service.SimulationEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Full games between bots, as played by the simulation and tournament use cases. Each operation is one game dealt from
+// a new seed of a fixed sequence, so runs are comparable while still covering many different deals.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulationBenchmark {
+
+    @Param({"LazyBot:VeioDoBarBot", "TrucoGuru:JackBot", "VeioDoBarBot:TrucoGuru"})
+    public String matchup;
+
+    @Param({"FULL", "NONE"})
+    public HistoryRetention retention;
+
+    private String bot1Name;
+    private String bot2Name;
+    private SplittableRandom seeds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final String[] names = matchup.split(":");
+        bot1Name = names[0];
+        bot2Name = names[1];
+        seeds = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public Intel playGame() {
+        return new SimulationEngine(GameFixtures.newGame(bot1Name, bot2Name, seeds.nextLong(), retention)).play();
+    }
+}
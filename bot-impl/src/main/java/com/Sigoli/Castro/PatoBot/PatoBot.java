@@ -24,9 +24,11 @@ import java.util.List;
 import java.util.Optional;
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 
 
+@Stateless
 public class PatoBot implements BotServiceProvider {
 
     @Override
@@ -23,11 +23,13 @@ package com.almeida.strapasson.veiodobar;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+@Stateless
 public final class VeioDoBarBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
@@ -7,7 +7,9 @@ import java.util.Optional;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
+@Stateless
 public class BarDoAlexBot implements BotServiceProvider {
 
     public boolean decideIfRaises(GameIntel intel) {
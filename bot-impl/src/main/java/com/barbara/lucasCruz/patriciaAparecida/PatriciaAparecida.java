@@ -24,6 +24,7 @@ package com.barbara.lucasCruz.patriciaAparecida;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.Optional;
 import static java.util.Collections.min;
 
 
+@Stateless
 public class PatriciaAparecida implements BotServiceProvider {
 
     static final double LOWER_PROB_RAISE_RESPONSE = 0.6;
@@ -24,7 +24,9 @@ package com.bonelli.noli.paulistabot;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
+@Stateless
 public class PaulistaBot implements BotServiceProvider {
 
     @Override
@@ -23,11 +23,13 @@ package com.brenoduda.cafeconlechebot;
 import com.bueno.spi.model.*;
 
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Optional;
 
 
+@Stateless
 public class CafeConLecheBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
@@ -23,9 +23,11 @@ package com.bueno.impl.dummybot;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.Optional;
 
+@Stateless
 public class DummyBot implements BotServiceProvider {
 
     @Override
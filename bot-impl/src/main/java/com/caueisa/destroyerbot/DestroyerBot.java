@@ -24,10 +24,12 @@ package com.caueisa.destroyerbot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Optional;
 
+@Stateless
 public class DestroyerBot implements BotServiceProvider {
 
     @Override
@@ -22,9 +22,11 @@ package com.erick.itaipavabot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 
+@Stateless
 public class ItaipavaBot implements BotServiceProvider {
 
     @Override
@@ -2,10 +2,12 @@ package com.everton.ronaldo.arrebentabot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Optional;
 
+@Stateless
 public class ArrebentaBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
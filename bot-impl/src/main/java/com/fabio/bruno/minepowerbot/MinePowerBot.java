@@ -24,11 +24,13 @@ package com.fabio.bruno.minepowerbot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Optional;
 
 
+@Stateless
 public class MinePowerBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
@@ -23,9 +23,11 @@ package com.felipe.fabiano.truccard;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import static com.felipe.fabiano.truccard.TrucoUtils.*;
 
+@Stateless
 public class Truccard implements BotServiceProvider {
     //DECISION-MAKING PROCESS
     @Override
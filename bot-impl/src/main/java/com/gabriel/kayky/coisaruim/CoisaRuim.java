@@ -24,9 +24,11 @@ package com.gabriel.kayky.coisaruim;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 
 
+@Stateless
 public class CoisaRuim implements BotServiceProvider{
 
     @Override
@@ -22,6 +22,7 @@ package com.hermespiassi.casados.marrecobot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +31,7 @@ import static com.bueno.spi.model.CardRank.THREE;
 import static com.bueno.spi.model.CardRank.TWO;
 import static com.bueno.spi.model.CardSuit.SPADES;
 
+@Stateless
 public class MarrecoBot implements BotServiceProvider {
   @Override
   public int getRaiseResponse(GameIntel intel) {
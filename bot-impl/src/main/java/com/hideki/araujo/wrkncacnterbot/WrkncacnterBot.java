@@ -26,9 +26,11 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.Optional;
 
+@Stateless
 public class WrkncacnterBot implements BotServiceProvider {
     @Override // Here throw exception
     public int getRaiseResponse(GameIntel intel) {
@@ -2,9 +2,11 @@ package com.joao.alexandre.jormungandrbot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.*;
 
+@Stateless
 public class JormungandrBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
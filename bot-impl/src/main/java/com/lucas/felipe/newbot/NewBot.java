@@ -25,8 +25,10 @@ package com.lucas.felipe.newbot;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 
+@Stateless
 public class NewBot implements BotServiceProvider {
     public boolean getMaoDeOnzeResponse(GameIntel intel){
         return decideStrategyToPlay(getRound(intel)).getMaoDeOnzeResponse(intel);
@@ -178,4 +178,5 @@ public sealed interface RoundState
         int opponentCardValue = intel.getOpponentCard().map(card -> card.relativeValue(intel.getVira())).orElse(0);
         return myBiggerCardValue >= opponentCardValue;
     }
-}
\ No newline at end of file
+    default boolean raiseHandByMyCards(GameIntel intel) { return isWinningHand(intel); }
+}
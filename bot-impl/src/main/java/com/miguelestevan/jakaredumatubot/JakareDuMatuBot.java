@@ -2,9 +2,11 @@ package com.miguelestevan.jakaredumatubot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.*;
 
+@Stateless
 public class JakareDuMatuBot implements BotServiceProvider {
     @Override
     public boolean getMaoDeOnzeResponse(GameIntel intel) {
@@ -26,9 +26,11 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.*;
 
+@Stateless
 public class JackBot implements BotServiceProvider {
 
     // Verifica se o bot possui alguma mão para aceitar a mão de onze:
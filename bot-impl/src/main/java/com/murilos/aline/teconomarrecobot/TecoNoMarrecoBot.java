@@ -24,12 +24,14 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.bueno.spi.model.GameIntel.RoundResult.DREW;
 
+@Stateless
 public class TecoNoMarrecoBot implements BotServiceProvider {
 
     @Override
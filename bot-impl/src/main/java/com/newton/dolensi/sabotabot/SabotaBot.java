@@ -23,10 +23,12 @@ package com.newton.dolensi.sabotabot;
 
 import com.bueno.spi.model.*;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.ArrayList;
 import java.util.List;
 
+@Stateless
 public class SabotaBot implements BotServiceProvider {
 
     @Override
@@ -25,11 +25,13 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.ArrayList;
 import java.util.List;
 
 
+@Stateless
 public class PauladaSecaBot implements BotServiceProvider {
 
     private boolean temCasalMaior(GameIntel intel) {
@@ -5,8 +5,10 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 import java.util.*;
 
+@Stateless
 public class DarthVader implements BotServiceProvider {
 
     @Override
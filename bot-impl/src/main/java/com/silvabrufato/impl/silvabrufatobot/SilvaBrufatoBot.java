@@ -25,8 +25,10 @@ package com.silvabrufato.impl.silvabrufatobot;
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 
+@Stateless
 public class SilvaBrufatoBot implements BotServiceProvider {
 
     @Override
@@ -24,6 +24,7 @@ import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.TrucoCard;
 import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.Stateless;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,7 @@ import java.util.Optional;
 
 import static com.bueno.spi.model.GameIntel.RoundResult.*;
 
+@Stateless
 public class BotMadeInDescalvado implements BotServiceProvider {
 
     public static final String INVALID_ROUND_MSG = "Invalid round";
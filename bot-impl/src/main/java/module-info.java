@@ -44,6 +44,7 @@ import com.castro.calicchio.jogasafebot.JogaSafeBot;
 import com.felipe.fabiano.truccard.Truccard;
 import com.murilo.joao.jackbot.JackBot;
 import com.luna.jundi.jokerBot.JokerBot;
+import com.everton.ronaldo.arrebentabot.ArrebentaBot;
 
 module bot.impl {
     requires bot.spi;
@@ -129,5 +130,5 @@ module bot.impl {
             Truccard,
             CoisaRuim,
             JackBot,
-            JockerBot;
+            JokerBot;
 }
\ No newline at end of file
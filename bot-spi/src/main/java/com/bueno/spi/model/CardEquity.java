@@ -0,0 +1,38 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import java.util.Objects;
+
+/**
+ * <p>Represents the chances of winning, drawing or losing the current hand if the given card is played now, as
+ * estimated by {@link com.bueno.spi.service.HandEquityCalculator}. The three probabilities sum to 1.</p>
+ *
+ * @param card the card of the bot hand this equity refers to, non-null
+ * @param winProbability probability of winning the hand after playing {@code card}
+ * @param drawProbability probability of the hand ending in a draw after playing {@code card}
+ * @param lossProbability probability of losing the hand after playing {@code card}
+ */
+public record CardEquity(TrucoCard card, double winProbability, double drawProbability, double lossProbability) {
+    public CardEquity {
+        Objects.requireNonNull(card, "Card must not be null.");
+    }
+}
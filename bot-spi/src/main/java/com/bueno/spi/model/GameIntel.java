@@ -27,40 +27,28 @@ import java.util.Optional;
 /**
  * <p>Represents the game intel from the current player point of view, including its card, the vira card, etc.
  * All information that a player can know about the game is available through getter methods.
- * Objects of this class are immutable and must be created using the {@link StepBuilder} supporting class.
+ * Objects of this class are immutable. Bots receive them from the game engine and may create their own instances
+ * using the {@link StepBuilder} supporting class. Subclasses must honour the same immutability contract: the values
+ * returned by the getters must never change after the object is handed to a bot.
  * */
-public class GameIntel {
+public abstract class GameIntel {
 
     public enum RoundResult {WON, DREW, LOST}
 
-    private final List<TrucoCard> cards;
-    private final List<TrucoCard> openCards;
-    private final TrucoCard vira;
-    private final TrucoCard opponentCard;
-    private final List<RoundResult> roundResults;
-    private final int score;
-    private final int opponentScore;
-    private final int handPoints;
-
-    private GameIntel(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira, TrucoCard opponentCard,
-                     List<RoundResult> roundResults, int score, int opponentScore, int handPoints) {
-        this.cards = cards;
-        this.openCards = openCards;
-        this.vira = vira;
-        this.opponentCard = opponentCard;
-        this.roundResults = roundResults;
-        this.score = score;
-        this.opponentScore = opponentScore;
-        this.handPoints = handPoints;
+    private TrucoCardSet cardSet;
+    private TrucoCardSet openCardSet;
+
+    /**
+     * <p>Constructor for subclasses. To create a GameIntel object, use the {@link StepBuilder} class.</p>
+     */
+    protected GameIntel() {
     }
 
     /**
      * <p>Returns the cards owned by the bot in the current hand.</p>
      * @return an unmodifiable List of non-null TrucoCards or an empty {@code List} if the user has no cards left
      */
-    public List<TrucoCard> getCards() {
-        return cards;
-    }
+    public abstract List<TrucoCard> getCards();
 
     /**
      * <p>Returns cards in the order they were played in the current hand, including the vira as the first {@code List}
@@ -68,17 +56,43 @@ public class GameIntel {
      * @return an unmodifiable List of non-null {@link TrucoCard} sorted by the ascending order they
      * were played in the current hand. The vira card is the element of index 0.
      */
-    public List<TrucoCard> getOpenCards() {
-        return openCards;
+    public abstract List<TrucoCard> getOpenCards();
+
+    /**
+     * <p>Returns the cards owned by the bot in the current hand as a {@link TrucoCardSet}, which supports constant
+     * time membership tests and set operations.</p>
+     * @return a non-null TrucoCardSet with the cards of {@link #getCards()}
+     */
+    public TrucoCardSet getCardSet() {
+        if (cardSet == null) cardSet = TrucoCardSet.of(getCards());
+        return cardSet;
+    }
+
+    /**
+     * <p>Returns the open cards of the current hand, including the vira, as a {@link TrucoCardSet}. Discards are not
+     * part of the set, since closed cards are not represented by card sets.</p>
+     * @return a non-null TrucoCardSet with the open cards of {@link #getOpenCards()}
+     */
+    public TrucoCardSet getOpenCardSet() {
+        if (openCardSet == null) openCardSet = TrucoCardSet.of(getOpenCards());
+        return openCardSet;
+    }
+
+    /**
+     * <p>Returns the cards the bot has not seen in the current hand, i.e., the cards that are neither in its hand nor
+     * open on the table. The opponent cards are among them.</p>
+     * @return a non-null TrucoCardSet that is the complement of the union of {@link #getCardSet()} and
+     * {@link #getOpenCardSet()}
+     */
+    public TrucoCardSet getUnseenCardSet() {
+        return TrucoCardSet.unseen(getCardSet(), getOpenCardSet());
     }
 
     /**
      * <p>Returns the vira card of the current hand </p>
      * @return a non-null {@link TrucoCard} describing the vira card of the current hand
      */
-    public TrucoCard getVira() {
-        return vira;
-    }
+    public abstract TrucoCard getVira();
 
     /**
      * <p>Returns an {@code Optional<TrucoCard>} that may contain a {@link TrucoCard} played by the opponent to start
@@ -86,9 +100,7 @@ public class GameIntel {
      * @return an {@code Optional<TrucoCard>} containing a {@link TrucoCard} played by opponent or
      * {@code Optional.empty()} if nothing was played and the current player is the first to play in the round.
      */
-    public Optional<TrucoCard> getOpponentCard() {
-        return Optional.ofNullable(opponentCard);
-    }
+    public abstract Optional<TrucoCard> getOpponentCard();
 
     /**
      * <p>Returns an {@code List} that contains the round results of the current hand from the point of
@@ -98,33 +110,25 @@ public class GameIntel {
      * @return an unmodifiable {@code List} of non-null {@link RoundResult} elements in the order the rounds
      * were played in the current hand, or an empty list if no round was concluded yet.
      */
-    public List<RoundResult> getRoundResults() {
-        return roundResults;
-    }
+    public abstract List<RoundResult> getRoundResults();
 
     /**
      * <p>Returns the player game score.</p>
      * @return a non-negative int representing the current player score
      */
-    public int getScore() {
-        return score;
-    }
+    public abstract int getScore();
 
     /**
      * <p>Returns the opponent game score.</p>
      * @return a non-negative int representing the current opponent score
      */
-    public int getOpponentScore() {
-        return opponentScore;
-    }
+    public abstract int getOpponentScore();
 
     /**
      * <p>Returns the number of points in dispute in the current hand.</p>
      * @return a non-negative int representing the number of points in dispute
      */
-    public int getHandPoints() {
-        return handPoints;
-    }
+    public abstract int getHandPoints();
 
     public interface GeneralIntel{
         BotIntel gameInfo(List<RoundResult> roundResults, List<TrucoCard> openCards, TrucoCard vira, int handPoints);
@@ -197,22 +201,87 @@ public class GameIntel {
          * <p>Concludes the building process of a GameIntel object.</p>
          */
         public GameIntel build(){
-            return new GameIntel(cards, openCards, vira, opponentCard, roundResults, score, opponentScore, handPoints);
+            return new BuiltGameIntel(cards, openCards, vira, opponentCard, roundResults, score, opponentScore, handPoints);
+        }
+    }
+
+    private static final class BuiltGameIntel extends GameIntel {
+        private final List<TrucoCard> cards;
+        private final List<TrucoCard> openCards;
+        private final TrucoCard vira;
+        private final TrucoCard opponentCard;
+        private final List<RoundResult> roundResults;
+        private final int score;
+        private final int opponentScore;
+        private final int handPoints;
+
+        private BuiltGameIntel(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira, TrucoCard opponentCard,
+                               List<RoundResult> roundResults, int score, int opponentScore, int handPoints) {
+            this.cards = cards;
+            this.openCards = openCards;
+            this.vira = vira;
+            this.opponentCard = opponentCard;
+            this.roundResults = roundResults;
+            this.score = score;
+            this.opponentScore = opponentScore;
+            this.handPoints = handPoints;
+        }
+
+        @Override
+        public List<TrucoCard> getCards() {
+            return cards;
+        }
+
+        @Override
+        public List<TrucoCard> getOpenCards() {
+            return openCards;
+        }
+
+        @Override
+        public TrucoCard getVira() {
+            return vira;
+        }
+
+        @Override
+        public Optional<TrucoCard> getOpponentCard() {
+            return Optional.ofNullable(opponentCard);
+        }
+
+        @Override
+        public List<RoundResult> getRoundResults() {
+            return roundResults;
+        }
+
+        @Override
+        public int getScore() {
+            return score;
+        }
+
+        @Override
+        public int getOpponentScore() {
+            return opponentScore;
+        }
+
+        @Override
+        public int getHandPoints() {
+            return handPoints;
         }
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        GameIntel gameIntel = (GameIntel) o;
-        return score == gameIntel.score && opponentScore == gameIntel.opponentScore && handPoints == gameIntel.handPoints
-                && cards.equals(gameIntel.cards) && openCards.equals(gameIntel.openCards) && vira.equals(gameIntel.vira)
-                && Objects.equals(opponentCard, gameIntel.opponentCard) && roundResults.equals(gameIntel.roundResults);
+        if (!(o instanceof GameIntel gameIntel)) return false;
+        return getScore() == gameIntel.getScore() && getOpponentScore() == gameIntel.getOpponentScore()
+                && getHandPoints() == gameIntel.getHandPoints() && getCards().equals(gameIntel.getCards())
+                && getOpenCards().equals(gameIntel.getOpenCards()) && getVira().equals(gameIntel.getVira())
+                && getOpponentCard().equals(gameIntel.getOpponentCard())
+                && getRoundResults().equals(gameIntel.getRoundResults());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(cards, openCards, vira, opponentCard, roundResults, score, opponentScore, handPoints);
+        return Objects.hash(getCards(), getOpenCards(), getVira(), getOpponentCard().orElse(null), getRoundResults(),
+                getScore(), getOpponentScore(), getHandPoints());
     }
 }
@@ -20,6 +20,7 @@
 
 package com.bueno.spi.model;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -31,13 +32,29 @@ import java.util.Objects;
  * */
 public final class TrucoCard {
 
-    private static final TrucoCard[] cache = new TrucoCard[41];
+    private static final int NUMBER_OF_IDS = 41;
+    private static final int INVALID_VALUE = -1;
+    private static final TrucoCard[] cache = new TrucoCard[NUMBER_OF_IDS];
+    private static final int[][] relativeValues = new int[NUMBER_OF_IDS][NUMBER_OF_IDS];
+
+    static {
+        cache[0] = new TrucoCard(CardRank.HIDDEN, CardSuit.HIDDEN);
+        for (CardRank rank : CardRank.values())
+            for (CardSuit suit : CardSuit.values())
+                if (rank != CardRank.HIDDEN && suit != CardSuit.HIDDEN) cache[idOf(rank, suit)] = new TrucoCard(rank, suit);
+        for (TrucoCard vira : cache)
+            for (TrucoCard card : cache)
+                relativeValues[vira.id][card.id] = card.computeRelativeValue(vira);
+    }
+
     private final CardSuit suit;
     private final CardRank rank;
+    private final int id;
 
     private TrucoCard(CardRank rank, CardSuit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.id = idOf(rank, suit);
     }
 
     /**
@@ -59,7 +76,7 @@ public final class TrucoCard {
         if (rank == CardRank.HIDDEN ^ suit == CardSuit.HIDDEN)
             throw new IllegalArgumentException("Both rank and suit must be HIDDEN or none: " + rank + suit);
 
-        return fromCache(rank, suit);
+        return cache[idOf(rank, suit)];
     }
 
     /**
@@ -70,16 +87,45 @@ public final class TrucoCard {
      * @return TrucoCard representing a closed card, i.e., a discard
      */
     public static TrucoCard closed() {
-        return fromCache(CardRank.HIDDEN, CardSuit.HIDDEN);
+        return cache[0];
+    }
+
+    /**
+     * <p>Gets the card represented by the given id, as returned by {@link #getId()}.</p>
+     *
+     * @param id card id, from 0 (closed card) to 40
+     * @return the cached TrucoCard with the given {@code id}
+     * @throws IllegalArgumentException if {@code id} is not a valid card id
+     */
+    public static TrucoCard ofId(int id) {
+        if (id < 0 || id >= NUMBER_OF_IDS) throw new IllegalArgumentException("Invalid card id: " + id);
+        return cache[id];
     }
 
-    private static TrucoCard fromCache(CardRank rank, CardSuit suit) {
+    private static int idOf(CardRank rank, CardSuit suit) {
         int rankValue = rank.value();
         int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    }
 
-        if (cache[cachePosition] == null) cache[cachePosition] = new TrucoCard(rank, suit);
-        return cache[cachePosition];
+    /**
+     * <p>Gets a comparator that orders cards by their relative value for the given {@code vira}. The comparator is
+     * bound to the vira, so each comparison is a lookup in a precomputed table. Use it to sort cards or to find the
+     * strongest or weakest one in a hand.</p>
+     * <pre>{@code
+     *    final TrucoCard strongest = intel.getCards().stream()
+     *       .max(TrucoCard.valueComparator(intel.getVira())).orElseThrow();
+     *    }
+     * </pre>
+     *
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return a comparator consistent with {@link #compareValueTo(TrucoCard, TrucoCard)} for the given {@code vira}
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public static Comparator<TrucoCard> valueComparator(TrucoCard vira) {
+        Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
+        final int viraId = vira.id;
+        return (card, otherCard) -> Integer.compare(card.relativeValue(viraId), otherCard.relativeValue(viraId));
     }
 
 
@@ -117,7 +163,7 @@ public final class TrucoCard {
     public int compareValueTo(TrucoCard otherCard, TrucoCard vira) {
         Objects.requireNonNull(otherCard, "TrucoCard to be compared must not be null.");
         Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
-        return this.relativeValue(vira) - otherCard.relativeValue(vira);
+        return this.relativeValue(vira.id) - otherCard.relativeValue(vira.id);
     }
 
     /**
@@ -133,13 +179,33 @@ public final class TrucoCard {
      */
     public int relativeValue(TrucoCard vira) {
         Objects.requireNonNull(vira, "Vira card must not be null.");
+        return relativeValue(vira.id);
+    }
+
+    /**
+     * <p>Get the relative card value based on the id of the current vira card. It works as
+     * {@link #relativeValue(TrucoCard vira)}, but reads the value from a precomputed table indexed by the vira and card
+     * ids, which makes it suitable for tight loops.</p>
+     *
+     * @param viraId id of the TrucoCard representing the current vira, as returned by {@link #getId()}
+     * @return the relative card value, as described in {@link #relativeValue(TrucoCard vira)}
+     * @throws ArrayIndexOutOfBoundsException if {@code viraId} is not a valid card id
+     * @throws IllegalStateException if both this card and the vira are closed
+     */
+    public int relativeValue(int viraId) {
+        final int value = relativeValues[viraId][id];
+        if (value == INVALID_VALUE) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
+    }
+
+    private int computeRelativeValue(TrucoCard vira) {
         if (isManilha(vira))
             return switch (suit) {
                 case DIAMONDS -> 10;
                 case SPADES -> 11;
                 case HEARTS -> 12;
                 case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
+                case HIDDEN -> INVALID_VALUE;
             };
         if(rank.value() > vira.rank.value()) return rank.value() - 1;
         return rank.value();
@@ -227,6 +293,17 @@ public final class TrucoCard {
         return isManilha(vira) && suit == CardSuit.DIAMONDS;
     }
 
+    /**
+     * <p>Gets the card id, a number that identifies the card among the 40 cards of a truco deck. The closed card has
+     * id 0, and the open cards have ids from 1 to 40, ordered by rank value and then by suit value. Ids are useful as
+     * indexes of arrays and bitsets.</p>
+     *
+     * @return card id between 0 and 40
+     */
+    public int getId() {
+        return id;
+    }
+
     public CardRank getRank() {
         return rank;
     }
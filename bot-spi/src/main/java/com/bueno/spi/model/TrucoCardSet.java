@@ -0,0 +1,321 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * <p>Represents an immutable set of open truco cards backed by a {@code long} bitmask, in which the bit
+ * {@code card.getId() - 1} tells if the card is in the set. Membership tests, additions and removals are O(1) and do
+ * not allocate more than the resulting set. Closed cards are never part of a set: they are ignored when creating a
+ * set from a collection and are never contained by any set.</p>
+ * <p>Sets can be iterated in id order using {@link #iterator()} or in the relative value order defined by a vira using
+ * {@link #forEachInValueOrder(TrucoCard, Consumer)}. Use {@link #unseen(TrucoCardSet, TrucoCardSet)} to get the cards
+ * that may still be in the opponent hand.</p>
+ */
+public final class TrucoCardSet implements Iterable<TrucoCard> {
+
+    private static final int NUMBER_OF_CARDS = 40;
+    private static final long ALL_BITS = (1L << NUMBER_OF_CARDS) - 1;
+    private static final int[][] idsInValueOrder = new int[NUMBER_OF_CARDS + 1][];
+    private static final long[][] strongerThan = new long[NUMBER_OF_CARDS + 1][NUMBER_OF_CARDS + 1];
+    private static final long[][] weakerThan = new long[NUMBER_OF_CARDS + 1][NUMBER_OF_CARDS + 1];
+
+    static {
+        for (int viraId = 0; viraId <= NUMBER_OF_CARDS; viraId++) {
+            final int vira = viraId;
+            idsInValueOrder[viraId] = IntStream.rangeClosed(1, NUMBER_OF_CARDS).boxed()
+                    .sorted(Comparator.comparingInt((Integer id) -> TrucoCard.ofId(id).relativeValue(vira)))
+                    .mapToInt(Integer::intValue).toArray();
+            for (int cardId = 0; cardId <= NUMBER_OF_CARDS; cardId++) {
+                if (viraId == 0 && cardId == 0) continue;
+                final int value = TrucoCard.ofId(cardId).relativeValue(viraId);
+                for (int otherId = 1; otherId <= NUMBER_OF_CARDS; otherId++) {
+                    final int otherValue = TrucoCard.ofId(otherId).relativeValue(viraId);
+                    if (otherValue > value) strongerThan[viraId][cardId] |= bitOf(otherId);
+                    if (otherValue < value) weakerThan[viraId][cardId] |= bitOf(otherId);
+                }
+            }
+        }
+    }
+
+    private static final TrucoCardSet EMPTY = new TrucoCardSet(0L);
+    private static final TrucoCardSet ALL = new TrucoCardSet(ALL_BITS);
+
+    private final long bits;
+
+    private TrucoCardSet(long bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * @return the set without cards
+     */
+    public static TrucoCardSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the set containing the 40 open cards of a truco deck
+     */
+    public static TrucoCardSet all() {
+        return ALL;
+    }
+
+    /**
+     * <p>Creates a set containing the given cards. Closed cards are ignored.</p>
+     *
+     * @param cards cards to be added to the set, must be non-null
+     * @return a TrucoCardSet containing the open cards among {@code cards}
+     * @throws NullPointerException if {@code cards} or any of its elements is null
+     */
+    public static TrucoCardSet of(TrucoCard... cards) {
+        return of(Arrays.asList(cards));
+    }
+
+    /**
+     * <p>Creates a set containing the given cards. Closed cards, such as discards in the open cards list, are
+     * ignored.</p>
+     *
+     * @param cards cards to be added to the set, must be non-null
+     * @return a TrucoCardSet containing the open cards among {@code cards}
+     * @throws NullPointerException if {@code cards} or any of its elements is null
+     */
+    public static TrucoCardSet of(Collection<TrucoCard> cards) {
+        Objects.requireNonNull(cards, "Cards must not be null.");
+        long bits = 0L;
+        for (TrucoCard card : cards) bits |= bitOf(card.getId());
+        return ofBits(bits);
+    }
+
+    /**
+     * <p>Creates a set from its bitmask representation, as returned by {@link #toBits()}.</p>
+     *
+     * @param bits bitmask in which the bit {@code id - 1} represents the card of id {@code id}
+     * @return a TrucoCardSet represented by {@code bits}
+     * @throws IllegalArgumentException if any bit above the 40th is set
+     */
+    public static TrucoCardSet ofBits(long bits) {
+        if ((bits & ~ALL_BITS) != 0) throw new IllegalArgumentException("Invalid card set bits: " + Long.toHexString(bits));
+        if (bits == 0L) return EMPTY;
+        if (bits == ALL_BITS) return ALL;
+        return new TrucoCardSet(bits);
+    }
+
+    /**
+     * <p>Gets the cards that are neither in the player hand nor open on the table, i.e., the cards that may still be
+     * in the opponent hand or in the deck.</p>
+     *
+     * @param hand cards of the player, must be non-null
+     * @param openCards open cards of the hand, including the vira, must be non-null
+     * @return the complement of the union of {@code hand} and {@code openCards}
+     */
+    public static TrucoCardSet unseen(TrucoCardSet hand, TrucoCardSet openCards) {
+        return hand.union(openCards).complement();
+    }
+
+    /**
+     * @param card card to be checked, must be non-null
+     * @return true if {@code card} is in the set. It is always false for a closed card.
+     * @throws NullPointerException if {@code card} is null
+     */
+    public boolean contains(TrucoCard card) {
+        return (bits & bitOf(card.getId())) != 0;
+    }
+
+    /**
+     * @param card open card to be added, must be non-null
+     * @return a set containing the cards of this set and {@code card}
+     * @throws NullPointerException if {@code card} is null
+     * @throws IllegalArgumentException if {@code card} is closed
+     */
+    public TrucoCardSet add(TrucoCard card) {
+        return ofBits(bits | openBitOf(card));
+    }
+
+    /**
+     * @param card open card to be removed, must be non-null
+     * @return a set containing the cards of this set except {@code card}
+     * @throws NullPointerException if {@code card} is null
+     * @throws IllegalArgumentException if {@code card} is closed
+     */
+    public TrucoCardSet remove(TrucoCard card) {
+        return ofBits(bits & ~openBitOf(card));
+    }
+
+    public TrucoCardSet union(TrucoCardSet other) {
+        return ofBits(bits | other.bits);
+    }
+
+    public TrucoCardSet intersection(TrucoCardSet other) {
+        return ofBits(bits & other.bits);
+    }
+
+    public TrucoCardSet minus(TrucoCardSet other) {
+        return ofBits(bits & ~other.bits);
+    }
+
+    /**
+     * @return a set containing the open cards of the deck that are not in this set
+     */
+    public TrucoCardSet complement() {
+        return ofBits(~bits & ALL_BITS);
+    }
+
+    /**
+     * <p>Gets the cards of this set that are stronger than the given {@code card} for the given {@code vira}.</p>
+     *
+     * @param card reference card, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return a subset of this set with the cards whose relative value is greater than the {@code card} value
+     * @throws NullPointerException if {@code card} or {@code vira} is null
+     */
+    public TrucoCardSet strongerThan(TrucoCard card, TrucoCard vira) {
+        return ofBits(bits & strongerThan[vira.getId()][card.getId()]);
+    }
+
+    /**
+     * <p>Gets the cards of this set that are weaker than the given {@code card} for the given {@code vira}.</p>
+     *
+     * @param card reference card, must be non-null
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return a subset of this set with the cards whose relative value is lower than the {@code card} value
+     * @throws NullPointerException if {@code card} or {@code vira} is null
+     */
+    public TrucoCardSet weakerThan(TrucoCard card, TrucoCard vira) {
+        return ofBits(bits & weakerThan[vira.getId()][card.getId()]);
+    }
+
+    /**
+     * <p>Performs the given action for each card of the set, from the weakest to the strongest according to the given
+     * {@code vira}. Cards of same relative value are visited in id order.</p>
+     *
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @param action action to be performed for each card, must be non-null
+     * @throws NullPointerException if {@code vira} or {@code action} is null
+     */
+    public void forEachInValueOrder(TrucoCard vira, Consumer<TrucoCard> action) {
+        Objects.requireNonNull(action, "Action must not be null.");
+        for (int id : idsInValueOrder[vira.getId()])
+            if ((bits & bitOf(id)) != 0) action.accept(TrucoCard.ofId(id));
+    }
+
+    /**
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return the cards of the set sorted from the weakest to the strongest according to the given {@code vira}
+     * @throws NullPointerException if {@code vira} is null
+     */
+    public List<TrucoCard> toListInValueOrder(TrucoCard vira) {
+        final List<TrucoCard> cards = new ArrayList<>(size());
+        forEachInValueOrder(vira, cards::add);
+        return Collections.unmodifiableList(cards);
+    }
+
+    /**
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return an {@code Optional} containing the strongest card of the set, or empty if the set is empty
+     */
+    public Optional<TrucoCard> strongest(TrucoCard vira) {
+        final int[] ids = idsInValueOrder[vira.getId()];
+        for (int i = ids.length - 1; i >= 0; i--)
+            if ((bits & bitOf(ids[i])) != 0) return Optional.of(TrucoCard.ofId(ids[i]));
+        return Optional.empty();
+    }
+
+    /**
+     * @param vira TrucoCard representing the current vira, must be non-null
+     * @return an {@code Optional} containing the weakest card of the set, or empty if the set is empty
+     */
+    public Optional<TrucoCard> weakest(TrucoCard vira) {
+        for (int id : idsInValueOrder[vira.getId()])
+            if ((bits & bitOf(id)) != 0) return Optional.of(TrucoCard.ofId(id));
+        return Optional.empty();
+    }
+
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    public boolean isEmpty() {
+        return bits == 0L;
+    }
+
+    /**
+     * @return the bitmask representation of the set, in which the bit {@code id - 1} represents the card of id
+     * {@code id}
+     */
+    public long toBits() {
+        return bits;
+    }
+
+    /**
+     * <p>Iterates over the cards of the set in ascending id order.</p>
+     */
+    @Override
+    public Iterator<TrucoCard> iterator() {
+        return new Iterator<>() {
+            private long remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0L;
+            }
+
+            @Override
+            public TrucoCard next() {
+                if (remaining == 0L) throw new NoSuchElementException();
+                final int index = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return TrucoCard.ofId(index + 1);
+            }
+        };
+    }
+
+    private static long bitOf(int id) {
+        return id == 0 ? 0L : 1L << (id - 1);
+    }
+
+    private static long openBitOf(TrucoCard card) {
+        if (card.getId() == 0) throw new IllegalArgumentException("Closed cards can not be part of a card set.");
+        return bitOf(card.getId());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return bits == ((TrucoCardSet) o).bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner("", "{", "}");
+        forEach(card -> joiner.add(card.toString()));
+        return joiner.toString();
+    }
+}
@@ -21,11 +21,7 @@
 package com.bueno.spi.service;
 
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
 import java.util.ServiceLoader;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class BotServiceManager {
@@ -35,12 +31,14 @@ public class BotServiceManager {
     }
 
     public static BotServiceProvider load(String botServiceName){
-        final Predicate<BotServiceProvider> hasName = botImpl -> botImpl.getName().equals(botServiceName);
-        final Optional<BotServiceProvider> possibleBot = providers().filter(hasName).findAny();
-        return possibleBot.orElseThrow(() -> new NoSuchElementException("Service implementation not available: " + botServiceName));
+        return BotServiceRegistry.getInstance().get(botServiceName);
+    }
+
+    public static boolean isAvailable(String botServiceName){
+        return BotServiceRegistry.getInstance().contains(botServiceName);
     }
 
     public static List<String> providersNames(){
-        return providers().map(BotServiceProvider::getName).collect(Collectors.toList());
+        return BotServiceRegistry.getInstance().names();
     }
 }
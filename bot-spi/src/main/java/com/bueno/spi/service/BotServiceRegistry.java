@@ -0,0 +1,123 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <p>Keeps an index of all available {@link BotServiceProvider} implementations by their names. Providers are
+ * discovered only once, when the registry is first used, so looking up a bot does not scan the service loader again.
+ * Bots annotated with {@link Stateless} share a single object. Other bots get a new object from each call to
+ * {@link #get(String name)}, which callers should keep for the whole game.</p>
+ * */
+public final class BotServiceRegistry {
+
+    private final Map<String, Entry> index;
+    private final List<String> names;
+
+    BotServiceRegistry(Stream<? extends Supplier<? extends BotServiceProvider>> factories) {
+        final Map<String, Entry> entries = new HashMap<>();
+        final List<String> discoveredNames = new ArrayList<>();
+        factories.forEach(factory -> {
+            final BotServiceProvider bot = factory.get();
+            final String name = bot.getName();
+            if (entries.containsKey(name)) return;
+            entries.put(name, new Entry(factory, isStateless(bot) ? bot : null));
+            discoveredNames.add(name);
+        });
+        this.index = entries;
+        this.names = Collections.unmodifiableList(discoveredNames);
+    }
+
+    private static boolean isStateless(BotServiceProvider bot) {
+        return bot.getClass().isAnnotationPresent(Stateless.class);
+    }
+
+    /**
+     * <p>Returns the registry containing all bots available through the {@link ServiceLoader}.</p>
+     * @return the shared {@link BotServiceRegistry}
+     */
+    public static BotServiceRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * <p>Returns a bot by its name. If the bot is {@link Stateless}, the same object is always returned. Otherwise, a
+     * new object is created.</p>
+     * @param name the name of the bot as returned by {@link BotServiceProvider#getName()}
+     * @return the {@link BotServiceProvider} with the given {@code name}
+     * @throws NoSuchElementException if there is no bot with the given {@code name}
+     */
+    public BotServiceProvider get(String name) {
+        final Entry entry = index.get(name);
+        if (entry == null) throw new NoSuchElementException("Service implementation not available: " + name);
+        return entry.instance();
+    }
+
+    /**
+     * <p>Checks if there is a bot with the given name.</p>
+     * @param name the name of the bot
+     * @return {@code true} if the bot is available or {@code false} otherwise
+     */
+    public boolean contains(String name) {
+        return index.containsKey(name);
+    }
+
+    /**
+     * <p>Checks if the bot with the given name shares a single object between games.</p>
+     * @param name the name of the bot
+     * @return {@code true} if the bot is annotated with {@link Stateless} or {@code false} otherwise
+     * @throws NoSuchElementException if there is no bot with the given {@code name}
+     */
+    public boolean isStateless(String name) {
+        final Entry entry = index.get(name);
+        if (entry == null) throw new NoSuchElementException("Service implementation not available: " + name);
+        return entry.shared != null;
+    }
+
+    /**
+     * <p>Returns the names of all available bots in the order they were discovered.</p>
+     * @return an unmodifiable {@code List} of bot names
+     */
+    public List<String> names() {
+        return names;
+    }
+
+    private record Entry(Supplier<? extends BotServiceProvider> factory, BotServiceProvider shared) {
+        BotServiceProvider instance() {
+            return shared != null ? shared : Objects.requireNonNull(factory.get());
+        }
+    }
+
+    private static final class Holder {
+        private static final BotServiceRegistry INSTANCE =
+                new BotServiceRegistry(ServiceLoader.load(BotServiceProvider.class).stream());
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardEquity;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Estimates, for each card in the bot hand, the probability of winning the current hand if that card is played
+ * now. The estimate considers every opponent holding consistent with the {@link GameIntel}, i.e., every combination
+ * of unseen cards with the number of cards the opponent still has. For each holding, the rest of the hand is solved
+ * assuming both players know all cards and play their best (a double-dummy analysis), so the result is an optimistic
+ * estimate for the player that plays better with hidden information. Raises, discards and mão de onze decisions are
+ * not considered.</p>
+ * <p>Holdings are enumerated exhaustively when their number does not exceed the exhaustive limit, and sampled
+ * otherwise (Monte Carlo). Samples are drawn from a generator seeded by the game state, so the same state always
+ * yields the same result. Results are memoized by the part of the state that affects them (vira, bot cards, open
+ * cards, opponent card and round results), which makes repeated queries during simulations cheap. Objects of this
+ * class are thread safe, and {@link #equitiesOf(List)} answers batches of queries in parallel.</p>
+ */
+public final class HandEquityCalculator {
+
+    public static final int DEFAULT_EXHAUSTIVE_LIMIT = 10_000;
+    public static final int DEFAULT_SAMPLES = 2_000;
+    public static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private static final int WIN = 1;
+    private static final int DRAW = 0;
+    private static final int LOSS = -1;
+    private static final int UNDECIDED = 2;
+    private static final int CARDS_PER_HAND = 3;
+
+    private final int exhaustiveLimit;
+    private final int samples;
+    private final int cacheSize;
+    private final Map<StateKey, List<CardEquity>> cache = new ConcurrentHashMap<>();
+
+    public HandEquityCalculator() {
+        this(DEFAULT_EXHAUSTIVE_LIMIT, DEFAULT_SAMPLES, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param exhaustiveLimit maximum number of opponent holdings to enumerate before switching to sampling
+     * @param samples number of opponent holdings to sample when the exhaustive limit is exceeded, must be positive
+     * @param cacheSize maximum number of memoized states. The cache is cleared when it gets full.
+     * @throws IllegalArgumentException if {@code samples} is not positive or any parameter is negative
+     */
+    public HandEquityCalculator(int exhaustiveLimit, int samples, int cacheSize) {
+        if (exhaustiveLimit < 0 || samples < 1 || cacheSize < 0)
+            throw new IllegalArgumentException("Invalid calculator parameters.");
+        this.exhaustiveLimit = exhaustiveLimit;
+        this.samples = samples;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * <p>Returns a calculator with default parameters, shared by all callers so they also share its cache.</p>
+     */
+    public static HandEquityCalculator getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * <p>Estimates the equity of each card in the bot hand.</p>
+     *
+     * @param intel the game intel from the bot point of view, must be non-null
+     * @return an unmodifiable list with one {@link CardEquity} per card of {@link GameIntel#getCards()}, in the same
+     * order, or an empty list if the bot has no cards
+     * @throws NullPointerException if {@code intel} is null
+     */
+    public List<CardEquity> equitiesOf(GameIntel intel) {
+        Objects.requireNonNull(intel, "GameIntel must not be null.");
+        final StateKey key = StateKey.of(intel);
+        final List<CardEquity> cached = cache.get(key);
+        if (cached != null) return inOrderOf(intel.getCards(), cached);
+
+        final List<CardEquity> equities = compute(intel, key);
+        if (cacheSize > 0) {
+            if (cache.size() >= cacheSize) cache.clear();
+            cache.put(key, equities);
+        }
+        return equities;
+    }
+
+    /**
+     * <p>Estimates the equities of a batch of game intel objects in parallel.</p>
+     *
+     * @param intels game intel objects, must be non-null and contain no null elements
+     * @return a list whose i-th element is the result of {@link #equitiesOf(GameIntel)} for the i-th intel
+     * @throws NullPointerException if {@code intels} or any of its elements is null
+     */
+    public List<List<CardEquity>> equitiesOf(List<GameIntel> intels) {
+        Objects.requireNonNull(intels, "GameIntel list must not be null.");
+        return intels.parallelStream().map(this::equitiesOf).toList();
+    }
+
+    private List<CardEquity> compute(GameIntel intel, StateKey key) {
+        final List<TrucoCard> cards = intel.getCards();
+        if (cards.isEmpty()) return List.of();
+
+        final int viraId = intel.getVira().getId();
+        final int[] myValues = cards.stream().mapToInt(card -> card.relativeValue(viraId)).toArray();
+        final int[] results = new int[CARDS_PER_HAND];
+        final List<RoundResult> roundResults = intel.getRoundResults();
+        for (int i = 0; i < roundResults.size(); i++) results[i] = toOutcome(roundResults.get(i));
+
+        final TrucoCard opponentCard = intel.getOpponentCard().orElse(null);
+        final int opponentCardValue = opponentCard == null ? -1 : opponentCard.relativeValue(viraId);
+        final int opponentCardsLeft = Math.max(0, CARDS_PER_HAND - roundResults.size() - (opponentCard == null ? 0 : 1));
+        final int[] unseenValues = new int[intel.getUnseenCardSet().size()];
+        int index = 0;
+        for (TrucoCard card : intel.getUnseenCardSet()) unseenValues[index++] = card.relativeValue(viraId);
+
+        final Round round = new Round(myValues, results, roundResults.size(), opponentCardValue);
+        final long holdings = binomial(unseenValues.length, opponentCardsLeft);
+        if (holdings <= exhaustiveLimit) enumerate(round, unseenValues, new int[opponentCardsLeft], 0, 0);
+        else sample(round, unseenValues, opponentCardsLeft, new SplittableRandom(key.hashCode()));
+
+        final List<CardEquity> equities = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            final double total = round.wins[i] + round.draws[i] + round.losses[i];
+            equities.add(new CardEquity(cards.get(i), round.wins[i] / total, round.draws[i] / total, round.losses[i] / total));
+        }
+        return Collections.unmodifiableList(equities);
+    }
+
+    // States that differ only in the order of the bot cards share a cache entry.
+    private static List<CardEquity> inOrderOf(List<TrucoCard> cards, List<CardEquity> equities) {
+        boolean sameOrder = true;
+        for (int i = 0; i < cards.size() && sameOrder; i++) sameOrder = cards.get(i).equals(equities.get(i).card());
+        if (sameOrder) return equities;
+        return cards.stream()
+                .map(card -> equities.stream().filter(equity -> equity.card().equals(card)).findFirst().orElseThrow())
+                .toList();
+    }
+
+    private static void enumerate(Round round, int[] unseen, int[] holding, int start, int size) {
+        if (size == holding.length) {
+            round.evaluate(holding);
+            return;
+        }
+        for (int i = start; i <= unseen.length - (holding.length - size); i++) {
+            holding[size] = unseen[i];
+            enumerate(round, unseen, holding, i + 1, size + 1);
+        }
+    }
+
+    private void sample(Round round, int[] unseen, int holdingSize, SplittableRandom random) {
+        final int[] deck = unseen.clone();
+        final int[] holding = new int[holdingSize];
+        for (int sample = 0; sample < samples; sample++) {
+            for (int i = 0; i < holdingSize; i++) {
+                final int j = i + random.nextInt(deck.length - i);
+                final int value = deck[j];
+                deck[j] = deck[i];
+                deck[i] = value;
+                holding[i] = value;
+            }
+            round.evaluate(holding);
+        }
+    }
+
+    private static long binomial(int n, int k) {
+        if (k < 0 || k > n) return 0;
+        long result = 1;
+        for (int i = 1; i <= k; i++) result = result * (n - k + i) / i;
+        return result;
+    }
+
+    private static int toOutcome(RoundResult result) {
+        return switch (result) {
+            case WON -> WIN;
+            case DREW -> DRAW;
+            case LOST -> LOSS;
+        };
+    }
+
+    // Solves the rest of the hand for each possible first card of the bot, counting the outcomes over the holdings.
+    private static final class Round {
+        private final int[] myValues;
+        private final int[] results;
+        private final int roundsPlayed;
+        private final int opponentCardValue;
+        private final long[] wins;
+        private final long[] draws;
+        private final long[] losses;
+
+        private Round(int[] myValues, int[] results, int roundsPlayed, int opponentCardValue) {
+            this.myValues = myValues;
+            this.results = results;
+            this.roundsPlayed = roundsPlayed;
+            this.opponentCardValue = opponentCardValue;
+            this.wins = new long[myValues.length];
+            this.draws = new long[myValues.length];
+            this.losses = new long[myValues.length];
+        }
+
+        private void evaluate(int[] opponentValues) {
+            final int allMine = (1 << myValues.length) - 1;
+            final int allTheirs = (1 << opponentValues.length) - 1;
+            for (int card = 0; card < myValues.length; card++) {
+                final int remaining = allMine & ~(1 << card);
+                final int outcome;
+                if (opponentCardValue >= 0) {
+                    outcome = playRound(myValues[card], opponentCardValue, false, remaining, opponentValues, allTheirs,
+                            results, roundsPlayed);
+                } else {
+                    int worst = WIN;
+                    for (int answer = 0; answer < opponentValues.length && worst > LOSS; answer++)
+                        worst = Math.min(worst, playRound(myValues[card], opponentValues[answer], true, remaining,
+                                opponentValues, allTheirs & ~(1 << answer), results, roundsPlayed));
+                    outcome = worst;
+                }
+                if (outcome == WIN) wins[card]++;
+                else if (outcome == DRAW) draws[card]++;
+                else losses[card]++;
+            }
+        }
+
+        private int solve(int mine, int[] opponentValues, int theirs, int[] outcomes, int played, boolean iLead) {
+            final int decided = decide(outcomes, played);
+            if (decided != UNDECIDED) return decided;
+            if (mine == 0 || theirs == 0) return DRAW;
+
+            if (iLead) {
+                int best = LOSS;
+                for (int card = 0; card < myValues.length && best < WIN; card++) {
+                    if ((mine & (1 << card)) == 0) continue;
+                    int worst = WIN;
+                    for (int answer = 0; answer < opponentValues.length && worst > best; answer++) {
+                        if ((theirs & (1 << answer)) == 0) continue;
+                        worst = Math.min(worst, playRound(myValues[card], opponentValues[answer], true,
+                                mine & ~(1 << card), opponentValues, theirs & ~(1 << answer), outcomes, played));
+                    }
+                    best = Math.max(best, worst);
+                }
+                return best;
+            }
+            int worst = WIN;
+            for (int lead = 0; lead < opponentValues.length && worst > LOSS; lead++) {
+                if ((theirs & (1 << lead)) == 0) continue;
+                int best = LOSS;
+                for (int card = 0; card < myValues.length && best < worst; card++) {
+                    if ((mine & (1 << card)) == 0) continue;
+                    best = Math.max(best, playRound(myValues[card], opponentValues[lead], false,
+                            mine & ~(1 << card), opponentValues, theirs & ~(1 << lead), outcomes, played));
+                }
+                worst = Math.min(worst, best);
+            }
+            return worst;
+        }
+
+        private int playRound(int myValue, int opponentValue, boolean iLed, int mine, int[] opponentValues,
+                                  int theirs, int[] outcomes, int played) {
+            final int roundOutcome = Integer.signum(myValue - opponentValue);
+            final int[] next = outcomes.clone();
+            next[played] = roundOutcome;
+            final boolean iLead = roundOutcome == WIN || (roundOutcome == DRAW && iLed);
+            return solve(mine, opponentValues, theirs, next, played + 1, iLead);
+        }
+
+        // Same rules as the game: a hand is decided by two won rounds, by the first decided round after a draw, or by
+        // the first round if the third is a draw. A hand with three drawn rounds ends in a draw.
+        private static int decide(int[] outcomes, int played) {
+            if (played < 2) return UNDECIDED;
+            final int first = outcomes[0];
+            final int second = outcomes[1];
+            if (played == 2) {
+                if (first == DRAW && second != DRAW) return second;
+                if (first != DRAW && (second == DRAW || second == first)) return first;
+                return UNDECIDED;
+            }
+            final int third = outcomes[2];
+            if (third == DRAW && first != DRAW) return first;
+            return third;
+        }
+    }
+
+    private record StateKey(int viraId, long cards, long openCards, int opponentCardId, List<RoundResult> roundResults) {
+        private static StateKey of(GameIntel intel) {
+            return new StateKey(intel.getVira().getId(), intel.getCardSet().toBits(), intel.getOpenCardSet().toBits(),
+                    intel.getOpponentCard().map(TrucoCard::getId).orElse(-1), intel.getRoundResults());
+        }
+    }
+
+    private static final class Holder {
+        private static final HandEquityCalculator INSTANCE = new HandEquityCalculator();
+    }
+}
@@ -98,4 +98,16 @@ class GameIntelTest {
         assertEquals(stepBuilder.build().hashCode(), stepBuilder.build().hashCode());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should expose cards as card sets")
+    void shouldExposeCardsAsCardSets() {
+        final GameIntel intel = stepBuilder.build();
+        assertAll(
+                () -> assertEquals(TrucoCardSet.of(botCards), intel.getCardSet()),
+                () -> assertEquals(TrucoCardSet.of(openCards), intel.getOpenCardSet()),
+                () -> assertEquals(38, intel.getUnseenCardSet().size()),
+                () -> assertFalse(intel.getUnseenCardSet().contains(TrucoCard.of(ACE, HEARTS)))
+        );
+    }
+}
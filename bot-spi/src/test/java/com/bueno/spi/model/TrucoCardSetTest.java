@@ -0,0 +1,125 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrucoCardSetTest {
+
+    @Test
+    @DisplayName("Should create set ignoring closed cards")
+    void shouldCreateSetIgnoringClosedCards() {
+        final TrucoCardSet set = TrucoCardSet.of(TrucoCard.of(ACE, HEARTS), TrucoCard.closed(), TrucoCard.of(TWO, CLUBS));
+        assertAll(
+                () -> assertEquals(2, set.size()),
+                () -> assertTrue(set.contains(TrucoCard.of(ACE, HEARTS))),
+                () -> assertTrue(set.contains(TrucoCard.of(TWO, CLUBS))),
+                () -> assertFalse(set.contains(TrucoCard.closed())),
+                () -> assertFalse(set.contains(TrucoCard.of(TWO, HEARTS)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should add and remove cards without changing the original set")
+    void shouldAddAndRemoveCardsWithoutChangingTheOriginalSet() {
+        final TrucoCardSet set = TrucoCardSet.of(TrucoCard.of(ACE, HEARTS));
+        final TrucoCardSet added = set.add(TrucoCard.of(KING, SPADES));
+        final TrucoCardSet removed = added.remove(TrucoCard.of(ACE, HEARTS));
+        assertAll(
+                () -> assertEquals(TrucoCardSet.of(TrucoCard.of(ACE, HEARTS)), set),
+                () -> assertEquals(TrucoCardSet.of(TrucoCard.of(ACE, HEARTS), TrucoCard.of(KING, SPADES)), added),
+                () -> assertEquals(TrucoCardSet.of(TrucoCard.of(KING, SPADES)), removed),
+                () -> assertThrows(IllegalArgumentException.class, () -> set.add(TrucoCard.closed()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should unseen cards be the complement of hand and open cards")
+    void shouldUnseenCardsBeTheComplementOfHandAndOpenCards() {
+        final TrucoCardSet hand = TrucoCardSet.of(TrucoCard.of(ACE, HEARTS), TrucoCard.of(FOUR, CLUBS), TrucoCard.of(SIX, SPADES));
+        final TrucoCardSet open = TrucoCardSet.of(TrucoCard.of(SEVEN, DIAMONDS));
+        final TrucoCardSet unseen = TrucoCardSet.unseen(hand, open);
+        assertAll(
+                () -> assertEquals(36, unseen.size()),
+                () -> assertTrue(unseen.intersection(hand.union(open)).isEmpty()),
+                () -> assertEquals(TrucoCardSet.all(), unseen.union(hand).union(open))
+        );
+    }
+
+    @Test
+    @DisplayName("Should iterate cards in vira relative order")
+    void shouldIterateCardsInViraRelativeOrder() {
+        final TrucoCard vira = TrucoCard.of(SIX, HEARTS);
+        final TrucoCard zap = TrucoCard.of(SEVEN, CLUBS);
+        final TrucoCard ouros = TrucoCard.of(SEVEN, DIAMONDS);
+        final TrucoCard three = TrucoCard.of(THREE, SPADES);
+        final TrucoCard four = TrucoCard.of(FOUR, HEARTS);
+        final TrucoCardSet set = TrucoCardSet.of(zap, three, ouros, four);
+
+        final List<TrucoCard> visited = new ArrayList<>();
+        set.forEachInValueOrder(vira, visited::add);
+
+        assertAll(
+                () -> assertEquals(List.of(four, three, ouros, zap), visited),
+                () -> assertEquals(visited, set.toListInValueOrder(vira)),
+                () -> assertEquals(Optional.of(zap), set.strongest(vira)),
+                () -> assertEquals(Optional.of(four), set.weakest(vira)),
+                () -> assertEquals(Optional.empty(), TrucoCardSet.empty().strongest(vira))
+        );
+    }
+
+    @Test
+    @DisplayName("Should select cards stronger and weaker than a reference card")
+    void shouldSelectCardsStrongerAndWeakerThanAReferenceCard() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final TrucoCard reference = TrucoCard.of(THREE, CLUBS);
+        final TrucoCardSet stronger = TrucoCardSet.all().strongerThan(reference, vira);
+        final TrucoCardSet weaker = TrucoCardSet.all().weakerThan(reference, vira);
+        assertAll(
+                () -> assertEquals(4, stronger.size()),
+                () -> assertTrue(stronger.contains(TrucoCard.of(FIVE, DIAMONDS))),
+                () -> assertEquals(32, weaker.size()),
+                () -> assertFalse(weaker.contains(TrucoCard.of(THREE, SPADES)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should iterate in id order and round trip through bits")
+    void shouldIterateInIdOrderAndRoundTripThroughBits() {
+        final TrucoCardSet set = TrucoCardSet.of(TrucoCard.of(THREE, CLUBS), TrucoCard.of(FOUR, DIAMONDS));
+        final List<TrucoCard> cards = new ArrayList<>();
+        set.forEach(cards::add);
+        assertAll(
+                () -> assertEquals(List.of(TrucoCard.of(FOUR, DIAMONDS), TrucoCard.of(THREE, CLUBS)), cards),
+                () -> assertEquals(set, TrucoCardSet.ofBits(set.toBits())),
+                () -> assertThrows(IllegalArgumentException.class, () -> TrucoCardSet.ofBits(1L << 40))
+        );
+    }
+}
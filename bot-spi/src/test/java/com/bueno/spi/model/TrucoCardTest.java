@@ -26,6 +26,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.bueno.spi.model.CardRank.*;
 import static com.bueno.spi.model.CardSuit.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -254,4 +259,45 @@ class TrucoCardTest {
         assertEquals("[XX]", TrucoCard.closed().toString());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should give each card a distinct id that recovers the card")
+    void shouldGiveEachCardADistinctIdThatRecoversTheCard() {
+        final Set<Integer> ids = new HashSet<>();
+        for (CardRank rank : CardRank.values())
+            for (CardSuit suit : CardSuit.values())
+                if (rank != CardRank.HIDDEN && suit != CardSuit.HIDDEN) {
+                    final TrucoCard card = TrucoCard.of(rank, suit);
+                    ids.add(card.getId());
+                    assertSame(card, TrucoCard.ofId(card.getId()));
+                }
+        assertAll(
+                () -> assertEquals(40, ids.size()),
+                () -> assertEquals(0, TrucoCard.closed().getId()),
+                () -> assertThrows(IllegalArgumentException.class, () -> TrucoCard.ofId(41))
+        );
+    }
+
+    @Test
+    @DisplayName("Should relative value by vira id be the same as by vira card")
+    void shouldRelativeValueByViraIdBeTheSameAsByViraCard() {
+        final TrucoCard vira = TrucoCard.of(SEVEN, HEARTS);
+        assertAll(
+                () -> assertEquals(13, TrucoCard.of(QUEEN, CLUBS).relativeValue(vira.getId())),
+                () -> assertEquals(TrucoCard.of(KING, SPADES).relativeValue(vira), TrucoCard.of(KING, SPADES).relativeValue(vira.getId())),
+                () -> assertEquals(0, TrucoCard.closed().relativeValue(vira.getId())),
+                () -> assertThrows(IllegalStateException.class, () -> TrucoCard.closed().relativeValue(TrucoCard.closed().getId()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should sort cards by relative value to the vira")
+    void shouldSortCardsByRelativeValueToTheVira() {
+        final TrucoCard vira = TrucoCard.of(TWO, CLUBS);
+        final TrucoCard zap = TrucoCard.of(THREE, CLUBS);
+        final TrucoCard ace = TrucoCard.of(ACE, HEARTS);
+        final TrucoCard four = TrucoCard.of(FOUR, SPADES);
+        final List<TrucoCard> cards = new ArrayList<>(List.of(zap, four, ace));
+        cards.sort(TrucoCard.valueComparator(vira));
+        assertEquals(List.of(four, ace, zap), cards);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotServiceRegistryTest {
+
+    private BotServiceRegistry sut;
+
+    @BeforeEach
+    void setUp() {
+        final Stream<Supplier<BotServiceProvider>> factories =
+                Stream.of(SharedBot::new, OwnStateBot::new, RenamedBot::new, SharedBot::new);
+        sut = new BotServiceRegistry(factories);
+    }
+
+    @Test
+    @DisplayName("Should index bots by name in discovery order")
+    void shouldIndexBotsByNameInDiscoveryOrder() {
+        assertEquals(List.of("SharedBot", "OwnStateBot", "Renamed"), sut.names());
+    }
+
+    @Test
+    @DisplayName("Should not allow modifying bot names")
+    void shouldNotAllowModifyingBotNames() {
+        assertThrows(UnsupportedOperationException.class, () -> sut.names().add("Other"));
+    }
+
+    @Test
+    @DisplayName("Should return the same object for stateless bots")
+    void shouldReturnTheSameObjectForStatelessBots() {
+        assertAll(
+                () -> assertSame(sut.get("SharedBot"), sut.get("SharedBot")),
+                () -> assertTrue(sut.isStateless("SharedBot"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should return a new object for stateful bots")
+    void shouldReturnANewObjectForStatefulBots() {
+        final BotServiceProvider bot = sut.get("OwnStateBot");
+        assertAll(
+                () -> assertTrue(bot instanceof OwnStateBot),
+                () -> assertNotSame(bot, sut.get("OwnStateBot")),
+                () -> assertFalse(sut.isStateless("OwnStateBot"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should find bot by overridden name")
+    void shouldFindBotByOverriddenName() {
+        assertAll(
+                () -> assertTrue(sut.contains("Renamed")),
+                () -> assertFalse(sut.contains("RenamedBot")),
+                () -> assertTrue(sut.get("Renamed") instanceof RenamedBot)
+        );
+    }
+
+    @Test
+    @DisplayName("Should throw if bot is not available")
+    void shouldThrowIfBotIsNotAvailable() {
+        assertThrows(NoSuchElementException.class, () -> sut.get("Unknown"));
+    }
+
+    private abstract static class TestBot implements BotServiceProvider {
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+    }
+
+    @Stateless
+    private static class SharedBot extends TestBot {
+    }
+
+    private static class OwnStateBot extends TestBot {
+    }
+
+    private static class RenamedBot extends TestBot {
+        @Override
+        public String getName() {
+            return "Renamed";
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardEquity;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.GameIntel.RoundResult;
+import com.bueno.spi.model.TrucoCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandEquityCalculatorTest {
+
+    private final HandEquityCalculator sut = new HandEquityCalculator();
+
+    private static GameIntel intel(List<RoundResult> results, List<TrucoCard> openCards, TrucoCard vira,
+                                   List<TrucoCard> cards, TrucoCard opponentCard) {
+        return GameIntel.StepBuilder.with()
+                .gameInfo(results, openCards, vira, 1)
+                .botInfo(cards, 0)
+                .opponentScore(0)
+                .opponentCard(opponentCard)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should win for sure if last card beats the card played by opponent")
+    void shouldWinForSureIfLastCardBeatsTheCardPlayedByOpponent() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final TrucoCard opponentCard = TrucoCard.of(THREE, CLUBS);
+        final TrucoCard zap = TrucoCard.of(FIVE, CLUBS);
+        final GameIntel intel = intel(List.of(RoundResult.WON, RoundResult.LOST), List.of(vira, opponentCard), vira,
+                List.of(zap), opponentCard);
+
+        final CardEquity equity = sut.equitiesOf(intel).get(0);
+
+        assertAll(
+                () -> assertEquals(zap, equity.card()),
+                () -> assertEquals(1.0, equity.winProbability()),
+                () -> assertEquals(0.0, equity.lossProbability())
+        );
+    }
+
+    @Test
+    @DisplayName("Should lose for sure if last card is weaker than the card played by opponent")
+    void shouldLoseForSureIfLastCardIsWeakerThanTheCardPlayedByOpponent() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final TrucoCard opponentCard = TrucoCard.of(FIVE, CLUBS);
+        final GameIntel intel = intel(List.of(RoundResult.WON, RoundResult.LOST), List.of(vira, opponentCard), vira,
+                List.of(TrucoCard.of(THREE, CLUBS)), opponentCard);
+
+        assertEquals(1.0, sut.equitiesOf(intel).get(0).lossProbability());
+    }
+
+    @Test
+    @DisplayName("Should win for sure holding the three best manilhas")
+    void shouldWinForSureHoldingTheThreeBestManilhas() {
+        final TrucoCard vira = TrucoCard.of(SEVEN, DIAMONDS);
+        final TrucoCard zap = TrucoCard.of(QUEEN, CLUBS);
+        final List<TrucoCard> cards = List.of(TrucoCard.of(QUEEN, SPADES), zap, TrucoCard.of(QUEEN, HEARTS));
+        final GameIntel intel = intel(List.of(), List.of(vira), vira, cards, null);
+
+        final List<CardEquity> equities = sut.equitiesOf(intel);
+
+        assertAll(
+                () -> assertEquals(cards, equities.stream().map(CardEquity::card).toList()),
+                () -> assertEquals(1.0, equities.get(1).winProbability())
+        );
+    }
+
+    @Test
+    @DisplayName("Should probabilities of each card sum to one")
+    void shouldProbabilitiesOfEachCardSumToOne() {
+        final TrucoCard vira = TrucoCard.of(KING, SPADES);
+        final List<TrucoCard> cards = List.of(TrucoCard.of(FOUR, CLUBS), TrucoCard.of(JACK, HEARTS), TrucoCard.of(TWO, DIAMONDS));
+        final List<CardEquity> equities = sut.equitiesOf(intel(List.of(), List.of(vira), vira, cards, null));
+
+        equities.forEach(equity -> assertEquals(1.0,
+                equity.winProbability() + equity.drawProbability() + equity.lossProbability(), 1e-9));
+    }
+
+    @Test
+    @DisplayName("Should keep cards order when state is read from cache")
+    void shouldKeepCardsOrderWhenStateIsReadFromCache() {
+        final TrucoCard vira = TrucoCard.of(KING, SPADES);
+        final TrucoCard four = TrucoCard.of(FOUR, CLUBS);
+        final TrucoCard two = TrucoCard.of(TWO, DIAMONDS);
+        final List<CardEquity> equities = sut.equitiesOf(intel(List.of(), List.of(vira), vira, List.of(four, two), null));
+        final List<CardEquity> reversed = sut.equitiesOf(intel(List.of(), List.of(vira), vira, List.of(two, four), null));
+
+        assertAll(
+                () -> assertEquals(equities.get(0), reversed.get(1)),
+                () -> assertEquals(equities.get(1), reversed.get(0))
+        );
+    }
+
+    @Test
+    @DisplayName("Should sampled equities be close to exhaustive ones")
+    void shouldSampledEquitiesBeCloseToExhaustiveOnes() {
+        final HandEquityCalculator sampling = new HandEquityCalculator(0, 4_000, 0);
+        final TrucoCard vira = TrucoCard.of(ACE, HEARTS);
+        final List<TrucoCard> cards = List.of(TrucoCard.of(SIX, CLUBS), TrucoCard.of(THREE, HEARTS), TrucoCard.of(KING, DIAMONDS));
+        final GameIntel intel = intel(List.of(), List.of(vira), vira, cards, null);
+
+        final List<CardEquity> exact = sut.equitiesOf(intel);
+        final List<CardEquity> sampled = sampling.equitiesOf(intel);
+
+        for (int i = 0; i < cards.size(); i++)
+            assertEquals(exact.get(i).winProbability(), sampled.get(i).winProbability(), 0.05);
+    }
+
+    @Test
+    @DisplayName("Should answer batch queries in order")
+    void shouldAnswerBatchQueriesInOrder() {
+        final TrucoCard vira = TrucoCard.of(KING, SPADES);
+        final GameIntel first = intel(List.of(), List.of(vira), vira, List.of(TrucoCard.of(FOUR, CLUBS)), null);
+        final GameIntel second = intel(List.of(), List.of(vira), vira, List.of(TrucoCard.of(ACE, CLUBS)), null);
+
+        final List<List<CardEquity>> results = sut.equitiesOf(List.of(first, second));
+
+        assertEquals(List.of(sut.equitiesOf(first), sut.equitiesOf(second)), results);
+    }
+
+    @Test
+    @DisplayName("Should return no equities if bot has no cards")
+    void shouldReturnNoEquitiesIfBotHasNoCards() {
+        final TrucoCard vira = TrucoCard.of(KING, SPADES);
+        assertTrue(sut.equitiesOf(intel(List.of(), List.of(vira), vira, List.of(), null)).isEmpty());
+    }
+}
@@ -1,33 +1,51 @@
 package com.bueno.application.withbots.commands;
 
 import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.dtos.ConfidenceIntervalDto;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
 
+import java.util.Map;
+
 public class EvaluateBotsPrinter implements Command<Void> {
     long numberOfGames;
+    long failedGames;
     long computingTime;
     String botName;
     Long botWins;
     double winRate;
     double percentile;
+    ConfidenceIntervalDto winRateInterval;
+    Map<String, ConfidenceIntervalDto> winRateIntervalByOpponent;
 
     public EvaluateBotsPrinter(EvaluateResultsDto resultsDto, String botName) {
         this.numberOfGames = resultsDto.numberOfGames();
+        this.failedGames = resultsDto.failedGames();
         this.computingTime = resultsDto.computingTime();
         this.botName = botName;
         this.botWins = resultsDto.evaluatedBotWins();
         this.winRate = resultsDto.winRate();
         this.percentile = resultsDto.percentile();
+        this.winRateInterval = resultsDto.winRateInterval();
+        this.winRateIntervalByOpponent = resultsDto.winRateIntervalByOpponent();
     }
 
     @Override
     public Void execute() {
         System.out.println("================================================================");
         System.out.println("Time to compute " + numberOfGames + " games: " + computingTime + "ms.\n");
+        if (failedGames > 0) System.out.println("Failed games, left out of the results: " + failedGames);
         System.out.println("Wins of " + botName + ": " + botWins + "/" + numberOfGames);
         System.out.printf("Win rate of all games: %.2f%%\n", winRate);
         System.out.printf("Win rate against each bot: %.2f%%\n", percentile);
+        System.out.printf("%.0f%% confidence interval of decided deals: %s\n", winRateInterval.confidence() * 100, format(winRateInterval));
+        winRateIntervalByOpponent.forEach((opponent, interval) ->
+                System.out.printf("  against %s: %s\n", opponent, format(interval)));
         System.out.println("================================================================");
         return null;
     }
+
+    private String format(ConfidenceIntervalDto interval) {
+        return String.format("%.2f%% [%.2f%%, %.2f%%]",
+                interval.estimate() * 100, interval.lowerBound() * 100, interval.upperBound() * 100);
+    }
 }
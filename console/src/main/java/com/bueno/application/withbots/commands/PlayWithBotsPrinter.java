@@ -1,6 +1,7 @@
 package com.bueno.application.withbots.commands;
 
 import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 
 import java.util.List;
@@ -11,11 +12,13 @@ public class PlayWithBotsPrinter implements Command<Void> {
     int numberOfGames;
     long computingTime;
     List<PlayWithBotsDto> results;
+    long failedGames;
 
-    public PlayWithBotsPrinter(int numberOfGames, long computingTime, List<PlayWithBotsDto> results) {
+    public PlayWithBotsPrinter(int numberOfGames, long computingTime, MatchupResultsDto results) {
         this.numberOfGames = numberOfGames;
         this.computingTime = computingTime;
-        this.results = results;
+        this.results = results.games();
+        this.failedGames = results.failedGames();
     }
 
     @Override
@@ -25,6 +28,7 @@ public class PlayWithBotsPrinter implements Command<Void> {
         results.stream()
                 .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
                 .forEach((bot, wins) -> System.out.println(bot.name() + ": " + wins));
+        if (failedGames > 0) System.out.println("Failed games: " + failedGames);
         System.out.println("================================================================");
         return null;
     }
@@ -0,0 +1,30 @@
+package com.bueno.application.withbots.commands;
+
+import com.bueno.application.utils.Command;
+import com.bueno.domain.usecases.game.dtos.TournamentProgressDto;
+
+import java.time.Duration;
+
+public class TournamentProgressPrinter implements Command<Void> {
+    private final TournamentProgressDto progress;
+
+    public TournamentProgressPrinter(TournamentProgressDto progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public Void execute() {
+        synchronized (System.out) {
+            System.out.printf("\rCompleted games: %d/%d | %.1f games/s | ETA: %s   ",
+                    progress.completedGames(), progress.totalGames(), progress.gamesPerSecond(),
+                    format(progress.estimatedTimeLeft()));
+            if (progress.failedGames() > 0) System.out.printf("| Failed: %d   ", progress.failedGames());
+            if (progress.isDone()) System.out.println();
+        }
+        return null;
+    }
+
+    private String format(Duration duration) {
+        return String.format("%02d:%02d:%02d", duration.toHours(), duration.toMinutesPart(), duration.toSecondsPart());
+    }
+}
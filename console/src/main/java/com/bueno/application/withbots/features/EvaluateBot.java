@@ -3,14 +3,18 @@ package com.bueno.application.withbots.features;
 import com.bueno.application.withbots.commands.BotsAvailablePrinter;
 import com.bueno.application.withbots.commands.BotOptionReader;
 import com.bueno.application.withbots.commands.EvaluateBotsPrinter;
+import com.bueno.application.withbots.commands.TournamentProgressPrinter;
 import com.bueno.application.withbots.commands.WaitingMessagePrinter;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
+import com.bueno.domain.usecases.game.dtos.Dealing;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
 import com.bueno.domain.usecases.game.usecase.EvaluateBotsUseCase;
 
 import java.util.List;
 
 public class EvaluateBot {
+    private static final double CONFIDENCE = 0.95;
+    private static final int MAX_DEALS_PER_OPPONENT = 151;
 
     public void againstAll() {
         final var botNames = BotProviders.availableBots();
@@ -24,7 +28,9 @@ public class EvaluateBot {
     }
 
     private EvaluateResultsDto getEvaluateResultsDto(String botToEvaluateName, List<String> botNames) {
-        EvaluateBotsUseCase useCase = new EvaluateBotsUseCase(botToEvaluateName);
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        EvaluateBotsUseCase useCase = new EvaluateBotsUseCase(botToEvaluateName, CONFIDENCE, MAX_DEALS_PER_OPPONENT, parallelism,
+                Dealing.DUPLICATE, progress -> new TournamentProgressPrinter(progress).execute());
         return useCase.getResults(botNames);
     }
 
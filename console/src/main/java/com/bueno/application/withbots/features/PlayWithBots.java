@@ -23,7 +23,7 @@ package com.bueno.application.withbots.features;
 import com.bueno.application.withbots.commands.*;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.usecase.PlayWithBotsUseCase;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
 
 import java.util.List;
 import java.util.UUID;
@@ -62,7 +62,7 @@ public class PlayWithBots {
         return scanSimulations.execute();
     }
 
-    private List<PlayWithBotsDto> playBotsStarter() {
+    private MatchupResultsDto playBotsStarter() {
         final var useCase = new PlayWithBotsUseCase(uuidBot1, bot1Name, bot2Name);
         return useCase.playWithBots(times);
     }
@@ -77,7 +77,7 @@ public class PlayWithBots {
         return scanOptions.execute();
     }
 
-    private void printResult(int numberOfGames, long computingTime, List<PlayWithBotsDto> results) {
+    private void printResult(int numberOfGames, long computingTime, MatchupResultsDto results) {
         PlayWithBotsPrinter printer = new PlayWithBotsPrinter(numberOfGames, computingTime, results);
         printer.execute();
     }
@@ -1,6 +1,7 @@
 package com.bueno.application.withbots.features;
 
 import com.bueno.application.withbots.commands.BotRankPrinter;
+import com.bueno.application.withbots.commands.TournamentProgressPrinter;
 import com.bueno.application.withbots.commands.WaitingMessagePrinter;
 import com.bueno.domain.usecases.game.usecase.RankBotsUseCase;
 
@@ -11,9 +12,12 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public class RankBots {
+    private static final double CONFIDENCE = 0.95;
+    private static final int MAX_GAMES_PER_MATCHUP = 31;
 
     public void allBots() {
-        RankBotsUseCase useCase = new RankBotsUseCase();
+        final int parallelism = Runtime.getRuntime().availableProcessors();
+        RankBotsUseCase useCase = new RankBotsUseCase(CONFIDENCE, MAX_GAMES_PER_MATCHUP, parallelism, progress -> new TournamentProgressPrinter(progress).execute());
         showWaitingMessage();
         Map<String, Long> rankMap = useCase.rankAll();
         rankMap = sortByValueDescending(rankMap);
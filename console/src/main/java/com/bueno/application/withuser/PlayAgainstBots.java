@@ -23,7 +23,7 @@ package com.bueno.application.withuser;
 import com.bueno.application.withuser.commands.*;
 import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 import com.bueno.domain.usecases.game.dtos.CreateDetachedDto;
-import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
+import com.bueno.domain.usecases.game.repos.ConcurrentGameRepositoryImpl;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
@@ -61,7 +61,7 @@ public class PlayAgainstBots {
     }
 
     public PlayAgainstBots() {
-        final var gameRepo = new GameRepositoryInMemoryImpl();
+        final var gameRepo = new ConcurrentGameRepositoryImpl();
         gameUseCase = new CreateGameUseCase(gameRepo);
         playCardUseCase = new PlayCardUseCase(gameRepo);
         pointsProposalUseCase = new PointsProposalUseCase(gameRepo);
@@ -115,7 +115,7 @@ public class PlayAgainstBots {
     }
 
     private void updateIntel() {
-        var responseModel = handleIntelUseCase.findIntelSince(userUUID, lastIntel.timestamp());
+        var responseModel = handleIntelUseCase.findIntelAfter(userUUID, lastIntel.sequence());
         missingIntel.addAll(responseModel.intelSinceBaseTimestamp());
         if(missingIntel.isEmpty()) missingIntel.add(lastIntel);
         else lastIntel = missingIntel.get(missingIntel.size() - 1);
@@ -25,7 +25,7 @@ import com.bueno.application.utils.TimelineBuilder;
 import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 import com.bueno.domain.usecases.game.dtos.CreateDetachedDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
-import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
+import com.bueno.domain.usecases.game.repos.ConcurrentGameRepositoryImpl;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
@@ -96,7 +96,7 @@ public class GameTableController {
     private AtomicBoolean isAnimating;
 
     public GameTableController() {
-        final var gameRepo = new GameRepositoryInMemoryImpl();
+        final var gameRepo = new ConcurrentGameRepositoryImpl();
         gameUseCase = new CreateGameUseCase(gameRepo);
         playCardUseCase = new PlayCardUseCase(gameRepo);
         pointsProposalUseCase = new PointsProposalUseCase(gameRepo);
@@ -217,7 +217,7 @@ public class GameTableController {
     }
 
     private void updateIntel() {
-        final var responseModel = handleIntelUseCase.findIntelSince(userUUID, lastIntel.timestamp());
+        final var responseModel = handleIntelUseCase.findIntelAfter(userUUID, lastIntel.sequence());
         missingIntel.addAll(responseModel.intelSinceBaseTimestamp());
         if (missingIntel.isEmpty()) missingIntel.add(lastIntel);
         else lastIntel = missingIntel.get(missingIntel.size() - 1);
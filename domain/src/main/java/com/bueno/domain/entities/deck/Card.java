@@ -20,17 +20,35 @@
 
 package com.bueno.domain.entities.deck;
 
+import java.util.Comparator;
 import java.util.Objects;
 
 public final class Card {
 
-    private static final Card[] cache = new Card[41];
+    private static final int NUMBER_OF_IDS = 41;
+    private static final int INVALID_VALUE = -1;
+    private static final Card[] cache = new Card[NUMBER_OF_IDS];
+    private static final int[][] relativeValues = new int[NUMBER_OF_IDS][NUMBER_OF_IDS];
+
+    // Every card and the value of every card for every vira are computed once, so comparing cards is a table lookup.
+    static {
+        cache[0] = new Card(Rank.HIDDEN, Suit.HIDDEN);
+        for(Rank rank : Rank.values())
+            for(Suit suit : Suit.values())
+                if(rank != Rank.HIDDEN && suit != Suit.HIDDEN) cache[idOf(rank, suit)] = new Card(rank, suit);
+        for(Card vira : cache)
+            for(Card card : cache)
+                relativeValues[vira.id][card.id] = card.computeCardValue(vira);
+    }
+
     private final Suit suit;
     private final Rank rank;
+    private final int id;
 
     private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit  = suit;
+        this.id = idOf(rank, suit);
     }
 
     public static Card of(Rank rank, Suit suit){
@@ -39,24 +57,37 @@ public final class Card {
         if(rank == Rank.HIDDEN ^ suit == Suit.HIDDEN)
             throw new IllegalArgumentException("Both rank and suit must be HIDDEN or none: " + rank + suit);
 
-        return fromCache(rank, suit);
+        return cache[idOf(rank, suit)];
     }
 
     public static Card closed(){
-        return fromCache(Rank.HIDDEN, Suit.HIDDEN);
+        return cache[0];
     }
 
-    private static Card fromCache(Rank rank, Suit suit){
+    public static Card ofId(int id){
+        if(id < 0 || id >= NUMBER_OF_IDS) throw new IllegalArgumentException("Invalid card id: " + id);
+        return cache[id];
+    }
+
+    private static int idOf(Rank rank, Suit suit){
         int rankValue = rank.value();
         int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    }
 
-        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
-        return cache[cachePosition];
+    public static Comparator<Card> valueComparator(Card vira){
+        final int viraId = Objects.requireNonNull(vira).id;
+        return (card, otherCard) -> Integer.compare(card.relativeValue(viraId), otherCard.relativeValue(viraId));
     }
 
     public int compareValueTo(Card otherCard, Card vira){
-        return this.computeCardValue(vira) - otherCard.computeCardValue(vira);
+        return this.relativeValue(vira.id) - otherCard.relativeValue(vira.id);
+    }
+
+    public int relativeValue(int viraId){
+        final int value = relativeValues[viraId][id];
+        if(value == INVALID_VALUE) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
     }
 
     private int computeCardValue(Card vira) {
@@ -66,7 +97,7 @@ public final class Card {
                 case SPADES -> 11;
                 case HEARTS -> 12;
                 case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
+                case HIDDEN -> INVALID_VALUE;
             };
         if(rank.value() > vira.rank.value()) return rank.value() - 1;
         return rank.value();
@@ -79,6 +110,10 @@ public final class Card {
         return rank.equals(Rank.HIDDEN) && suit.equals(Suit.HIDDEN);
     }
 
+    public int getId() {
+        return id;
+    }
+
     public Rank getRank() {
         return rank;
     }
@@ -20,39 +20,67 @@
 
 package com.bueno.domain.entities.deck;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+// The cards live in a fixed array split by the top index: cards before it were dealt, cards from it on are still in
+// the deck. Shuffling only gathers the dealt cards back; each card is then drawn by one step of Fisher-Yates over the
+// remaining ones, so a hand costs seven random numbers instead of a shuffle of the whole deck.
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    private static final int SIZE = 40;
+
+    private final Card[] cards = new Card[SIZE];
+    private final RandomGenerator random;
+    private int top;
+    private boolean shuffled;
 
     public Deck() {
+        this(new SplittableRandom());
+    }
+
+    // A deck built with a seeded generator deals the same sequence of hands, which allows a game to be replayed. The
+    // generator is used by this deck only, so threads dealing their own games do not contend for it.
+    public Deck(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator must not be null!");
         generateSortedDeck();
     }
 
     private void generateSortedDeck() {
+        int index = 0;
         for(Rank rank : Rank.values())
             for(Suit suit : Suit.values())
                 if(rank != Rank.HIDDEN && suit != Suit.HIDDEN)
-                    cards.add(Card.of(rank, suit));
+                    cards[index++] = Card.of(rank, suit);
     }
 
     public List<Card> take(int numberOfCards) {
-        final List<Card> cardsTaken = new ArrayList<>(cards.subList(0, numberOfCards));
-        cards.removeAll(cardsTaken);
-        return cardsTaken;
+        if(numberOfCards > size()) throw new IndexOutOfBoundsException("Deck has only " + size() + " cards left.");
+        final Card[] cardsTaken = new Card[numberOfCards];
+        for(int i = 0; i < numberOfCards; i++) cardsTaken[i] = takeOne();
+        return Arrays.asList(cardsTaken);
     }
 
     public Card takeOne() {
-        return cards.remove(0);
+        if(top == SIZE) throw new IndexOutOfBoundsException("Deck has no cards left.");
+        if(shuffled) swap(top, top + random.nextInt(SIZE - top));
+        return cards[top++];
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        top = 0;
+        shuffled = true;
     }
 
     public int size() {
-        return cards.size();
+        return SIZE - top;
+    }
+
+    private void swap(int i, int j) {
+        final Card card = cards[i];
+        cards[i] = cards[j];
+        cards[j] = card;
     }
 }
@@ -28,6 +28,8 @@ public enum Rank {
     JACK(6, 'J'), KING(7, 'K'), ACE(8, 'A'),
     TWO(9, '2'), THREE(10, '3');
 
+    private static final Rank[] VALUES = values();
+
     private final int value;
     private final char symbol;
 
@@ -44,7 +46,7 @@ public enum Rank {
         return switch (value){
             case 0 -> HIDDEN;
             case 10 -> FOUR;
-            default -> values()[value + 1];
+            default -> VALUES[value + 1];
         };
     }
 
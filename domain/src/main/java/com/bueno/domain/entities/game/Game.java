@@ -24,14 +24,14 @@ import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.hand.HistoryRetention;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.random.RandomGenerator;
 
 public class Game {
 
@@ -41,6 +41,8 @@ public class Game {
     private final Player player1;
     private final Player player2;
     private final List<Hand> hands;
+    private final HistoryRetention retention;
+    private int handsPlayed;
 
     private Player firstToPlay;
     private Player lastToPlay;
@@ -53,7 +55,21 @@ public class Game {
         this(player1, player2, UUID.randomUUID(), deck);
     }
 
+    public Game(Player player1, Player player2, RandomGenerator random) {
+        this(player1, player2, UUID.randomUUID(), new Deck(random));
+    }
+
+    // Games that are not FULL keep only the hand being played, so finished hands can be collected.
+    public Game(Player player1, Player player2, RandomGenerator random, HistoryRetention retention) {
+        this(player1, player2, UUID.randomUUID(), new Deck(random), retention);
+    }
+
     public Game(Player player1, Player player2, UUID uuid, Deck deck) {
+        this(player1, player2, uuid, deck, HistoryRetention.FULL);
+    }
+
+    public Game(Player player1, Player player2, UUID uuid, Deck deck, HistoryRetention retention) {
+        this.retention = Objects.requireNonNull(retention);
         this.deck = deck;
         this.player1 = Objects.requireNonNull(player1);
         this.player2 = Objects.requireNonNull(player2);
@@ -72,6 +88,8 @@ public class Game {
         this.firstToPlay = firstToPlay;
         this.lastToPlay = lastToPlay;
         this.hands = new ArrayList<>(hands);
+        this.handsPlayed = hands.size();
+        this.retention = HistoryRetention.FULL;
     }
 
     public void prepareNewHand() {
@@ -84,8 +102,11 @@ public class Game {
         firstToPlay.setCards(deck.take(3));
         lastToPlay.setCards(deck.take(3));
 
-        final Hand hand = new Hand(firstToPlay, lastToPlay, vira);
+        final long firstSequence = hands.isEmpty() ? 0 : currentHand().getLastSequence() + 1;
+        final Hand hand = new Hand(firstToPlay, lastToPlay, vira, retention, firstSequence);
+        if (retention != HistoryRetention.FULL) hands.clear();
         hands.add(hand);
+        handsPlayed++;
     }
 
     private void defineHandPlayingOrder() {
@@ -113,12 +134,38 @@ public class Game {
     }
 
     public List<Intel> getIntelSince(Instant lastIntelTimestamp) {
-        final List<Intel> wholeHistory = hands.stream()
-                .flatMap(hand -> hand.getIntelHistory().stream()).collect(Collectors.toList());
-        if (isDone()) wholeHistory.add(Intel.ofGame(this));
-        if (lastIntelTimestamp == null) return wholeHistory;
-        final Predicate<Intel> isAfter = intel -> intel.timestamp().isAfter(lastIntelTimestamp);
-        return wholeHistory.stream().filter(isAfter).collect(Collectors.toList());
+        if (lastIntelTimestamp == null) return getIntelAfter(-1);
+        for (int index = hands.size() - 1; index >= 0; index--) {
+            final long lastSequence = hands.get(index).getLastSequenceUntil(lastIntelTimestamp);
+            if (lastSequence >= 0) return getIntelAfter(lastSequence);
+        }
+        return getIntelAfter(-1);
+    }
+
+    // Intel with a sequence number greater than the given one. Hands are ordered by sequence, so the first hand with
+    // new events is found by binary search and only the new events are materialised.
+    public List<Intel> getIntelAfter(long sequence) {
+        final List<Intel> intelAfter = new ArrayList<>();
+        for (int index = firstHandAfter(sequence); index < hands.size(); index++)
+            intelAfter.addAll(hands.get(index).getIntelAfter(sequence));
+        if (isDone() && getLastSequence() > sequence) intelAfter.add(Intel.ofGame(this));
+        return intelAfter;
+    }
+
+    private int firstHandAfter(long sequence) {
+        int low = 0;
+        int high = hands.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (hands.get(middle).getLastSequence() > sequence) high = middle;
+            else low = middle + 1;
+        }
+        return low;
+    }
+
+    public long getLastSequence() {
+        final long lastHandSequence = currentHand().getLastSequence();
+        return isDone() ? lastHandSequence + 1 : lastHandSequence;
     }
 
     public UUID getUuid() {
@@ -150,7 +197,11 @@ public class Game {
     }
 
     public int handsPlayed() {
-        return hands.size();
+        return handsPlayed;
+    }
+
+    public HistoryRetention getRetention() {
+        return retention;
     }
 
     public Hand currentHand() {
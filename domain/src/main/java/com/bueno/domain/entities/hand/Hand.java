@@ -28,6 +28,7 @@ import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 
+import java.time.Instant;
 import java.util.*;
 
 public class Hand {
@@ -36,7 +37,8 @@ public class Hand {
     private final List<Card> dealtCards;
     private final List<Card> openCards;
     private final List<Round> roundsPlayed;
-    private final List<Intel> history;
+    private final HandHistory history;
+    private Intel lastIntel;
     private EnumSet<PossibleAction> possibleActions;
 
     private Player firstToPlay;
@@ -54,7 +56,7 @@ public class Hand {
 
     //This method must only be used to recovery the object state from database. Do not use for creating a new hand.
     //To create a hand, use the Game class, since it is its bounded context border.
-    public Hand(Card vira, List<Card> dealtCards, List<Card> openCards, List<Round> roundsPlayed, List<Intel> history,
+    public Hand(Card vira, List<Card> dealtCards, List<Card> openCards, List<Round> roundsPlayed, HandHistory history,
                 EnumSet<PossibleAction> possibleActions, Player firstToPlay, Player lastToPlay, Player currentPlayer,
                 Player lastBetRaiser, Player eventPlayer, Card cardToPlayAgainst, HandPoints points,
                 HandPoints pointsProposal, HandResult result, String stateName){
@@ -62,7 +64,7 @@ public class Hand {
         this.dealtCards = new ArrayList<>(dealtCards);
         this.openCards = new ArrayList<>(openCards);
         this.roundsPlayed = new ArrayList<>(roundsPlayed);
-        this.history = new ArrayList<>(history);
+        this.history = Objects.requireNonNull(history);
         this.possibleActions = EnumSet.copyOf(possibleActions);
         this.firstToPlay = firstToPlay;
         this.lastToPlay = lastToPlay;
@@ -88,6 +90,10 @@ public class Hand {
     }
 
     public Hand(Player firstToPlay, Player lastToPlay, Card vira){
+        this(firstToPlay, lastToPlay, vira, HistoryRetention.FULL, 0);
+    }
+
+    public Hand(Player firstToPlay, Player lastToPlay, Card vira, HistoryRetention retention, long firstSequence){
         this.firstToPlay = Objects.requireNonNull(firstToPlay);
         this.lastToPlay = Objects.requireNonNull(lastToPlay);
         this.vira = Objects.requireNonNull(vira);
@@ -100,7 +106,7 @@ public class Hand {
         points = HandPoints.ONE;
         roundsPlayed = new ArrayList<>();
         openCards = new ArrayList<>();
-        history = new ArrayList<>();
+        history = new HandHistory(firstToPlay, firstToPlay.getCards(), lastToPlay, lastToPlay.getCards(), retention, firstSequence);
 
         addOpenCard(vira);
 
@@ -165,7 +171,8 @@ public class Hand {
     }
 
     public void updateHistory(Event event) {
-        history.add(Intel.ofHand(this, event));
+        history.record(this, event);
+        lastIntel = null;
     }
 
     public void playRound(Card lastCard){
@@ -254,7 +261,8 @@ public class Hand {
     }
 
     public Intel getLastIntel(){
-        return history.get(history.size() - 1);
+        if (lastIntel == null) lastIntel = history.lastIntel(this);
+        return lastIntel;
     }
 
     public Player getOpponentOf(Player player){
@@ -306,7 +314,23 @@ public class Hand {
     }
 
     public List<Intel> getIntelHistory(){
-        return List.copyOf(history);
+        return history.toIntelList(this);
+    }
+
+    public List<Intel> getIntelAfter(long sequence){
+        return history.toIntelListAfter(this, sequence);
+    }
+
+    public long getLastSequenceUntil(Instant instant){
+        return history.lastSequenceUntil(instant);
+    }
+
+    public long getLastSequence(){
+        return history.nextSequence() - 1;
+    }
+
+    public HandHistory getHistory() {
+        return history;
     }
 
     public Player getLastBetRaiser() {
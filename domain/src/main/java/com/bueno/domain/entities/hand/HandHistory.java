@@ -0,0 +1,394 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.Intel.PlayerIntel;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+
+import java.time.Instant;
+import java.util.*;
+
+// Compact event log of a hand. Instead of keeping a full Intel per event, each event is stored as three longs: a packed
+// word with the hand state that can not be recovered later (players, actions, points, scores and how many rounds and
+// open cards existed), a bit mask of the card ids still held by the players and the event timestamp. Open cards and
+// rounds only grow during a hand, so an Intel is materialised from the packed word and the current hand only when
+// someone asks for it. Games that never read their history, like simulations, choose a lighter HistoryRetention.
+// Every event also has a game wide sequence number: the hand starts at firstSequence and each recorded event takes the
+// next one, whether or not the retention keeps it. Retained events are always the last ones, so the sequence of a log
+// entry is a direct offset from the number of recorded events. The packed word depends on the enum and card ordinals,
+// so it never leaves the process: entryAt spells an event out to be stored and the recovery constructor packs it again.
+public class HandHistory {
+
+    private static final int WORDS_PER_EVENT = 3;
+
+    private static final int NO_SEAT = 3;
+    private static final int NO_CARD = 63;
+    private static final Event[] EVENTS = Event.values();
+    private static final PossibleAction[] ACTIONS = PossibleAction.values();
+
+    private static final int EVENT_SHIFT = 0;
+    private static final int EVENT_PLAYER_SHIFT = 3;
+    private static final int CURRENT_PLAYER_SHIFT = 5;
+    private static final int SWAPPED_SHIFT = 7;
+    private static final int ACTIONS_SHIFT = 8;
+    private static final int POINTS_SHIFT = 12;
+    private static final int PROPOSAL_SHIFT = 16;
+    private static final int ROUNDS_SHIFT = 20;
+    private static final int OPEN_CARDS_SHIFT = 22;
+    private static final int CARD_TO_PLAY_AGAINST_SHIFT = 26;
+    private static final int HAND_WINNER_SHIFT = 32;
+    private static final int FIRST_SEAT_SCORE_SHIFT = 34;
+    private static final int LAST_SEAT_SCORE_SHIFT = 38;
+    private static final int MAO_DE_ONZE_SHIFT = 42;
+
+    private final Player firstSeat;
+    private final Player lastSeat;
+    private final List<Card> firstSeatCards;
+    private final List<Card> lastSeatCards;
+    private final HistoryRetention retention;
+    private final long firstSequence;
+    private long[] log;
+    private int size;
+    private long recorded;
+
+    public HandHistory(Player firstSeat, List<Card> firstSeatCards, Player lastSeat, List<Card> lastSeatCards) {
+        this(firstSeat, firstSeatCards, lastSeat, lastSeatCards, HistoryRetention.FULL, 0);
+    }
+
+    public HandHistory(Player firstSeat, List<Card> firstSeatCards, Player lastSeat, List<Card> lastSeatCards,
+                       HistoryRetention retention, long firstSequence) {
+        if (firstSequence < 0) throw new IllegalArgumentException("First sequence must not be negative: " + firstSequence);
+        this.firstSequence = firstSequence;
+        this.firstSeat = Objects.requireNonNull(firstSeat);
+        this.lastSeat = Objects.requireNonNull(lastSeat);
+        this.retention = Objects.requireNonNull(retention);
+        this.firstSeatCards = List.copyOf(firstSeatCards);
+        this.lastSeatCards = List.copyOf(lastSeatCards);
+        this.log = new long[retention == HistoryRetention.FULL ? 8 * WORDS_PER_EVENT : WORDS_PER_EVENT];
+    }
+
+    //This constructor must only be used to recovery the history from database.
+    public HandHistory(Player firstSeat, List<Card> firstSeatCards, Player lastSeat, List<Card> lastSeatCards,
+                       long firstSequence, List<Entry> entries) {
+        if (firstSequence < 0) throw new IllegalArgumentException("First sequence must not be negative: " + firstSequence);
+        this.firstSequence = firstSequence;
+        this.firstSeat = Objects.requireNonNull(firstSeat);
+        this.lastSeat = Objects.requireNonNull(lastSeat);
+        this.firstSeatCards = List.copyOf(firstSeatCards);
+        this.lastSeatCards = List.copyOf(lastSeatCards);
+        this.retention = HistoryRetention.FULL;
+        this.log = new long[Math.max(entries.size(), 8) * WORDS_PER_EVENT];
+        for (Entry entry : entries) {
+            final int offset = size * WORDS_PER_EVENT;
+            log[offset] = pack(entry);
+            log[offset + 1] = heldCardsMask(entry.heldCards());
+            log[offset + 2] = toEpochNanos(entry.timestamp());
+            size++;
+        }
+        this.recorded = size;
+    }
+
+    void record(Hand hand, Event event) {
+        recorded++;
+        switch (retention) {
+            case FULL -> {
+                if ((size + 1) * WORDS_PER_EVENT > log.length) log = Arrays.copyOf(log, log.length * 2);
+                write(hand, event, size * WORDS_PER_EVENT);
+                size++;
+            }
+            case LAST_ONLY -> {
+                write(hand, event, 0);
+                size = 1;
+            }
+            // Still written, so that the last intel is the state at the event and not the live state, but not retained.
+            case NONE -> write(hand, event, 0);
+        }
+    }
+
+    private void write(Hand hand, Event event, int offset) {
+        log[offset] = pack(hand, event);
+        log[offset + 1] = heldCardsMask();
+        log[offset + 2] = toEpochNanos(Instant.now());
+    }
+
+    private long pack(Hand hand, Event event) {
+        final HandPoints proposal = hand.getPointsProposal();
+        return pack(event, hand.getEventPlayer(), hand.getCurrentPlayer(), hand.getFirstToPlay(), hand.getPossibleActions(),
+                hand.getPoints().get(), proposal == null ? 0 : proposal.get(), hand.numberOfRoundsPlayed(),
+                hand.getOpenCards().size(), hand.getCardToPlayAgainst().orElse(null),
+                hand.getResult().flatMap(HandResult::getWinner).orElse(null),
+                firstSeat.getScore(), lastSeat.getScore(), hand.isMaoDeOnze());
+    }
+
+    private long pack(Entry entry) {
+        return pack(entry.event(), entry.eventPlayer(), entry.currentPlayer(), entry.firstToPlay(), entry.possibleActions(),
+                entry.points(), entry.pointsProposal(), entry.roundsPlayed(), entry.openCards(), entry.cardToPlayAgainst(),
+                entry.handWinner(), entry.firstSeatScore(), entry.lastSeatScore(), entry.maoDeOnze());
+    }
+
+    private long pack(Event event, Player eventPlayer, Player currentPlayer, Player firstToPlay,
+                      Set<PossibleAction> possibleActions, int points, int pointsProposal, int roundsPlayed, int openCards,
+                      Card cardToPlayAgainst, Player handWinner, int firstSeatScore, int lastSeatScore, boolean maoDeOnze) {
+        long actions = 0L;
+        for (PossibleAction action : possibleActions) actions |= 1L << action.ordinal();
+
+        return (long) event.ordinal() << EVENT_SHIFT
+                | seatOf(eventPlayer) << EVENT_PLAYER_SHIFT
+                | seatOf(currentPlayer) << CURRENT_PLAYER_SHIFT
+                | (lastSeat.equals(firstToPlay) ? 1L : 0L) << SWAPPED_SHIFT
+                | actions << ACTIONS_SHIFT
+                | (long) points << POINTS_SHIFT
+                | (long) pointsProposal << PROPOSAL_SHIFT
+                | (long) roundsPlayed << ROUNDS_SHIFT
+                | (long) openCards << OPEN_CARDS_SHIFT
+                | (long) (cardToPlayAgainst == null ? NO_CARD : cardToPlayAgainst.getId()) << CARD_TO_PLAY_AGAINST_SHIFT
+                | seatOf(handWinner) << HAND_WINNER_SHIFT
+                | (long) firstSeatScore << FIRST_SEAT_SCORE_SHIFT
+                | (long) lastSeatScore << LAST_SEAT_SCORE_SHIFT
+                | (maoDeOnze ? 1L : 0L) << MAO_DE_ONZE_SHIFT;
+    }
+
+    private long seatOf(Player player) {
+        if (player == null) return NO_SEAT;
+        return player.equals(firstSeat) ? 0 : 1;
+    }
+
+    private long heldCardsMask() {
+        return heldCardsMask(firstSeat.getCards()) | heldCardsMask(lastSeat.getCards());
+    }
+
+    private static long heldCardsMask(Collection<Card> cards) {
+        long mask = 0L;
+        for (Card card : cards) mask |= 1L << card.getId();
+        return mask;
+    }
+
+    Intel lastIntel(Hand hand) {
+        if (retention == HistoryRetention.NONE)
+            return intelAtOffset(0, nextSequence() - 1, hand.getRoundsPlayed(), hand.getOpenCards(), hand.getVira());
+        return intelAt(hand, size - 1);
+    }
+
+    Intel intelAt(Hand hand, int index) {
+        return intelAt(index, hand.getRoundsPlayed(), hand.getOpenCards(), hand.getVira());
+    }
+
+    List<Intel> toIntelList(Hand hand) {
+        return toIntelList(hand, 0);
+    }
+
+    // Retained intel with a sequence number greater than the given one, found by direct offset into the log.
+    List<Intel> toIntelListAfter(Hand hand, long sequence) {
+        final long fromIndex = sequence + 1 - sequenceAt(0);
+        return toIntelList(hand, (int) Math.min(size, Math.max(0, fromIndex)));
+    }
+
+    private List<Intel> toIntelList(Hand hand, int fromIndex) {
+        final List<Round> rounds = hand.getRoundsPlayed();
+        final List<Intel> intelList = new ArrayList<>(size - fromIndex);
+        for (int index = fromIndex; index < size; index++)
+            intelList.add(intelAt(index, rounds, hand.getOpenCards(), hand.getVira()));
+        return intelList;
+    }
+
+    // Sequence of the last retained event whose timestamp is not after the given instant, scanning back from the most
+    // recent event, or -1 if every retained event is after it.
+    long lastSequenceUntil(Instant instant) {
+        final long epochNanos = toEpochNanos(instant);
+        for (int index = size - 1; index >= 0; index--)
+            if (log[index * WORDS_PER_EVENT + 2] <= epochNanos) return sequenceAt(index);
+        return -1;
+    }
+
+    private long sequenceAt(int index) {
+        return firstSequence + recorded - size + index;
+    }
+
+    private Intel intelAt(int index, List<Round> rounds, List<Card> openCards, Card vira) {
+        Objects.checkIndex(index, size);
+        return intelAtOffset(index * WORDS_PER_EVENT, sequenceAt(index), rounds, openCards, vira);
+    }
+
+    private Intel intelAtOffset(int offset, long sequence, List<Round> rounds, List<Card> openCards, Card vira) {
+        final long word = log[offset];
+        final long heldCards = log[offset + 1];
+        final Instant timestamp = toInstant(log[offset + 2]);
+
+        final int firstSeatScore = field(word, FIRST_SEAT_SCORE_SHIFT, 4);
+        final int lastSeatScore = field(word, LAST_SEAT_SCORE_SHIFT, 4);
+        final PlayerIntel firstSeatIntel = playerIntel(firstSeat, firstSeatScore, firstSeatCards, heldCards);
+        final PlayerIntel lastSeatIntel = playerIntel(lastSeat, lastSeatScore, lastSeatCards, heldCards);
+        final boolean swapped = field(word, SWAPPED_SHIFT, 1) == 1;
+
+        final int currentSeat = field(word, CURRENT_PLAYER_SHIFT, 2);
+        final Player currentPlayer = playerAt(currentSeat);
+        final Player currentOpponent = currentPlayer == null ? null : playerAt(1 - currentSeat);
+        final Player eventPlayer = playerAt(field(word, EVENT_PLAYER_SHIFT, 2));
+        final Player handWinner = playerAt(field(word, HAND_WINNER_SHIFT, 2));
+
+        final List<Round> playedRounds = rounds.subList(0, field(word, ROUNDS_SHIFT, 2));
+        final List<Optional<String>> roundWinnersUsernames = playedRounds.stream()
+                .map(round -> round.getWinner().map(Player::getUsername)).toList();
+        final List<Optional<UUID>> roundWinnersUuid = playedRounds.stream()
+                .map(round -> round.getWinner().map(Player::getUuid)).toList();
+
+        final int proposal = field(word, PROPOSAL_SHIFT, 4);
+        final int cardToPlayAgainst = field(word, CARD_TO_PLAY_AGAINST_SHIFT, 6);
+        final int actions = field(word, ACTIONS_SHIFT, 4);
+        final Set<String> possibleActions = new HashSet<>();
+        for (PossibleAction action : ACTIONS) if ((actions & 1 << action.ordinal()) != 0) possibleActions.add(action.toString());
+
+        return new Intel(sequence, timestamp, false, null,
+                field(word, MAO_DE_ONZE_SHIFT, 1) == 1,
+                field(word, POINTS_SHIFT, 4),
+                proposal == 0 ? null : proposal,
+                roundWinnersUsernames, roundWinnersUuid, playedRounds.size(),
+                vira,
+                openCards.subList(0, field(word, OPEN_CARDS_SHIFT, 4)),
+                handWinner == null ? null : handWinner.getUsername(),
+                currentPlayer == null ? null : currentPlayer.getUuid(),
+                currentPlayer == null ? 0 : scoreOf(currentSeat, firstSeatScore, lastSeatScore),
+                currentPlayer == null ? null : currentPlayer.getUsername(),
+                currentPlayer == null ? 0 : scoreOf(1 - currentSeat, firstSeatScore, lastSeatScore),
+                currentOpponent == null ? null : currentOpponent.getUsername(),
+                cardToPlayAgainst == NO_CARD ? null : Card.ofId(cardToPlayAgainst),
+                swapped ? List.of(lastSeatIntel, firstSeatIntel) : List.of(firstSeatIntel, lastSeatIntel),
+                EVENTS[field(word, EVENT_SHIFT, 3)].toString(),
+                eventPlayer == null ? null : eventPlayer.getUuid(),
+                eventPlayer == null ? null : eventPlayer.getUsername(),
+                possibleActions);
+    }
+
+    private PlayerIntel playerIntel(Player player, int score, List<Card> dealtCards, long heldCards) {
+        final List<Card> cards = dealtCards.stream().filter(card -> (heldCards & 1L << card.getId()) != 0).toList();
+        return new PlayerIntel(player.getUsername(), player.getUuid(), score, player.isBot(), cards);
+    }
+
+    private Player playerAt(int seat) {
+        return switch (seat) {
+            case 0 -> firstSeat;
+            case 1 -> lastSeat;
+            default -> null;
+        };
+    }
+
+    private static int scoreOf(int seat, int firstSeatScore, int lastSeatScore) {
+        return seat == 0 ? firstSeatScore : lastSeatScore;
+    }
+
+    private static int field(long word, int shift, int bits) {
+        return (int) (word >>> shift & (1L << bits) - 1);
+    }
+
+    public static long toEpochNanos(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+    }
+
+    private static Instant toInstant(long epochNanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+    }
+
+    public Instant timestampAt(int index) {
+        Objects.checkIndex(index, size);
+        return toInstant(log[index * WORDS_PER_EVENT + 2]);
+    }
+
+    // The event at the given index with every field spelled out, so that it can be stored without the enum and card
+    // ordinals the packed word depends on.
+    public Entry entryAt(int index) {
+        Objects.checkIndex(index, size);
+        final long word = log[index * WORDS_PER_EVENT];
+        final long heldCards = log[index * WORDS_PER_EVENT + 1];
+        final int cardToPlayAgainst = field(word, CARD_TO_PLAY_AGAINST_SHIFT, 6);
+        final int actions = field(word, ACTIONS_SHIFT, 4);
+        final Set<PossibleAction> possibleActions = EnumSet.noneOf(PossibleAction.class);
+        for (PossibleAction action : ACTIONS) if ((actions & 1 << action.ordinal()) != 0) possibleActions.add(action);
+
+        final List<Card> cards = new ArrayList<>();
+        for (Card card : firstSeatCards) if ((heldCards & 1L << card.getId()) != 0) cards.add(card);
+        for (Card card : lastSeatCards) if ((heldCards & 1L << card.getId()) != 0) cards.add(card);
+
+        return new Entry(EVENTS[field(word, EVENT_SHIFT, 3)],
+                playerAt(field(word, EVENT_PLAYER_SHIFT, 2)),
+                playerAt(field(word, CURRENT_PLAYER_SHIFT, 2)),
+                field(word, SWAPPED_SHIFT, 1) == 1 ? lastSeat : firstSeat,
+                possibleActions,
+                field(word, POINTS_SHIFT, 4),
+                field(word, PROPOSAL_SHIFT, 4),
+                field(word, ROUNDS_SHIFT, 2),
+                field(word, OPEN_CARDS_SHIFT, 4),
+                cardToPlayAgainst == NO_CARD ? null : Card.ofId(cardToPlayAgainst),
+                playerAt(field(word, HAND_WINNER_SHIFT, 2)),
+                field(word, FIRST_SEAT_SCORE_SHIFT, 4),
+                field(word, LAST_SEAT_SCORE_SHIFT, 4),
+                field(word, MAO_DE_ONZE_SHIFT, 1) == 1,
+                List.copyOf(cards),
+                toInstant(log[index * WORDS_PER_EVENT + 2]));
+    }
+
+    // Sequence number of the oldest retained event.
+    public long retainedFromSequence() {
+        return nextSequence() - size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getFirstSequence() {
+        return firstSequence;
+    }
+
+    // Sequence number the next recorded event will take.
+    public long nextSequence() {
+        return firstSequence + recorded;
+    }
+
+    public HistoryRetention getRetention() {
+        return retention;
+    }
+
+    public Player getFirstSeat() {
+        return firstSeat;
+    }
+
+    public Player getLastSeat() {
+        return lastSeat;
+    }
+
+    public List<Card> getFirstSeatCards() {
+        return firstSeatCards;
+    }
+
+    public List<Card> getLastSeatCards() {
+        return lastSeatCards;
+    }
+
+    public record Entry(Event event, Player eventPlayer, Player currentPlayer, Player firstToPlay,
+                        Set<PossibleAction> possibleActions, int points, int pointsProposal, int roundsPlayed,
+                        int openCards, Card cardToPlayAgainst, Player handWinner, int firstSeatScore, int lastSeatScore,
+                        boolean maoDeOnze, List<Card> heldCards, Instant timestamp) {
+    }
+}
@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 
 public class Intel{
 
+    private final long sequence;
     private final Instant timestamp;
 
     private boolean gameIsDone;
@@ -59,14 +60,16 @@ public class Intel{
     private String event;
     private Set<String> possibleActions;
 
-    private Intel() {
+    private Intel(long sequence) {
+        this.sequence = sequence;
         timestamp = Instant.now();
     }
 
-    public Intel(Instant timestamp, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
+    public Intel(long sequence, Instant timestamp, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
                  List<Optional<UUID>> roundWinnersUuid, int roundsPlayed, Card vira, List<Card> openCards, String handWinner, UUID currentPlayerUuid, Integer currentPlayerScore,
                  String currentPlayerUsername, Integer currentOpponentScore, String currentOpponentUsername, Card cardToPlayAgainst,
                  List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, Set<String> possibleActions){
+        this.sequence = sequence;
         this.timestamp = timestamp;
         this.gameIsDone = gameIsDone;
         this.gameWinner = gameWinner;
@@ -94,16 +97,22 @@ public class Intel{
 
     static public Intel ofHand(Hand currentHand, Event event){
         final Hand hand = Objects.requireNonNull(currentHand);
-        final Intel result = new Intel();
+        return ofHand(hand, event, hand.getLastSequence());
+    }
+
+    private static Intel ofHand(Hand hand, Event event, long sequence){
+        final Intel result = new Intel(sequence);
         result.event = event.toString();
         result.setHandIntel(hand);
         result.setPlayersIntel(hand);
         return result;
     }
 
+    // The game over intel comes right after the last event of the last hand.
     static public Intel ofGame(Game currentGame){
         final Game game = Objects.requireNonNull(currentGame);
-        final Intel result = ofHand(game.currentHand(), Event.GAME_OVER);
+        final Hand hand = game.currentHand();
+        final Intel result = ofHand(hand, Event.GAME_OVER, hand.getLastSequence() + 1);
         result.setGameIntel(game);
         return result;
     }
@@ -209,6 +218,10 @@ public class Intel{
                 .toList();
     }
 
+    public long sequence() {
+        return sequence;
+    }
+
     public Instant timestamp() {
         return timestamp;
     }
@@ -307,19 +320,19 @@ public class Intel{
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Intel intel = (Intel) o;
-        return timestamp.equals(intel.timestamp);
+        return sequence == intel.sequence;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(timestamp);
+        return Long.hashCode(sequence);
     }
 
     @Override
     public String toString() {
         final String userInMaoDeOnze = currentPlayerScore < currentOpponentScore ? currentOpponentUsername : currentPlayerUsername;
 
-        return "[" + timestamp +
+        return "[" + sequence + " @ " + timestamp +
                 "] Event = " + (event == null ? "--" : event) +
                 " | Event player = " + eventPlayerUsername +
                 " | Next player = " + currentPlayerUsername +
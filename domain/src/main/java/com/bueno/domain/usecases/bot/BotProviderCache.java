@@ -0,0 +1,77 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Keeps the provider a bot got when it first played in a game, so the registry creates bots that are not stateless
+// once per game instead of once per move, and they keep their state between moves. Providers are released when the
+// game ends; games that are abandoned are dropped when the cache is full, least recently played first.
+//
+// There is one cache for the whole process, like the bot registry behind it: every use case builds its own BotUseCase,
+// and a bot must get the same provider whichever of them plays its next move.
+final class BotProviderCache {
+
+    static final int DEFAULT_CAPACITY = 10_000;
+    private static final BotProviderCache SHARED = new BotProviderCache(BotServiceManager::load, DEFAULT_CAPACITY);
+
+    private final Function<String, BotServiceProvider> lookup;
+    private final Map<Seat, BotServiceProvider> providers;
+
+    BotProviderCache(Function<String, BotServiceProvider> lookup, int capacity) {
+        this.lookup = Objects.requireNonNull(lookup, "Bot lookup must not be null!");
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.providers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Seat, BotServiceProvider> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    static BotProviderCache shared() {
+        return SHARED;
+    }
+
+    synchronized BotServiceProvider providerFor(Game game, Player bot) {
+        return providers.computeIfAbsent(new Seat(game.getUuid(), bot.getUuid()), seat -> lookup.apply(bot.getUsername()));
+    }
+
+    synchronized void release(Game game) {
+        providers.remove(new Seat(game.getUuid(), game.getPlayer1().getUuid()));
+        providers.remove(new Seat(game.getUuid(), game.getPlayer2().getUuid()));
+    }
+
+    synchronized int size() {
+        return providers.size();
+    }
+
+    private record Seat(UUID gameUuid, UUID playerUuid) {
+    }
+}
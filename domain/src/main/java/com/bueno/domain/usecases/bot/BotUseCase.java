@@ -23,6 +23,7 @@ package com.bueno.domain.usecases.bot;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
@@ -32,18 +33,14 @@ import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.HandResultRepository;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
-import com.bueno.spi.service.BotServiceManager;
-import com.bueno.spi.service.BotServiceProvider;
 
 import java.util.Objects;
 
-import static com.bueno.domain.usecases.intel.converters.IntelConverter.fromDto;
-
 public class BotUseCase {
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
     private final HandResultRepository handResultRepo;
+    private final BotProviderCache botProviders = BotProviderCache.shared();
     private MaoDeOnzeHandler maoDeOnzeHandler;
     private RaiseHandler raiseHandler;
     private CardPlayingHandler cardHandler;
@@ -69,27 +66,45 @@ public class BotUseCase {
         this.requestHandler = request;
     }
 
+    // Plays the bot moves on the given game, which is persisted by the caller together with the move that led to them.
+    // Each handler plays a single move and returns, so bot-vs-bot sequences are driven by this loop instead of by the
+    // use cases calling back into the bot: the stack depth does not grow with the number of moves. The loop stops when
+    // a human must act or the game is over.
     public Intel playWhenNecessary(Game game) {
-        final Player currentPlayer = game.currentHand().getCurrentPlayer();
-        final Intel intel = game.getIntel();
+        final Intel intel = playBotMoves(game);
+        if (game.isDone()) botProviders.release(game);
+        return intel;
+    }
+
+    private Intel playBotMoves(Game game) {
+        Intel intel = game.getIntel();
+        while (true) {
+            final Player currentPlayer = game.currentHand().getCurrentPlayer();
+            if (!isBotTurn(currentPlayer, intel)) return intel;
 
-        if (!isBotTurn(currentPlayer, intel)) return intel;
+            final Intel next = playOneMove(game, intel, currentPlayer);
+            if (next == null) return game.getIntel();
+            intel = next;
+        }
+    }
 
-        initializeNullHandlers(BotServiceManager.load(currentPlayer.getUsername()));
+    private Intel playOneMove(Game game, Intel intel, Player currentPlayer) {
+        initializeNullHandlers();
+        final var context = new BotDecisionContext(game, intel, currentPlayer, botProviders.providerFor(game, currentPlayer));
 
-        if (maoDeOnzeHandler.shouldHandle(intel))
-            return fromDto(maoDeOnzeHandler.handle(intel, currentPlayer));
+        if (maoDeOnzeHandler.shouldHandle(context))
+            return maoDeOnzeHandler.handle(context);
 
-        if (raiseHandler.shouldHandle(intel)) {
-            final IntelDto dto = raiseHandler.handle(intel, currentPlayer);
-            if(dto != null ) return fromDto(dto);
+        if (raiseHandler.shouldHandle(context)) {
+            final Intel afterRaise = raiseHandler.handle(context);
+            if (afterRaise != null) return afterRaise;
         }
 
-        if (cardHandler.shouldHandle(intel))
-            return fromDto(cardHandler.handle(intel, currentPlayer));
+        if (cardHandler.shouldHandle(context))
+            return cardHandler.handle(context);
 
-        if (requestHandler.shouldHandle(intel))
-            return fromDto(requestHandler.handle(intel, currentPlayer));
+        if (requestHandler.shouldHandle(context))
+            return requestHandler.handle(context);
 
         return null;
     }
@@ -100,22 +115,16 @@ public class BotUseCase {
         return handPlayer.getUuid().equals(currentPlayerUUID.get());
     }
 
-    private void initializeNullHandlers(BotServiceProvider botService) {
+    private void initializeNullHandlers() {
+        if (maoDeOnzeHandler != null && raiseHandler != null && cardHandler != null && requestHandler != null) return;
+        final var pointsUseCase = new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo);
         if (maoDeOnzeHandler == null)
-            maoDeOnzeHandler = new MaoDeOnzeHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+            maoDeOnzeHandler = new MaoDeOnzeHandler(pointsUseCase);
         if (raiseHandler == null)
-            raiseHandler = new RaiseHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+            raiseHandler = new RaiseHandler(pointsUseCase);
         if (cardHandler == null)
-            cardHandler = new CardPlayingHandler(
-                    new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+            cardHandler = new CardPlayingHandler(new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo));
         if (requestHandler == null)
-            requestHandler = new RaiseRequestHandler(new PointsProposalUseCase(
-                    gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+            requestHandler = new RaiseRequestHandler(pointsUseCase);
     }
 }
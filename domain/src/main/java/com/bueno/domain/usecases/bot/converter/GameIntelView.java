@@ -0,0 +1,156 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot.converter;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.model.TrucoCardSet;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+// GameIntel backed by the domain Intel, which is never changed after being created. Only the bot cards are copied,
+// because the player hand changes as soon as a card is played. Everything else is read from the Intel on demand, and
+// lists are unmodifiable views that convert each element when it is accessed, so fields a bot never reads cost nothing.
+final class GameIntelView extends GameIntel {
+
+    private final Intel intel;
+    private final UUID playerUuid;
+    private final List<Card> cards;
+    private List<TrucoCard> cardList;
+    private List<TrucoCard> openCardList;
+    private List<RoundResult> roundResults;
+    private TrucoCardSet cardSet;
+    private TrucoCardSet openCardSet;
+
+    GameIntelView(Player player, Intel intel) {
+        this.intel = intel;
+        this.playerUuid = player.getUuid();
+        this.cards = List.copyOf(player.getCards());
+    }
+
+    @Override
+    public List<TrucoCard> getCards() {
+        if (cardList == null) cardList = new TrucoCardView(cards);
+        return cardList;
+    }
+
+    @Override
+    public List<TrucoCard> getOpenCards() {
+        if (openCardList == null) openCardList = new TrucoCardView(intel.openCards());
+        return openCardList;
+    }
+
+    @Override
+    public TrucoCardSet getCardSet() {
+        if (cardSet == null) cardSet = TrucoCardSet.ofBits(bitsOf(cards));
+        return cardSet;
+    }
+
+    @Override
+    public TrucoCardSet getOpenCardSet() {
+        if (openCardSet == null) openCardSet = TrucoCardSet.ofBits(bitsOf(intel.openCards()));
+        return openCardSet;
+    }
+
+    private static long bitsOf(List<Card> cards) {
+        long bits = 0L;
+        for (Card card : cards) if (!card.isClosed()) bits |= 1L << (card.getId() - 1);
+        return bits;
+    }
+
+    @Override
+    public TrucoCard getVira() {
+        return SpiModelAdapter.toTrucoCard(intel.vira());
+    }
+
+    @Override
+    public Optional<TrucoCard> getOpponentCard() {
+        return intel.cardToPlayAgainst().map(SpiModelAdapter::toTrucoCard);
+    }
+
+    @Override
+    public List<RoundResult> getRoundResults() {
+        if (roundResults == null) roundResults = new RoundResultView(intel.roundWinnersUuid(), playerUuid);
+        return roundResults;
+    }
+
+    @Override
+    public int getScore() {
+        return intel.currentPlayerScore();
+    }
+
+    @Override
+    public int getOpponentScore() {
+        return intel.currentOpponentScore();
+    }
+
+    @Override
+    public int getHandPoints() {
+        return intel.handPoints();
+    }
+
+    private static final class TrucoCardView extends AbstractList<TrucoCard> implements RandomAccess {
+        private final List<Card> cards;
+
+        private TrucoCardView(List<Card> cards) {
+            this.cards = cards;
+        }
+
+        @Override
+        public TrucoCard get(int index) {
+            return SpiModelAdapter.toTrucoCard(cards.get(index));
+        }
+
+        @Override
+        public int size() {
+            return cards.size();
+        }
+    }
+
+    private static final class RoundResultView extends AbstractList<RoundResult> implements RandomAccess {
+        private final List<Optional<UUID>> winners;
+        private final UUID playerUuid;
+
+        private RoundResultView(List<Optional<UUID>> winners, UUID playerUuid) {
+            this.winners = winners;
+            this.playerUuid = playerUuid;
+        }
+
+        @Override
+        public RoundResult get(int index) {
+            return winners.get(index)
+                    .map(winner -> winner.equals(playerUuid) ? RoundResult.WON : RoundResult.LOST)
+                    .orElse(RoundResult.DREW);
+        }
+
+        @Override
+        public int size() {
+            return winners.size();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot.handlers;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.EnumSet;
+import java.util.Objects;
+
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
+
+// Everything the handlers need to take one bot decision. It is created once per bot turn and shared by all handlers,
+// so the possible actions are parsed only once and the bot sees the same GameIntel if it declines to raise and then
+// chooses a card. The handlers act on the game of the context, which belongs to the unit of work of the request.
+public final class BotDecisionContext {
+
+    private final Game game;
+    private final Intel intel;
+    private final Player bot;
+    private final BotServiceProvider botService;
+    private final EnumSet<PossibleAction> possibleActions;
+    private GameIntel gameIntel;
+
+    public BotDecisionContext(Intel intel, Player bot, BotServiceProvider botService) {
+        this(null, intel, bot, botService);
+    }
+
+    public BotDecisionContext(Game game, Intel intel, Player bot, BotServiceProvider botService) {
+        this.game = game;
+        this.intel = Objects.requireNonNull(intel, "Intel must not be null!");
+        this.bot = Objects.requireNonNull(bot, "Bot must not be null!");
+        this.botService = Objects.requireNonNull(botService, "Bot service must not be null!");
+        this.possibleActions = EnumSet.noneOf(PossibleAction.class);
+        intel.possibleActions().forEach(action -> possibleActions.add(PossibleAction.valueOf(action)));
+    }
+
+    public GameIntel gameIntel() {
+        if (gameIntel == null) gameIntel = toGameIntel(bot, intel);
+        return gameIntel;
+    }
+
+    public boolean canDo(PossibleAction action) {
+        return possibleActions.contains(action);
+    }
+
+    public Game game() {
+        return game;
+    }
+
+    public Intel intel() {
+        return intel;
+    }
+
+    public Player bot() {
+        return bot;
+    }
+
+    public BotServiceProvider botService() {
+        return botService;
+    }
+}
@@ -21,43 +21,34 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
-import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
-import com.bueno.spi.service.BotServiceProvider;
 
 import static com.bueno.domain.entities.intel.PossibleAction.PLAY;
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toCard;
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class CardPlayingHandler implements Handler{
 
-    private final BotServiceProvider botService;
     private final PlayCardUseCase cardUseCase;
 
-    public CardPlayingHandler(PlayCardUseCase cardUseCase, BotServiceProvider botService) {
-        this.botService = botService;
+    public CardPlayingHandler(PlayCardUseCase cardUseCase) {
         this.cardUseCase = cardUseCase;
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
-        final var chosenCard = botService.chooseCard(toGameIntel(bot, intel));
+    public Intel handle(BotDecisionContext context) {
+        final var botUuid = context.bot().getUuid();
+        final var chosenCard = context.botService().chooseCard(context.gameIntel());
         final var card = toCard(chosenCard.content());
         final var requestModel = new PlayCardDto(botUuid, CardConverter.toDto(card));
 
-        if (chosenCard.isDiscard()) return cardUseCase.discard(requestModel);
-        return cardUseCase.playCard(requestModel);
+        if (chosenCard.isDiscard()) return cardUseCase.discard(context.game(), requestModel);
+        return cardUseCase.playCard(context.game(), requestModel);
     }
 
     @Override
-    public boolean shouldHandle(Intel intel) {
-        return intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .anyMatch(action -> action.equals(PLAY));
+    public boolean shouldHandle(BotDecisionContext context) {
+        return context.canDo(PLAY);
     }
 }
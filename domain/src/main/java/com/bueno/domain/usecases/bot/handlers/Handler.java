@@ -21,10 +21,8 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.player.Player;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
 interface Handler {
-    IntelDto handle(Intel intel, Player bot);
-    boolean shouldHandle(Intel intel);
+    Intel handle(BotDecisionContext context);
+    boolean shouldHandle(BotDecisionContext context);
 }
@@ -22,33 +22,27 @@ package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.hand.HandPoints;
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
-import com.bueno.spi.service.BotServiceProvider;
-
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class MaoDeOnzeHandler implements Handler {
 
-    private final BotServiceProvider botService;
     private final PointsProposalUseCase scoreUseCase;
 
-    public MaoDeOnzeHandler(PointsProposalUseCase scoreUseCase, BotServiceProvider botService) {
+    public MaoDeOnzeHandler(PointsProposalUseCase scoreUseCase) {
         this.scoreUseCase = scoreUseCase;
-        this.botService = botService;
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
-        final var hasAccepted = botService.getMaoDeOnzeResponse(toGameIntel(bot, intel));
-        if (hasAccepted) return scoreUseCase.accept(botUuid);
-        return scoreUseCase.quit(botUuid);
+    public Intel handle(BotDecisionContext context) {
+        final var botUuid = context.bot().getUuid();
+        final var hasAccepted = context.botService().getMaoDeOnzeResponse(context.gameIntel());
+        if (hasAccepted) return scoreUseCase.accept(context.game(), botUuid);
+        return scoreUseCase.quit(context.game(), botUuid);
     }
 
     @Override
-    public boolean shouldHandle(Intel intel) {
+    public boolean shouldHandle(BotDecisionContext context) {
+        final var intel = context.intel();
         final var hasNotDecided = HandPoints.fromIntValue(intel.handPoints()) == HandPoints.ONE;
         return intel.isMaoDeOnze() && hasNotDecided;
     }
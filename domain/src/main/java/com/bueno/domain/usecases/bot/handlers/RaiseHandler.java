@@ -21,41 +21,27 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
-import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
-import com.bueno.spi.service.BotServiceProvider;
-
-import java.util.EnumSet;
-import java.util.stream.Collectors;
 
 import static com.bueno.domain.entities.intel.PossibleAction.QUIT;
 import static com.bueno.domain.entities.intel.PossibleAction.RAISE;
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class RaiseHandler implements Handler {
 
-    private final BotServiceProvider botService;
     private final PointsProposalUseCase scoreUseCase;
 
-    public RaiseHandler(PointsProposalUseCase scoreUseCase, BotServiceProvider botService) {
+    public RaiseHandler(PointsProposalUseCase scoreUseCase) {
         this.scoreUseCase = scoreUseCase;
-        this.botService = botService;
     }
 
-    public IntelDto handle(Intel intel, Player bot){
-        final boolean wantToRaise = botService.decideIfRaises(toGameIntel(bot, intel));
-        if (wantToRaise) return scoreUseCase.raise(bot.getUuid());
+    public Intel handle(BotDecisionContext context){
+        final boolean wantToRaise = context.botService().decideIfRaises(context.gameIntel());
+        if (wantToRaise) return scoreUseCase.raise(context.game(), context.bot().getUuid());
         return null;
     }
 
     @Override
-    public boolean shouldHandle(Intel intel){
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
-
-        return actions.contains(RAISE) && !actions.contains(QUIT);
+    public boolean shouldHandle(BotDecisionContext context){
+        return context.canDo(RAISE) && !context.canDo(QUIT);
     }
 }
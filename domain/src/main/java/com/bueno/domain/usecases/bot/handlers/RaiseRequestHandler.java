@@ -22,41 +22,27 @@ package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
-import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
-import com.bueno.spi.service.BotServiceProvider;
-
-import java.util.EnumSet;
-import java.util.stream.Collectors;
-
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class RaiseRequestHandler implements Handler{
 
-    private final BotServiceProvider botService;
     private final PointsProposalUseCase scoreUseCase;
 
-    public RaiseRequestHandler(PointsProposalUseCase scoreUseCase, BotServiceProvider botService) {
+    public RaiseRequestHandler(PointsProposalUseCase scoreUseCase) {
         this.scoreUseCase = scoreUseCase;
-        this.botService = botService;
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
-        final var botUuid = bot.getUuid();
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
-
-        var response = botService.getRaiseResponse(toGameIntel(bot, intel));
+    public Intel handle(BotDecisionContext context) {
+        final var botUuid = context.bot().getUuid();
+        var response = context.botService().getRaiseResponse(context.gameIntel());
         if(isInvalid(response)) throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
-        if(hasAlreadyReachedHandPointsLimit(actions, response)) response = 0;
+        if(hasAlreadyReachedHandPointsLimit(context, response)) response = 0;
 
         return switch (response) {
-            case -1 -> scoreUseCase.quit(botUuid);
-            case 0 -> scoreUseCase.accept(botUuid);
-            case 1 -> scoreUseCase.raise(botUuid);
+            case -1 -> scoreUseCase.quit(context.game(), botUuid);
+            case 0 -> scoreUseCase.accept(context.game(), botUuid);
+            case 1 -> scoreUseCase.raise(context.game(), botUuid);
             default -> null;
         };
     }
@@ -65,11 +51,11 @@ public class RaiseRequestHandler implements Handler{
         return response < -1 || response > 1;
     }
 
-    private static boolean hasAlreadyReachedHandPointsLimit(EnumSet<PossibleAction> actions, int response) {
-        return response == 1 && !actions.contains(PossibleAction.RAISE);
+    private static boolean hasAlreadyReachedHandPointsLimit(BotDecisionContext context, int response) {
+        return response == 1 && !context.canDo(PossibleAction.RAISE);
     }
 
-    public boolean shouldHandle(Intel intel){
-        return !intel.isMaoDeOnze() && !intel.possibleActions().contains("PLAY");
+    public boolean shouldHandle(BotDecisionContext context){
+        return !context.intel().isMaoDeOnze() && !context.canDo(PossibleAction.PLAY);
     }
 }
@@ -24,9 +24,13 @@ import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.converter.ConvertedHands;
 import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 public class GameConverter {
 
@@ -34,7 +38,16 @@ public class GameConverter {
 
     public static GameDto toDto(Game game){
         if(game == null) return null;
+        return toDto(game, game.getHands().stream().map(HandConverter::toDto).toList());
+    }
 
+    // Converts a game that is saved again, reusing what was already converted from its hands.
+    public static GameDto toDto(Game game, ConvertedHands convertedHands){
+        if(game == null) return null;
+        return toDto(game, handsToDto(game.getHands(), convertedHands));
+    }
+
+    private static GameDto toDto(Game game, List<HandDto> hands){
         return new GameDto(
                 game.getUuid(),
                 game.getTimestamp(),
@@ -42,19 +55,44 @@ public class GameConverter {
                 PlayerConverter.toDto(game.getPlayer2()),
                 PlayerConverter.toDto(game.getFirstToPlay()),
                 PlayerConverter.toDto(game.getLastToPlay()),
-                game.getHands().stream().map(HandConverter::toDto).toList()
+                hands
         );
     }
 
+    // Only the last hand can still change: the others are converted once and their dtos are reused on later saves, so
+    // the cost of a save does not grow with the number of hands played.
+    private static List<HandDto> handsToDto(List<Hand> hands, ConvertedHands convertedHands) {
+        final int lastHand = hands.size() - 1;
+        final List<HandDto> dtos = new ArrayList<>(hands.size());
+        for (int index = 0; index < hands.size(); index++)
+            dtos.add(HandConverter.toDto(hands.get(index), index < lastHand, convertedHands));
+        return dtos;
+    }
+
     public static Game fromDto(GameDto dto){
+        return restore(dto, null);
+    }
+
+    // Restores a game that will be saved again, keeping in convertedHands the dtos its hands came from.
+    public static Game fromDto(GameDto dto, ConvertedHands convertedHands){
+        return restore(dto, Objects.requireNonNull(convertedHands, "Converted hands must not be null!"));
+    }
+
+    private static Game restore(GameDto dto, ConvertedHands convertedHands){
         if(dto == null) return null;
         final Player player1 = PlayerConverter.fromDto(dto.player1());
         final Player player2 = PlayerConverter.fromDto(dto.player2());
         final Player firstToPlay = dto.firstToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
         final Player lastToPlay = dto.lastToPlay().uuid().equals(player1.getUuid()) ? player1 : player2;
-        final List<Hand> hands = dto.hands().stream()
-                .map(handDto -> HandConverter.fromDto(handDto, player1, player2))
-                .toList();
+        final List<HandDto> handDtos = dto.hands();
+        final int lastHand = handDtos.size() - 1;
+        final List<Hand> hands = new ArrayList<>(handDtos.size());
+        for (int index = 0; index < handDtos.size(); index++) {
+            final HandDto handDto = handDtos.get(index);
+            hands.add(convertedHands == null
+                    ? HandConverter.fromDto(handDto, player1, player2)
+                    : HandConverter.fromDto(handDto, player1, player2, index < lastHand, convertedHands));
+        }
         return new Game(dto.gameUuid(), dto.timestamp(), player1, player2, firstToPlay, lastToPlay, hands);
     }
 }
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.dtos;
+
+import java.util.List;
+import java.util.Objects;
+
+// Result of a seeded deal sequence played twice with seats swapped, so both bots received the same cards.
+public record DuplicatePairDto(long seed, PlayWithBotsDto game, PlayWithBotsDto mirroredGame) {
+    public DuplicatePairDto {
+        Objects.requireNonNull(game);
+        Objects.requireNonNull(mirroredGame);
+    }
+
+    public List<PlayWithBotsDto> games() {
+        return List.of(game, mirroredGame);
+    }
+
+    public int winsOf(String botName) {
+        int wins = 0;
+        if (game.name().equals(botName)) wins++;
+        if (mirroredGame.name().equals(botName)) wins++;
+        return wins;
+    }
+
+    public boolean isSplit() {
+        return !game.name().equals(mirroredGame.name());
+    }
+}
@@ -1,4 +1,7 @@
 package com.bueno.domain.usecases.game.dtos;
 
-public record EvaluateResultsDto(long computingTime, long numberOfGames, long evaluatedBotWins, double winRate, double percentile,long matchWins) {
+import java.util.Map;
+
+public record EvaluateResultsDto(long computingTime, long numberOfGames, long failedGames, long evaluatedBotWins, double winRate, double percentile, long matchWins,
+                                 ConfidenceIntervalDto winRateInterval, Map<String, ConfidenceIntervalDto> winRateIntervalByOpponent) {
 }
@@ -26,6 +26,16 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+// The version is the one of the stored game the dto was read from, or null for a game that was never stored.
 public record GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
-                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands) {
+                      PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands, Long version) {
+
+    public GameDto(UUID gameUuid, LocalDateTime timestamp, PlayerDto player1, PlayerDto player2,
+                   PlayerDto firstToPlay, PlayerDto lastToPlay, List<HandDto> hands) {
+        this(gameUuid, timestamp, player1, player2, firstToPlay, lastToPlay, hands, null);
+    }
+
+    public GameDto withVersion(Long version) {
+        return new GameDto(gameUuid, timestamp, player1, player2, firstToPlay, lastToPlay, hands, version);
+    }
 }
\ No newline at end of file
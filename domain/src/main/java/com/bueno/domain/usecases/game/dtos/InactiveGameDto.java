@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.dtos;
+
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// The few fields needed to close a game abandoned by its current player, without its hands.
+public record InactiveGameDto(UUID gameUuid, LocalDateTime timestamp, UUID player1Uuid, UUID player2Uuid,
+                              UUID currentPlayerUuid) {
+
+    public static InactiveGameDto of(GameDto game) {
+        final HandDto currentHand = game.hands().isEmpty() ? null : game.hands().get(game.hands().size() - 1);
+        final UUID currentPlayerUuid = currentHand != null && currentHand.currentPlayer() != null
+                ? currentHand.currentPlayer().uuid() : null;
+        return new InactiveGameDto(game.gameUuid(), game.timestamp(), game.player1().uuid(), game.player2().uuid(),
+                currentPlayerUuid);
+    }
+}
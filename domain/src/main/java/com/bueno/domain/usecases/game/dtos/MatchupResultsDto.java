@@ -0,0 +1,51 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.dtos;
+
+import java.util.List;
+import java.util.Objects;
+
+// Games of a matchup grouped by deal: a single game, or the two mirrored games of a duplicate deal. A deal is won by
+// the bot that won all of its games. A split pair says nothing about which bot plays better, so it is neither won
+// nor decided, and duplicate deals are scored per pair instead of per game. Games that failed are left out of the
+// deals and only counted, so callers can tell a short sample from a complete one.
+public record MatchupResultsDto(List<List<PlayWithBotsDto>> deals, long failedGames) {
+    public MatchupResultsDto {
+        deals = List.copyOf(Objects.requireNonNull(deals));
+        if (failedGames < 0) throw new IllegalArgumentException("Failed games must not be negative: " + failedGames);
+    }
+
+    public List<PlayWithBotsDto> games() {
+        return deals.stream().flatMap(List::stream).toList();
+    }
+
+    public long winsOf(String botName) {
+        return games().stream().filter(game -> game.name().equals(botName)).count();
+    }
+
+    public long dealsWonBy(String botName) {
+        return deals.stream().filter(deal -> deal.stream().allMatch(game -> game.name().equals(botName))).count();
+    }
+
+    public long decidedDeals() {
+        return deals.stream().filter(deal -> deal.stream().map(PlayWithBotsDto::name).distinct().count() == 1).count();
+    }
+}
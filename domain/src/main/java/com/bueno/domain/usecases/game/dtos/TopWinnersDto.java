@@ -20,12 +20,18 @@
 
 package com.bueno.domain.usecases.game.dtos;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 public record TopWinnersDto(Map<String, Integer> topUsersRecords){
     public TopWinnersDto(List<PlayerWinsDto> topUserRecords){
-        this(topUserRecords.stream().collect(Collectors.toMap(PlayerWinsDto::username, PlayerWinsDto::wins)));
+        this(inRankingOrder(topUserRecords));
+    }
+
+    private static Map<String, Integer> inRankingOrder(List<PlayerWinsDto> topUserRecords) {
+        return topUserRecords.stream().collect(Collectors.toMap(PlayerWinsDto::username, PlayerWinsDto::wins,
+                (wins, ignored) -> wins, LinkedHashMap::new));
     }
 }
@@ -0,0 +1,310 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Decorator that takes hand and game results off the request thread. Results go into a bounded queue and a single
+// writer thread sends them to the backing repositories in batches, either when a batch is full or when the oldest
+// result in it has waited for the maximum delay. When the queue is full, saving blocks until the writer catches up,
+// so a slow database slows the producers down instead of growing the queue without limit.
+//
+// The sink is used through its two repository views. Queries of the game result view flush the queue first, so a
+// result is always visible to a read that happens after it was saved.
+public class AsyncResultSink implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncResultSink.class.getName());
+    private static final Object SHUTDOWN = new Object();
+
+    private final HandResultRepository handResultRepository;
+    private final GameResultRepository gameResultRepository;
+    private final HandResultRepository handResults = new HandResults();
+    private final GameResultRepository gameResults = new GameResults();
+    private final BlockingQueue<Object> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Thread writer;
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    private final AtomicLong writtenResults = new AtomicLong();
+    private final AtomicLong failedResults = new AtomicLong();
+    private final AtomicLong flushedBatches = new AtomicLong();
+    private final AtomicLong flushNanos = new AtomicLong();
+    private final AtomicLong backpressureWaits = new AtomicLong();
+    private final AtomicLong backpressureNanos = new AtomicLong();
+
+    public AsyncResultSink(HandResultRepository handResultRepository, GameResultRepository gameResultRepository,
+                           int capacity, int batchSize, Duration maxDelay) {
+        this.handResultRepository = Objects.requireNonNull(handResultRepository, "Hand result repository must not be null!");
+        this.gameResultRepository = Objects.requireNonNull(gameResultRepository, "Game result repository must not be null!");
+        Objects.requireNonNull(maxDelay, "Maximum delay must not be null!");
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        if (maxDelay.isNegative() || maxDelay.isZero())
+            throw new IllegalArgumentException("Maximum delay must be positive: " + maxDelay);
+
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.writer = new Thread(this::writeUntilShutdown, "result-sink-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public HandResultRepository handResults() {
+        return handResults;
+    }
+
+    public GameResultRepository gameResults() {
+        return gameResults;
+    }
+
+    // Producers hold the read lock while enqueuing, so once close takes the write lock no result can slip in behind
+    // the shutdown marker and be left in the queue.
+    private void enqueue(Object item) {
+        closeLock.readLock().lock();
+        try {
+            if (closed) throw new IllegalStateException("Result sink is closed.");
+            if (queue.offer(item)) return;
+
+            backpressureWaits.incrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                queue.put(item);
+            } finally {
+                backpressureNanos.addAndGet(System.nanoTime() - start);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for room in the result sink.", e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // Blocks until every result saved before the call has been written or has failed.
+    public void flush() {
+        final FlushRequest request = new FlushRequest(new CountDownLatch(1));
+        try {
+            enqueue(request);
+        } catch (IllegalStateException closedSink) {
+            return;
+        }
+        try {
+            request.done().await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeUntilShutdown() {
+        final List<Object> batch = new ArrayList<>(batchSize);
+        try {
+            boolean running = true;
+            while (running) {
+                batch.add(queue.take());
+                collectBatch(batch);
+                running = !batch.contains(SHUTDOWN);
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            write(batch);
+            drainRemaining();
+        }
+    }
+
+    // Waits for more results until the batch is full or the first one has waited long enough. Flush requests and the
+    // shutdown marker end the batch at once, since someone is waiting on them.
+    private void collectBatch(List<Object> batch) throws InterruptedException {
+        final long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < batchSize && !endsBatch(batch.get(batch.size() - 1))) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return;
+            final Object next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private static boolean endsBatch(Object item) {
+        return item == SHUTDOWN || item instanceof FlushRequest;
+    }
+
+    private void drainRemaining() {
+        final List<Object> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        write(remaining);
+    }
+
+    private void write(List<Object> batch) {
+        final List<HandResultDto> handResults = new ArrayList<>();
+        final List<GameResultDto> gameResults = new ArrayList<>();
+        final List<FlushRequest> flushRequests = new ArrayList<>();
+        for (Object item : batch) {
+            if (item instanceof HandResultDto handResult) handResults.add(handResult);
+            else if (item instanceof GameResultDto gameResult) gameResults.add(gameResult);
+            else if (item instanceof FlushRequest flushRequest) flushRequests.add(flushRequest);
+        }
+
+        if (!handResults.isEmpty() || !gameResults.isEmpty()) {
+            final long start = System.nanoTime();
+            writeAll(handResults, handResultRepository::saveAll, handResultRepository::save);
+            writeAll(gameResults, gameResultRepository::saveAll, gameResultRepository::save);
+            flushNanos.addAndGet(System.nanoTime() - start);
+            flushedBatches.incrementAndGet();
+        }
+        flushRequests.forEach(request -> request.done().countDown());
+    }
+
+    // A failed batch is retried one result at a time, so a single bad row does not take the rest of the batch with it.
+    private <T> void writeAll(List<T> results, Consumer<List<T>> saveAll, Consumer<T> save) {
+        if (results.isEmpty()) return;
+        try {
+            saveAll.accept(results);
+            writtenResults.addAndGet(results.size());
+            return;
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not write a batch of " + results.size() + " results, writing one by one.", e);
+        }
+        for (T result : results) {
+            try {
+                save.accept(result);
+                writtenResults.incrementAndGet();
+            } catch (RuntimeException e) {
+                failedResults.incrementAndGet();
+                LOGGER.log(Level.SEVERE, "Could not write result " + result + ", dropping it.", e);
+            }
+        }
+    }
+
+    public int queuedResults() {
+        return queue.size();
+    }
+
+    public long writtenResults() {
+        return writtenResults.get();
+    }
+
+    public long failedResults() {
+        return failedResults.get();
+    }
+
+    public long flushedBatches() {
+        return flushedBatches.get();
+    }
+
+    public Duration flushTime() {
+        return Duration.ofNanos(flushNanos.get());
+    }
+
+    public long backpressureWaits() {
+        return backpressureWaits.get();
+    }
+
+    public Duration backpressureTime() {
+        return Duration.ofNanos(backpressureNanos.get());
+    }
+
+    // Stops taking results and waits for the writer to write everything that was already queued.
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        try {
+            queue.put(SHUTDOWN);
+            writer.join(TimeUnit.MINUTES.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) LOGGER.warning("Result sink writer did not finish, " + queue.size() + " results left unwritten.");
+    }
+
+    private record FlushRequest(CountDownLatch done) {
+    }
+
+    private class HandResults implements HandResultRepository {
+        @Override
+        public void save(HandResultDto handResultDto) {
+            enqueue(Objects.requireNonNull(handResultDto));
+        }
+    }
+
+    private class GameResults implements GameResultRepository {
+        @Override
+        public void save(GameResultDto gameResultDto) {
+            enqueue(Objects.requireNonNull(gameResultDto));
+        }
+
+        @Override
+        public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers) {
+            flush();
+            return gameResultRepository.findTopWinners(maxNumberOfUsers);
+        }
+
+        @Override
+        public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
+            flush();
+            return gameResultRepository.findAllByUserUuid(uuid);
+        }
+
+        @Override
+        public List<MatchHistoryEntryDto> findMatchesByUserUuid(UUID uuid, MatchCursorDto after, int limit) {
+            flush();
+            return gameResultRepository.findMatchesByUserUuid(uuid, after, limit);
+        }
+
+        @Override
+        public List<LeaderboardEntryDto> findWinsByPlayer() {
+            flush();
+            return gameResultRepository.findWinsByPlayer();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Thread safe in-memory repository. Games are kept in a concurrent map and indexed by the uuid of both players, so
+// finding the game of a player is a constant time lookup. Writes that touch both maps hold the lock of the game stripe.
+// It stores DTOs, like the other GameRepository implementations, so every lookup returns a game of its own and callers
+// never share a mutable aggregate.
+public class ConcurrentGameRepositoryImpl implements GameRepository {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Map<UUID, StoredGame> games = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> gameByPlayer = new ConcurrentHashMap<>();
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+
+    public ConcurrentGameRepositoryImpl() {
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) locks[stripe] = new ReentrantLock();
+    }
+
+    private Lock lockOf(UUID gameUuid) {
+        Objects.requireNonNull(gameUuid, "Game UUID must not be null!");
+        return locks[Math.floorMod(gameUuid.hashCode(), LOCK_STRIPES)];
+    }
+
+    @Override
+    public void save(GameDto gameDto) {
+        final UUID gameUuid = gameDto.gameUuid();
+        final StoredGame game = storedOf(gameDto);
+        final Lock lock = lockOf(gameUuid);
+        lock.lock();
+        try {
+            games.put(gameUuid, game);
+            gameByPlayer.put(game.player1Uuid(), gameUuid);
+            gameByPlayer.put(game.player2Uuid(), gameUuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Players never change during a game, so replacing the stored game keeps the index valid without locking.
+    @Override
+    public void update(GameDto gameDto) {
+        games.replace(gameDto.gameUuid(), storedOf(gameDto));
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        final Lock lock = lockOf(uuid);
+        lock.lock();
+        try {
+            final StoredGame game = games.remove(uuid);
+            if (game == null) return;
+            gameByPlayer.remove(game.player1Uuid(), uuid);
+            gameByPlayer.remove(game.player2Uuid(), uuid);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        return findStoredByPlayer(playerUuid).map(StoredGame::toDto);
+    }
+
+    private Optional<StoredGame> findStoredByPlayer(UUID playerUuid) {
+        final UUID gameUuid = gameByPlayer.get(playerUuid);
+        return gameUuid == null ? Optional.empty() : Optional.ofNullable(games.get(gameUuid));
+    }
+
+    @Override
+    public Collection<GameDto> findAllInactiveAfter(int minutes) {
+        final Instant limit = Instant.now().minus(Duration.ofMinutes(minutes));
+        return games.values().stream()
+                .filter(game -> game.lastActivity().isBefore(limit))
+                .map(StoredGame::toDto)
+                .toList();
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    private StoredGame storedOf(GameDto dto) {
+        return new StoredGame(dto.player1().uuid(), dto.player2().uuid(), Instant.now(), dto);
+    }
+
+    private record StoredGame(UUID player1Uuid, UUID player2Uuid, Instant lastActivity, GameDto dto) {
+
+        private GameDto toDto() {
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// The difference between two writes of the same game, itself written as a game dto: it holds the players, the hand
+// that was the last one of the previous write with only the events recorded since then, and every hand dealt after
+// it. Finished hands never change, so the delta does not grow with the number of hands played.
+//
+// A delta can only be applied to the write it was taken from, which is the one whose next event sequence number is
+// the first one of the delta.
+final class GameDelta {
+
+    private GameDelta() {}
+
+    static long nextSequenceOf(GameDto game) {
+        if (game.hands().isEmpty()) return 0;
+        final HandHistoryDto history = game.hands().get(game.hands().size() - 1).history();
+        return history.firstSequence() + history.events().size();
+    }
+
+    // Empty if the next write does not extend the previous one, e.g. when the retention policy dropped hands or
+    // events of it, in which case the game must be written whole.
+    static Optional<GameDto> between(GameDto previous, GameDto next) {
+        final int fromHand = previous.hands().size() - 1;
+        if (fromHand < 0 || next.hands().size() <= fromHand) return Optional.empty();
+        final HandHistoryDto previousHistory = previous.hands().get(fromHand).history();
+        final HandDto changedHand = next.hands().get(fromHand);
+        final HandHistoryDto nextHistory = changedHand.history();
+        final int knownEvents = previousHistory.events().size();
+        if (nextHistory.firstSequence() != previousHistory.firstSequence() || nextHistory.events().size() < knownEvents)
+            return Optional.empty();
+
+        final List<HandDto> hands = new ArrayList<>(next.hands().size() - fromHand);
+        hands.add(withHistory(changedHand, new HandHistoryDto(nextHistory.firstSeat(), nextHistory.firstSeatCards(),
+                nextHistory.firstSequence() + knownEvents, nextHistory.events().subList(knownEvents, nextHistory.events().size()))));
+        hands.addAll(next.hands().subList(fromHand + 1, next.hands().size()));
+        return Optional.of(withHands(next, hands));
+    }
+
+    // Empty if the delta was not taken from this write of the game.
+    static Optional<GameDto> apply(GameDto base, GameDto delta) {
+        final int fromHand = base.hands().size() - 1;
+        if (fromHand < 0 || delta.hands().isEmpty()) return Optional.empty();
+        final HandHistoryDto baseHistory = base.hands().get(fromHand).history();
+        final HandDto changedHand = delta.hands().get(0);
+        final HandHistoryDto newEvents = changedHand.history();
+        if (newEvents.firstSequence() != nextSequenceOf(base)) return Optional.empty();
+
+        final List<HandDto> hands = new ArrayList<>(base.hands().size() + delta.hands().size() - 1);
+        hands.addAll(base.hands().subList(0, fromHand));
+        final List<HandEventDto> events = new ArrayList<>(baseHistory.events());
+        events.addAll(newEvents.events());
+        hands.add(withHistory(changedHand, new HandHistoryDto(newEvents.firstSeat(), newEvents.firstSeatCards(),
+                baseHistory.firstSequence(), events)));
+        hands.addAll(delta.hands().subList(1, delta.hands().size()));
+        return Optional.of(withHands(delta, hands));
+    }
+
+    private static GameDto withHands(GameDto game, List<HandDto> hands) {
+        return new GameDto(game.gameUuid(), game.timestamp(), game.player1(), game.player2(), game.firstToPlay(),
+                game.lastToPlay(), List.copyOf(hands), game.version());
+    }
+
+    private static HandDto withHistory(HandDto hand, HandHistoryDto history) {
+        return new HandDto(hand.vira(), hand.dealtCards(), hand.openCards(), hand.roundsPlayed(), history,
+                hand.possibleActions(), hand.firstToPlay(), hand.lastToPlay(), hand.currentPlayer(),
+                hand.lastBetRaiser(), hand.eventPlayer(), hand.cartToPlayAgainst(), hand.points(),
+                hand.pointsProposal(), hand.winner(), hand.state());
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only log of game writes, used to replay the writes a write-behind repository had not flushed yet when the
+// process died. Records are appended to the current segment file and are durable when append returns. Appends use
+// group commit: one writer forces the channel for every record written so far while the others wait for it, so
+// concurrent writers share a single fsync. The owner rotates to a new segment before each flush and releases the
+// sealed segments once everything in them reached the backing repository.
+//
+// The first write of a game in a segment is recorded whole and the following updates only as deltas from the write
+// before them, so the size of a move record does not grow with the length of the game and every segment can be
+// replayed without the ones released before it. Replay applies each delta to the game it was taken from and drops
+// the ones that do not match it.
+//
+// Record layout: length (int), CRC32 of the body (int), body = kind (byte), game uuid (2 longs), payload. A torn
+// record at the end of a segment, left by a crash in the middle of a write, is ignored on replay.
+public class GameJournal implements AutoCloseable {
+
+    // Kind of a record on disk. Recovered entries hold whole games, so their kind is never DELTA.
+    public enum Kind {CREATE, UPDATE, DELETE, DELTA}
+
+    public record Entry(Kind kind, UUID gameUuid, GameDto game) {}
+
+    public interface Codec {
+        byte[] encode(GameDto game);
+        GameDto decode(byte[] bytes);
+    }
+
+    private static final String SEGMENT_PREFIX = "games-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int BODY_FIXED_SIZE = 1 + 2 * Long.BYTES;
+
+    private final Path directory;
+    private final Codec codec;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition forcedCondition = lock.newCondition();
+    private final List<Entry> recovered;
+    private final Set<UUID> recordedWhole = ConcurrentHashMap.newKeySet();
+
+    private FileChannel channel;
+    private long segment;
+    private long written;
+    private long forced;
+    private boolean forcing;
+
+    private GameJournal(Path directory, Codec codec) throws IOException {
+        this.directory = directory;
+        this.codec = codec;
+        Files.createDirectories(directory);
+
+        final List<Long> segments = segments();
+        this.recovered = new ArrayList<>();
+        for (long existing : segments) readSegment(existing, recovered);
+        this.segment = segments.isEmpty() ? 0 : segments.get(segments.size() - 1) + 1;
+        this.channel = openSegment(segment);
+    }
+
+    public static GameJournal open(Path directory, Codec codec) {
+        Objects.requireNonNull(directory, "Journal directory must not be null!");
+        Objects.requireNonNull(codec, "Journal codec must not be null!");
+        try {
+            return new GameJournal(directory, codec);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not open game journal at " + directory, e);
+        }
+    }
+
+    // Entries found in the segments left by the previous run, in the order they were written. They stay on disk until
+    // released with the segment number returned by the first rotation.
+    public List<Entry> recoveredEntries() {
+        return List.copyOf(recovered);
+    }
+
+    public void append(Kind kind, UUID gameUuid, GameDto game) {
+        if (kind == Kind.DELTA) throw new IllegalArgumentException("Deltas are appended as updates.");
+        final ByteBuffer record = encode(kind, gameUuid, game);
+        lock.lock();
+        try {
+            write(record, gameUuid, kind != Kind.DELETE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // The previous game must be the last one appended for its uuid: writes to the same game must not be concurrent.
+    // The record is encoded outside the lock.
+    public void appendUpdate(UUID gameUuid, GameDto previous, GameDto game) {
+        final ByteBuffer delta = previous != null && recordedWhole.contains(gameUuid)
+                ? GameDelta.between(previous, game).map(changes -> encode(Kind.DELTA, gameUuid, changes)).orElse(null)
+                : null;
+        final ByteBuffer record = delta != null ? delta : encode(Kind.UPDATE, gameUuid, game);
+        lock.lock();
+        try {
+            // A rotation since the check sealed the base of the delta in the previous segment.
+            final boolean baseSealed = delta != null && !recordedWhole.contains(gameUuid);
+            write(baseSealed ? encode(Kind.UPDATE, gameUuid, game) : record, gameUuid, true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called holding the lock. A game whose write failed may be missing from the segment, so its next update
+    // is recorded whole.
+    private void write(ByteBuffer record, UUID gameUuid, boolean stored) {
+        try {
+            while (record.hasRemaining()) channel.write(record);
+            if (stored) recordedWhole.add(gameUuid);
+            else recordedWhole.remove(gameUuid);
+            awaitForced(++written);
+        } catch (IOException e) {
+            recordedWhole.remove(gameUuid);
+            throw new UncheckedIOException("Can not append to game journal.", e);
+        }
+    }
+
+    // Must be called holding the lock. The first waiter becomes the leader and forces the channel outside the lock,
+    // covering every record written up to that moment; records written meanwhile are covered by the next leader.
+    private void awaitForced(long record) throws IOException {
+        while (forced < record) {
+            if (forcing) {
+                forcedCondition.awaitUninterruptibly();
+                continue;
+            }
+            forcing = true;
+            final long target = written;
+            final FileChannel current = channel;
+            lock.unlock();
+            try {
+                current.force(false);
+            } finally {
+                lock.lock();
+                forcing = false;
+                forcedCondition.signalAll();
+            }
+            forced = Math.max(forced, target);
+        }
+    }
+
+    // Seals the current segment and starts a new one. Returns the number of the sealed segment, which can be released
+    // once every entry written before the rotation is safe in the backing repository.
+    public long rotate() {
+        lock.lock();
+        try {
+            while (forcing) forcedCondition.awaitUninterruptibly();
+            channel.force(false);
+            channel.close();
+            forced = written;
+            forcedCondition.signalAll();
+            channel = openSegment(++segment);
+            recordedWhole.clear();
+            return segment - 1;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not rotate game journal.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(long upToSegment) {
+        try {
+            for (long sealed : segments()) {
+                if (sealed > upToSegment) break;
+                Files.deleteIfExists(segmentPath(sealed));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not release game journal segments.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            while (forcing) forcedCondition.awaitUninterruptibly();
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not close game journal.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ByteBuffer encode(Kind kind, UUID gameUuid, GameDto game) {
+        final byte[] payload = game != null ? codec.encode(game) : new byte[0];
+        final ByteBuffer body = ByteBuffer.allocate(BODY_FIXED_SIZE + payload.length);
+        body.put((byte) kind.ordinal())
+                .putLong(gameUuid.getMostSignificantBits())
+                .putLong(gameUuid.getLeastSignificantBits())
+                .put(payload)
+                .flip();
+
+        final CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + body.remaining());
+        record.putInt(body.remaining()).putInt((int) crc.getValue()).put(body).flip();
+        return record;
+    }
+
+    private void readSegment(long number, List<Entry> entries) throws IOException {
+        final Map<UUID, GameDto> games = new HashMap<>();
+        final ByteBuffer segmentBytes = ByteBuffer.wrap(Files.readAllBytes(segmentPath(number)));
+        while (segmentBytes.remaining() >= HEADER_SIZE) {
+            final int length = segmentBytes.getInt();
+            final int checksum = segmentBytes.getInt();
+            if (length < BODY_FIXED_SIZE || length > segmentBytes.remaining()) return;
+
+            final ByteBuffer body = segmentBytes.slice(segmentBytes.position(), length);
+            segmentBytes.position(segmentBytes.position() + length);
+            final CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) return;
+
+            final Kind kind = Kind.values()[body.get()];
+            final UUID gameUuid = new UUID(body.getLong(), body.getLong());
+            final byte[] payload = new byte[body.remaining()];
+            body.get(payload);
+            switch (kind) {
+                case DELETE -> {
+                    games.remove(gameUuid);
+                    entries.add(new Entry(kind, gameUuid, null));
+                }
+                case DELTA -> {
+                    final GameDto base = games.get(gameUuid);
+                    final Optional<GameDto> game = base != null
+                            ? GameDelta.apply(base, codec.decode(payload)) : Optional.empty();
+                    if (game.isEmpty()) continue;
+                    games.put(gameUuid, game.get());
+                    entries.add(new Entry(Kind.UPDATE, gameUuid, game.get()));
+                }
+                default -> {
+                    final GameDto game = codec.decode(payload);
+                    games.put(gameUuid, game);
+                    entries.add(new Entry(kind, gameUuid, game));
+                }
+            }
+        }
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + number + SEGMENT_SUFFIX);
+    }
+}
@@ -21,11 +21,16 @@
 package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+// A saved game is stored at version 0. An update carries the version of the stored game it was built on and, in
+// repositories that detect concurrent updates, is stored only over that same version, as the next one; otherwise it
+// fails, since another writer updated the game after it was read.
 public interface GameRepository {
     void save(GameDto gameDto);
     void update(GameDto gameDto);
@@ -34,4 +39,13 @@ public interface GameRepository {
 
     Collection<GameDto> findAllInactiveAfter(int minutes);
 
+    // Repositories that can query the last activity of a game directly should avoid loading whole games here.
+    default List<InactiveGameDto> findInactiveGamesAfter(int minutes) {
+        return findAllInactiveAfter(minutes).stream().map(InactiveGameDto::of).toList();
+    }
+
+    default void deleteAll(Collection<UUID> gameUuids) {
+        gameUuids.forEach(this::delete);
+    }
+
 }
@@ -22,16 +22,30 @@ package com.bueno.domain.usecases.game.repos;
 
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface GameResultRepository {
     void save(GameResultDto gameResultDto);
 
+    default void saveAll(Collection<GameResultDto> gameResultDtos) {
+        gameResultDtos.forEach(this::save);
+    }
+
     List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers);
 
     List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid);
 
+    // Matches of the user, most recent first, starting right after the given cursor, or from the most recent match
+    // when the cursor is null.
+    List<MatchHistoryEntryDto> findMatchesByUserUuid(UUID uuid, MatchCursorDto after, int limit);
+
+    List<LeaderboardEntryDto> findWinsByPlayer();
+
 }
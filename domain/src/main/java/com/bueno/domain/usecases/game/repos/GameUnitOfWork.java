@@ -0,0 +1,81 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.hand.converter.ConvertedHands;
+import com.bueno.domain.usecases.utils.exceptions.GameNotFoundException;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Loads the game of a player once for a whole request. Validation, the player move and every bot move that follows it
+// work on the same aggregate, which is written back on commit. The dtos of the hands it was loaded from are kept with
+// it, so a commit only converts what changed since the load or the previous commit.
+public class GameUnitOfWork {
+
+    private final GameRepository repository;
+    private final ConvertedHands convertedHands;
+    private final Game game;
+    private Long version;
+
+    private GameUnitOfWork(GameRepository repository, ConvertedHands convertedHands, Game game, Long version) {
+        this.repository = repository;
+        this.convertedHands = convertedHands;
+        this.game = game;
+        this.version = version;
+    }
+
+    public static GameUnitOfWork load(GameRepository repository, UUID playerUuid) {
+        Objects.requireNonNull(repository, "Repository must not be null!");
+        if (playerUuid == null) throw new NullPointerException("UUID is null.");
+
+        final GameDto dto = repository.findByPlayerUuid(playerUuid).orElseThrow(
+                () -> new GameNotFoundException("User with UUID " + playerUuid + " is not in an active game."));
+        final ConvertedHands convertedHands = new ConvertedHands();
+        return new GameUnitOfWork(repository, convertedHands, GameConverter.fromDto(dto, convertedHands), dto.version());
+    }
+
+    public Game game() {
+        return game;
+    }
+
+    // Each commit is built on the version the previous one stored, starting from the loaded one, so a game updated by
+    // another request in between is not overwritten.
+    public void commit() {
+        repository.update(GameConverter.toDto(game, convertedHands).withVersion(version));
+        if (version != null) version++;
+    }
+
+    // Commits the player move before running what follows it, like the bot turns, which are committed on their own
+    // once they complete. A failing follow-up is thrown to the caller without committing the half-applied game, so the
+    // stored game is always the one left by the player move or by a whole bot turn.
+    public <T> T commitThen(Function<Game, T> followUp) {
+        commit();
+        final long committedSequence = game.getLastSequence();
+        final T result = followUp.apply(game);
+        if (game.getLastSequence() != committedSequence) commit();
+        return result;
+    }
+}
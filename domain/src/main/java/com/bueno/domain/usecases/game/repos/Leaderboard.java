@@ -0,0 +1,181 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Wins of every registered player, kept sorted in memory and mirrored to a summary table. Each recorded game result
+// moves its winner one position in the ranking and updates one summary row, so the top players are read off the
+// head of the ranking instead of being counted from the game results table on every request.
+//
+// Results must be recorded only once they are stored, so the ranking never counts a result that was lost. The summary
+// is written after them, outside the ranking lock, and may fall behind if the process dies in between; it is rebuilt
+// from the game results on every start.
+//
+// Winners without a user account, like bots, are not ranked.
+public class Leaderboard {
+
+    private static final Logger LOGGER = Logger.getLogger(Leaderboard.class.getName());
+    private static final Comparator<LeaderboardEntryDto> RANKING = Comparator
+            .comparingInt(LeaderboardEntryDto::wins).reversed()
+            .thenComparing(LeaderboardEntryDto::username)
+            .thenComparing(LeaderboardEntryDto::playerUuid);
+
+    private final GameResultRepository gameResultRepository;
+    private final LeaderboardRepository leaderboardRepository;
+    private final UserRepository userRepository;
+    private final Map<UUID, LeaderboardEntryDto> entries = new HashMap<>();
+    private final NavigableSet<LeaderboardEntryDto> ranking = new TreeSet<>(RANKING);
+    private final Set<UUID> unsaved = new HashSet<>();
+    private final Object summaryLock = new Object();
+
+    public Leaderboard(GameResultRepository gameResultRepository, LeaderboardRepository leaderboardRepository,
+                       UserRepository userRepository) {
+        this.gameResultRepository = Objects.requireNonNull(gameResultRepository, "Game result repository must not be null!");
+        this.leaderboardRepository = Objects.requireNonNull(leaderboardRepository, "Leaderboard repository must not be null!");
+        this.userRepository = Objects.requireNonNull(userRepository, "User repository must not be null!");
+    }
+
+    // Counts the game results again and rewrites the summary. Wins recorded while it runs may be missed, so it is
+    // meant to run before any result is saved, like at startup.
+    public void rebuild() {
+        final List<LeaderboardEntryDto> wins = gameResultRepository.findWinsByPlayer();
+        synchronized (summaryLock) {
+            synchronized (this) {
+                replaceInMemory(wins);
+                unsaved.clear();
+            }
+            leaderboardRepository.replaceAll(wins);
+        }
+    }
+
+    private void replaceInMemory(Collection<LeaderboardEntryDto> newEntries) {
+        entries.clear();
+        ranking.clear();
+        newEntries.forEach(this::put);
+    }
+
+    public void record(GameResultDto gameResult) {
+        recordAll(List.of(gameResult));
+    }
+
+    // Usernames of players ranked for the first time are looked up before taking the ranking lock, so a user
+    // repository round trip never blocks readers of the ranking.
+    public void recordAll(Collection<GameResultDto> gameResults) {
+        final Map<UUID, String> newUsernames = usernamesOfNewWinners(gameResults);
+        synchronized (this) {
+            for (GameResultDto gameResult : gameResults) {
+                final UUID winnerUuid = gameResult.winnerUuid();
+                if (winnerUuid == null) continue;
+                entryOf(winnerUuid, newUsernames).ifPresent(entry -> {
+                    put(new LeaderboardEntryDto(winnerUuid, entry.username(), entry.wins() + 1));
+                    unsaved.add(winnerUuid);
+                });
+            }
+            if (unsaved.isEmpty()) return;
+        }
+        saveSummary();
+    }
+
+    private Map<UUID, String> usernamesOfNewWinners(Collection<GameResultDto> gameResults) {
+        final Set<UUID> newWinners = new HashSet<>();
+        synchronized (this) {
+            for (GameResultDto gameResult : gameResults) {
+                final UUID winnerUuid = gameResult.winnerUuid();
+                if (winnerUuid != null && !entries.containsKey(winnerUuid)) newWinners.add(winnerUuid);
+            }
+        }
+        final Map<UUID, String> usernames = new HashMap<>();
+        for (UUID winnerUuid : newWinners) {
+            userRepository.findByUuid(winnerUuid)
+                    .map(ApplicationUserDto::username)
+                    .ifPresent(username -> usernames.put(winnerUuid, username));
+        }
+        return usernames;
+    }
+
+    // One summary write at a time, each with the latest wins of every player changed since the previous one, so rows
+    // are never overwritten by an older count. A writer that waited for another may find nothing left to write. The
+    // results are already stored, so a failed write is not thrown back to the caller: its rows are written again
+    // with the next one.
+    private void saveSummary() {
+        synchronized (summaryLock) {
+            final List<LeaderboardEntryDto> rows;
+            synchronized (this) {
+                rows = unsaved.stream().map(entries::get).filter(Objects::nonNull).toList();
+                unsaved.clear();
+            }
+            if (rows.isEmpty()) return;
+            try {
+                leaderboardRepository.saveAll(rows);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Could not write " + rows.size() + " leaderboard rows, retrying on the next result.", e);
+                synchronized (this) {
+                    rows.forEach(row -> unsaved.add(row.playerUuid()));
+                }
+            }
+        }
+    }
+
+    private Optional<LeaderboardEntryDto> entryOf(UUID playerUuid, Map<UUID, String> newUsernames) {
+        final LeaderboardEntryDto entry = entries.get(playerUuid);
+        if (entry != null) return Optional.of(entry);
+        return Optional.ofNullable(newUsernames.get(playerUuid))
+                .map(username -> new LeaderboardEntryDto(playerUuid, username, 0));
+    }
+
+    private void put(LeaderboardEntryDto entry) {
+        final LeaderboardEntryDto previous = entries.put(entry.playerUuid(), entry);
+        if (previous != null) ranking.remove(previous);
+        ranking.add(entry);
+    }
+
+    public synchronized List<PlayerWinsDto> top(int numberOfPlayers) {
+        if (numberOfPlayers < 0) throw new IllegalArgumentException("Number of players must not be negative: " + numberOfPlayers);
+        final List<PlayerWinsDto> top = new ArrayList<>(Math.min(numberOfPlayers, ranking.size()));
+        final Iterator<LeaderboardEntryDto> iterator = ranking.iterator();
+        while (top.size() < numberOfPlayers && iterator.hasNext()) {
+            final LeaderboardEntryDto entry = iterator.next();
+            top.add(new PlayerWinsDto(entry.username(), entry.wins()));
+        }
+        return top;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+// Records every saved game result in the leaderboard, whichever use case saves it, and answers the top winners from
+// the leaderboard instead of the game results table. It wraps the repository that stores the results, beneath any
+// asynchronous sink, so a result is counted only after it was written and a dropped one is never counted.
+public class LeaderboardGameResultRepository implements GameResultRepository {
+
+    private final GameResultRepository delegate;
+    private final Leaderboard leaderboard;
+
+    public LeaderboardGameResultRepository(GameResultRepository delegate, Leaderboard leaderboard) {
+        this.delegate = Objects.requireNonNull(delegate, "Game result repository must not be null!");
+        this.leaderboard = Objects.requireNonNull(leaderboard, "Leaderboard must not be null!");
+    }
+
+    @Override
+    public void save(GameResultDto gameResultDto) {
+        delegate.save(gameResultDto);
+        leaderboard.record(gameResultDto);
+    }
+
+    @Override
+    public void saveAll(Collection<GameResultDto> gameResultDtos) {
+        delegate.saveAll(gameResultDtos);
+        leaderboard.recordAll(gameResultDtos);
+    }
+
+    @Override
+    public List<PlayerWinsDto> findTopWinners(Integer maxNumberOfUsers) {
+        return leaderboard.top(maxNumberOfUsers);
+    }
+
+    @Override
+    public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
+        return delegate.findAllByUserUuid(uuid);
+    }
+
+    @Override
+    public List<MatchHistoryEntryDto> findMatchesByUserUuid(UUID uuid, MatchCursorDto after, int limit) {
+        return delegate.findMatchesByUserUuid(uuid, after, limit);
+    }
+
+    @Override
+    public List<LeaderboardEntryDto> findWinsByPlayer() {
+        return delegate.findWinsByPlayer();
+    }
+}
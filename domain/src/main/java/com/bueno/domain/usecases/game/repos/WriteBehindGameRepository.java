@@ -0,0 +1,346 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameJournal.Entry;
+import com.bueno.domain.usecases.game.repos.GameJournal.Kind;
+import com.bueno.domain.usecases.utils.exceptions.StaleGameUpdateException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Caching decorator that answers reads from memory and writes to the backing repository in the background. Every write
+// updates the in-memory copy, marks the game dirty and, if there is a journal, is appended to it before returning.
+// A flusher writes each dirty game once per interval, however many moves it received, and removes deleted games in a
+// single batch. Journal segments are released only after a flush wrote everything they hold, so the writes that were
+// still in memory when the process died are replayed into the backing repository on the next start.
+//
+// Games are cached as DTOs: each request works on its own aggregate, as with the other DTO repositories, so concurrent
+// requests never share a mutable Game. Writes to the same game are serialized by the lock of its stripe. Each cached
+// game has a version that every update moves on by one, and an update that was not built on the cached version,
+// because it was made from a stale copy, is rejected before it is journaled. Since the flusher coalesces updates, the
+// version each game is stored at in the backing repository is tracked apart from the cached one, and every update
+// sent there carries it.
+public class WriteBehindGameRepository implements GameRepository, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(WriteBehindGameRepository.class.getName());
+    private static final int LOCK_STRIPES = 64;
+
+    private final GameRepository backing;
+    private final GameJournal journal;
+    private final ConcurrentGameRepositoryImpl cache = new ConcurrentGameRepositoryImpl();
+    private final Map<UUID, PendingWrite> dirty = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> storedVersions = new ConcurrentHashMap<>();
+    private final Lock[] locks = new Lock[LOCK_STRIPES];
+    private final ScheduledExecutorService flusher;
+    private final AtomicLong flushedGames = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public WriteBehindGameRepository(GameRepository backing, Duration flushInterval) {
+        this(backing, flushInterval, null);
+    }
+
+    public WriteBehindGameRepository(GameRepository backing, Duration flushInterval, GameJournal journal) {
+        this.backing = Objects.requireNonNull(backing, "Backing repository must not be null!");
+        Objects.requireNonNull(flushInterval, "Flush interval must not be null!");
+        if (flushInterval.isNegative() || flushInterval.isZero())
+            throw new IllegalArgumentException("Flush interval must be positive: " + flushInterval);
+        this.journal = journal;
+        for (int stripe = 0; stripe < LOCK_STRIPES; stripe++) locks[stripe] = new ReentrantLock();
+        if (journal != null) recover(journal);
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "game-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Writes of the previous run are applied synchronously, before anything is served. Only the newest write of each
+    // game matters, and since it may already have reached the backing repository before the crash, it is applied in a
+    // way that works whether or not the game is stored there.
+    private void recover(GameJournal journal) {
+        final List<Entry> entries = journal.recoveredEntries();
+        if (entries.isEmpty()) return;
+
+        final Map<UUID, Entry> lastWrites = new LinkedHashMap<>();
+        entries.forEach(entry -> lastWrites.merge(entry.gameUuid(), entry, WriteBehindGameRepository::newer));
+        final List<UUID> deletes = new ArrayList<>();
+        for (Entry entry : lastWrites.values()) {
+            if (entry.kind() == Kind.DELETE) deletes.add(entry.gameUuid());
+            else createOrUpdate(entry.game());
+        }
+        if (!deletes.isEmpty()) deleteStored(deletes);
+        journal.release(journal.rotate());
+    }
+
+    // A deleted game stays deleted, and a write older than the one already found is stale.
+    private static Entry newer(Entry found, Entry next) {
+        if (found.kind() == Kind.DELETE || next.kind() == Kind.DELETE) return found.kind() == Kind.DELETE ? found : next;
+        return GameDelta.nextSequenceOf(next.game()) > GameDelta.nextSequenceOf(found.game()) ? next : found;
+    }
+
+    @Override
+    public void save(GameDto gameDto) {
+        final UUID gameUuid = gameDto.gameUuid();
+        final Lock lock = lockOf(gameUuid);
+        lock.lock();
+        try {
+            final GameDto created = gameDto.withVersion(0L);
+            cache.save(created);
+            markDirty(gameUuid, new PendingWrite(Kind.CREATE, created));
+            if (journal != null) journal.append(Kind.CREATE, gameUuid, created);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void update(GameDto gameDto) {
+        final UUID gameUuid = gameDto.gameUuid();
+        final Lock lock = lockOf(gameUuid);
+        lock.lock();
+        try {
+            final GameDto cached = cache.findByPlayerUuid(gameDto.player1().uuid())
+                    .filter(game -> game.gameUuid().equals(gameUuid))
+                    .orElse(null);
+            if (cached != null && !Objects.equals(gameDto.version(), cached.version()))
+                throw new StaleGameUpdateException("Game " + gameUuid + " was updated from a stale copy: it was built "
+                        + "on version " + gameDto.version() + " but the cached game is at version " + cached.version() + ".");
+            final GameDto updated = gameDto.withVersion(gameDto.version() == null ? null : gameDto.version() + 1);
+            cache.update(updated);
+            markDirty(gameUuid, new PendingWrite(Kind.UPDATE, updated));
+            if (journal != null) journal.appendUpdate(gameUuid, cached, updated);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(UUID uuid) {
+        final Lock lock = lockOf(uuid);
+        lock.lock();
+        try {
+            cache.delete(uuid);
+            markDirty(uuid, new PendingWrite(Kind.DELETE, null));
+            if (journal != null) journal.append(Kind.DELETE, uuid, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> gameUuids) {
+        gameUuids.forEach(this::delete);
+    }
+
+    private Lock lockOf(UUID gameUuid) {
+        Objects.requireNonNull(gameUuid, "Game UUID must not be null!");
+        return locks[Math.floorMod(gameUuid.hashCode(), LOCK_STRIPES)];
+    }
+
+    // The game is marked dirty before it is journaled: a rotation that happens after the append then always finds
+    // the game dirty, so a sealed segment never holds a write the next flush does not cover.
+    private void markDirty(UUID gameUuid, PendingWrite write) {
+        dirty.compute(gameUuid, (uuid, pending) -> pending == null ? write : pending.followedBy(write));
+    }
+
+    @Override
+    public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
+        final Optional<GameDto> cached = cache.findByPlayerUuid(playerUuid);
+        if (cached.isPresent()) return cached;
+
+        final Optional<GameDto> stored = backing.findByPlayerUuid(playerUuid)
+                .filter(game -> !isPendingDelete(game.gameUuid()));
+        stored.ifPresent(game -> {
+            if (game.version() != null) storedVersions.putIfAbsent(game.gameUuid(), game.version());
+        });
+        final Optional<GameDto> loaded = stored.map(game -> game.version() == null ? game.withVersion(0L) : game);
+        loaded.ifPresent(cache::save);
+        return loaded;
+    }
+
+    // The backing repository answers for the games that are not dirty; the dirty ones were just written to.
+    @Override
+    public Collection<GameDto> findAllInactiveAfter(int minutes) {
+        return backing.findAllInactiveAfter(minutes).stream()
+                .filter(game -> !dirty.containsKey(game.gameUuid()))
+                .toList();
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveGamesAfter(int minutes) {
+        return backing.findInactiveGamesAfter(minutes).stream()
+                .filter(game -> !dirty.containsKey(game.gameUuid()))
+                .toList();
+    }
+
+    private boolean isPendingDelete(UUID gameUuid) {
+        final PendingWrite pending = dirty.get(gameUuid);
+        return pending != null && pending.kind() == Kind.DELETE;
+    }
+
+    // Writes every dirty game to the backing repository. Games that fail stay dirty and are retried on the next flush.
+    public synchronized void flush() {
+        final long sealedSegment = journal != null ? journal.rotate() : -1;
+        final List<UUID> deletes = new ArrayList<>();
+        boolean failed = false;
+
+        for (UUID gameUuid : List.copyOf(dirty.keySet())) {
+            final PendingWrite write = dirty.remove(gameUuid);
+            if (write == null) continue;
+            if (write.kind() == Kind.DELETE) {
+                deletes.add(gameUuid);
+                continue;
+            }
+            try {
+                if (write.kind() == Kind.CREATE) createOrUpdate(write.game());
+                else updateOrCreate(write.game());
+                flushedGames.incrementAndGet();
+            } catch (RuntimeException e) {
+                failed = true;
+                retryLater(gameUuid, write, e);
+            }
+        }
+
+        if (!deletes.isEmpty()) {
+            try {
+                deleteStored(deletes);
+                flushedGames.addAndGet(deletes.size());
+            } catch (RuntimeException e) {
+                failed = true;
+                deletes.forEach(gameUuid -> retryLater(gameUuid, new PendingWrite(Kind.DELETE, null), e));
+            }
+        }
+
+        if (!failed && journal != null) journal.release(sealedSegment);
+    }
+
+    // A replayed write may have reached the backing repository before the crash, so creation and update fall back
+    // on each other.
+    private void createOrUpdate(GameDto game) {
+        try {
+            createStored(game);
+        } catch (RuntimeException alreadyExists) {
+            updateStored(game);
+        }
+    }
+
+    private void updateOrCreate(GameDto game) {
+        try {
+            updateStored(game);
+        } catch (RuntimeException doesNotExist) {
+            createStored(game);
+        }
+    }
+
+    private void createStored(GameDto game) {
+        backing.save(game);
+        storedVersions.put(game.gameUuid(), 0L);
+    }
+
+    // A game whose stored version is unknown, because it was stored by a previous run, is read back to learn it. If
+    // the update fails, the version is read again on the retry.
+    private void updateStored(GameDto game) {
+        final UUID gameUuid = game.gameUuid();
+        final Long version = Optional.ofNullable(storedVersions.remove(gameUuid))
+                .or(() -> backing.findByPlayerUuid(game.player1().uuid())
+                        .filter(stored -> stored.gameUuid().equals(gameUuid))
+                        .map(GameDto::version))
+                .orElse(null);
+        backing.update(game.withVersion(version));
+        if (version != null) storedVersions.put(gameUuid, version + 1);
+    }
+
+    private void deleteStored(List<UUID> gameUuids) {
+        backing.deleteAll(gameUuids);
+        gameUuids.forEach(storedVersions::remove);
+    }
+
+    private void retryLater(UUID gameUuid, PendingWrite write, RuntimeException cause) {
+        failedFlushes.incrementAndGet();
+        LOGGER.log(Level.WARNING, "Could not flush game " + gameUuid + ", retrying on the next flush.", cause);
+        dirty.compute(gameUuid, (uuid, newer) -> newer == null ? write : write.followedBy(newer));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.SEVERE, "Game write-behind flush failed.", e);
+        }
+    }
+
+    public int dirtyGames() {
+        return dirty.size();
+    }
+
+    public long flushedGames() {
+        return flushedGames.get();
+    }
+
+    public long failedFlushes() {
+        return failedFlushes.get();
+    }
+
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(1, TimeUnit.MINUTES)) flusher.shutdownNow();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        if (journal != null) journal.close();
+    }
+
+    private record PendingWrite(Kind kind, GameDto game) {
+
+        // Coalesces two writes to the same game: a game created and then updated is still created, and a game created
+        // and then deleted never needs to reach the backing repository.
+        private PendingWrite followedBy(PendingWrite next) {
+            if (next.kind() == Kind.DELETE) return kind == Kind.CREATE ? null : next;
+            if (kind == Kind.CREATE) return new PendingWrite(Kind.CREATE, next.game());
+            return next;
+        }
+    }
+}
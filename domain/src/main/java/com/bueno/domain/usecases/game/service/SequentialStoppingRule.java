@@ -0,0 +1,82 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.ConfidenceIntervalDto;
+
+// Confidence-interval stopping rule for a sequence of games between two bots. The win rate of the first bot is
+// estimated with the Wilson score interval, which behaves well for small samples and rates close to 0 or 1. A matchup
+// is decided when the interval no longer contains 50%. Since the test is repeated after every batch, batches should
+// not be too small, otherwise the real error rate gets larger than the nominal one.
+public record SequentialStoppingRule(double confidence, int minGames, int maxGames, int batchSize) {
+
+    public static final int DEFAULT_MIN_GAMES = 10;
+    public static final int DEFAULT_BATCH_SIZE = 10;
+
+    public SequentialStoppingRule {
+        if (confidence <= 0.0 || confidence >= 1.0)
+            throw new IllegalArgumentException("Confidence must be between 0 and 1: " + confidence);
+        if (minGames < 1) throw new IllegalArgumentException("Minimum number of games must be positive: " + minGames);
+        if (maxGames < minGames)
+            throw new IllegalArgumentException("Maximum number of games must not be less than the minimum: " + maxGames);
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+    }
+
+    public SequentialStoppingRule(double confidence, int maxGames) {
+        this(confidence, Math.min(DEFAULT_MIN_GAMES, maxGames), maxGames, DEFAULT_BATCH_SIZE);
+    }
+
+    public static SequentialStoppingRule fixed(int games, double confidence) {
+        return new SequentialStoppingRule(confidence, games, games, games);
+    }
+
+    public boolean shouldStop(long wins, long games) {
+        if (games >= maxGames) return true;
+        return games >= minGames && isDecided(wins, games);
+    }
+
+    public boolean isDecided(long wins, long games) {
+        return games > 0 && !interval(wins, games).contains(0.5);
+    }
+
+    public int nextBatchSize(long games) {
+        if (games < minGames) return (int) (minGames - games);
+        return (int) Math.min(batchSize, maxGames - games);
+    }
+
+    public ConfidenceIntervalDto interval(long wins, long games) {
+        if (games == 0) return new ConfidenceIntervalDto(0.0, 0.0, 1.0, confidence);
+        final double z = zScore(confidence);
+        final double rate = (double) wins / games;
+        final double zSquaredOverN = z * z / games;
+        final double denominator = 1 + zSquaredOverN;
+        final double center = (rate + zSquaredOverN / 2) / denominator;
+        final double halfWidth = z * Math.sqrt(rate * (1 - rate) / games + zSquaredOverN / (4 * games)) / denominator;
+        return new ConfidenceIntervalDto(rate, Math.max(0.0, center - halfWidth), Math.min(1.0, center + halfWidth), confidence);
+    }
+
+    // Two-sided normal quantile, rational approximation 26.2.23 of Abramowitz and Stegun (error below 4.5e-4).
+    static double zScore(double confidence) {
+        final double tail = (1 - confidence) / 2;
+        final double t = Math.sqrt(-2 * Math.log(tail));
+        return t - (2.515517 + 0.802853 * t + 0.010328 * t * t) / (1 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+    }
+}
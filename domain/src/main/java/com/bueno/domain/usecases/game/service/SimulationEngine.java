@@ -0,0 +1,150 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.EnumSet;
+import java.util.Objects;
+
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toCard;
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
+
+// Plays a bot versus bot game directly on the Game aggregate, without repositories or DTO conversions.
+// The decision flow mirrors BotUseCase and its handlers, so results are the same as the use case path.
+public class SimulationEngine {
+
+    private final Game game;
+    private final Player player1;
+    private final BotServiceProvider bot1;
+    private final BotServiceProvider bot2;
+
+    public SimulationEngine(Game game) {
+        this(game,
+                BotServiceManager.load(game.getPlayer1().getUsername()),
+                BotServiceManager.load(game.getPlayer2().getUsername()));
+    }
+
+    public SimulationEngine(Game game, BotServiceProvider bot1, BotServiceProvider bot2) {
+        this.game = Objects.requireNonNull(game, "Game must not be null!");
+        this.bot1 = Objects.requireNonNull(bot1, "Bot service of player 1 must not be null!");
+        this.bot2 = Objects.requireNonNull(bot2, "Bot service of player 2 must not be null!");
+        this.player1 = game.getPlayer1();
+        if (!player1.isBot() || !game.getPlayer2().isBot())
+            throw new IllegalArgumentException("Simulation engine only supports games between bots.");
+    }
+
+    public Intel play() {
+        while (!game.isDone()) playNextMove();
+        return game.getIntel();
+    }
+
+    public void playNextMove() {
+        if (game.isDone()) throw new IllegalStateException("Can not play because game is over.");
+
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        final Intel intel = hand.getLastIntel();
+        final EnumSet<PossibleAction> actions = hand.getPossibleActions();
+        final BotServiceProvider bot = player.equals(player1) ? bot1 : bot2;
+        final GameIntel gameIntel = toGameIntel(player, intel);
+
+        if (isMaoDeOnzeDecision(intel)) {
+            decideMaoDeOnze(hand, player, bot.getMaoDeOnzeResponse(gameIntel));
+            return;
+        }
+
+        if (actions.contains(PossibleAction.RAISE) && !actions.contains(PossibleAction.QUIT)
+                && bot.decideIfRaises(gameIntel)) {
+            hand.raise(player);
+            return;
+        }
+
+        if (actions.contains(PossibleAction.PLAY)) {
+            playCard(hand, player, bot.chooseCard(gameIntel));
+            return;
+        }
+
+        if (!intel.isMaoDeOnze()) {
+            respondRaise(hand, player, actions, bot.getRaiseResponse(gameIntel));
+            return;
+        }
+
+        throw new IllegalStateException("No bot action available for possible actions: " + actions);
+    }
+
+    private boolean isMaoDeOnzeDecision(Intel intel) {
+        return intel.isMaoDeOnze() && HandPoints.fromIntValue(intel.handPoints()) == HandPoints.ONE;
+    }
+
+    private void decideMaoDeOnze(Hand hand, Player player, boolean hasAccepted) {
+        if (hasAccepted) {
+            hand.accept(player);
+            return;
+        }
+        hand.quit(player);
+        handleResult();
+    }
+
+    private void playCard(Hand hand, Player player, CardToPlay chosenCard) {
+        final Card card = toCard(chosenCard.content());
+        final Card playedCard = chosenCard.isDiscard() ? player.discard(card) : player.play(card);
+
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
+        else hand.playSecondCard(player, playedCard);
+        handleResult();
+    }
+
+    private void respondRaise(Hand hand, Player player, EnumSet<PossibleAction> actions, int response) {
+        if (response < -1 || response > 1)
+            throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
+        if (response == 1 && !actions.contains(PossibleAction.RAISE)) response = 0;
+
+        switch (response) {
+            case -1 -> {
+                hand.quit(player);
+                handleResult();
+            }
+            case 0 -> hand.accept(player);
+            case 1 -> hand.raise(player);
+        }
+    }
+
+    private void handleResult() {
+        if (game.currentHand().getResult().isEmpty()) return;
+        game.updateScores();
+        if (!game.isDone()) game.prepareNewHand();
+    }
+
+    public Game getGame() {
+        return game;
+    }
+}
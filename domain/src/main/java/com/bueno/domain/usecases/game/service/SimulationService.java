@@ -1,57 +1,81 @@
 package com.bueno.domain.usecases.game.service;
 
-import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
-import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.HistoryRetention;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.DuplicatePairDto;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
-import com.bueno.domain.usecases.game.repos.GameRepository;
-import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Stream;
 
 public class SimulationService {
+   private static final Logger LOGGER = Logger.getLogger(SimulationService.class.getName());
    private final UUID uuidBot1;
    private final String bot1Name;
    private final UUID uuidBot2;
    private final String bot2Name;
+   private final HistoryRetention retention;
 
+    // Simulated games only need the intel of the current move, so by default they keep no event history.
     public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName) {
+        this(uuidBotToEvaluate, botToEvaluateName, challengedBotName, HistoryRetention.NONE);
+    }
+
+    public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName,
+                             HistoryRetention retention) {
         this.uuidBot1 = uuidBotToEvaluate;
         this.bot1Name = botToEvaluateName;
         this.uuidBot2 = UUID.randomUUID();;
         this.bot2Name = challengedBotName;
+        this.retention = Objects.requireNonNull(retention);
     }
 
-    public List<PlayWithBotsDto> runInParallel(int times) {
+    // Games that fail are logged and counted in the results instead of being silently left out.
+    public MatchupResultsDto runInParallel(int times) {
         final Callable<PlayWithBotsDto> gameWaitingForBeCreatedAndPlayed = this::simulate;
-        return Stream.generate(() -> gameWaitingForBeCreatedAndPlayed)
+        final List<List<PlayWithBotsDto>> games = Stream.generate(() -> gameWaitingForBeCreatedAndPlayed)
                 .limit(times)
                 .parallel()
                 .map(executeGameCall())
                 .filter(Objects::nonNull)
+                .map(List::of)
                 .toList();
+        return new MatchupResultsDto(games, times - games.size());
+    }
+
+    PlayWithBotsDto simulate(){
+        final var random = new SplittableRandom(ThreadLocalRandom.current().nextLong());
+        return play(new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name), random, retention));
+    }
+
+    // Both games deal from the same seed. Swapping the seats makes each bot receive the cards its opponent got in the
+    // other game, so the luck of the deal cancels out within the pair.
+    DuplicatePairDto simulateDuplicate(long seed) {
+        final var game = new Game(Player.ofBot(uuidBot1, bot1Name), Player.ofBot(uuidBot2, bot2Name),
+                new SplittableRandom(seed), retention);
+        final var mirroredGame = new Game(Player.ofBot(uuidBot2, bot2Name), Player.ofBot(uuidBot1, bot1Name),
+                new SplittableRandom(seed), retention);
+        return new DuplicatePairDto(seed, play(game), play(mirroredGame));
     }
 
-    private PlayWithBotsDto simulate(){
-        GameRepository gameRepository = new GameRepoDisposableImpl();
-        final var requestModel = new CreateForBotsDto(uuidBot1, bot1Name, uuidBot2, bot2Name);
-        final CreateGameUseCase createGameUseCase = new CreateGameUseCase(gameRepository);
-        createGameUseCase.createForBots(requestModel);
-        final var game = gameRepository.findByPlayerUuid(requestModel.bot1Uuid()).map(GameConverter::fromDto).orElseThrow();
-        final var botUseCase = new BotUseCase(gameRepository);
+    private PlayWithBotsDto play(Game game) {
+        final var engine = new SimulationEngine(game);
 
         //Plays the game
-        final var intel = botUseCase.playWhenNecessary(game);
+        final var intel = engine.play();
 
         final var winnerUUID = intel.gameWinner().orElseThrow();
-        final var winnerName = winnerUUID.equals(requestModel.bot1Uuid()) ?
-                requestModel.bot1Name() : requestModel.bot2Name();
+        final var winnerName = winnerUUID.equals(uuidBot1) ? bot1Name : bot2Name;
 //        System.out.println("Winner: " + winnerName);
         return new PlayWithBotsDto(winnerUUID, winnerName);
     }
@@ -63,7 +87,8 @@ public class SimulationService {
                 return gameCall.call();
             }
             catch (Exception e) {
-                e.printStackTrace();
+                LOGGER.log(Level.WARNING, "Could not play a game of " + bot1Name + " against " + bot2Name
+                        + ", counting it as failed.", e);
                 return null;
             }
         };
@@ -0,0 +1,198 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.hand.HistoryRetention;
+import com.bueno.domain.usecases.game.dtos.Dealing;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.TournamentProgressDto;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+// Plays every deal of every matchup as an independent task in a single work-stealing pool. Tasks are submitted
+// interleaved by matchup, so long and short matchups are spread over all workers instead of running one after another.
+// A deal is one game, or a pair of mirrored games with duplicate dealing. A deal that fails is logged and counted as
+// failed, in the progress and in the results of its matchup, instead of stopping the tournament.
+public class TournamentScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(TournamentScheduler.class.getName());
+
+    public static final double DEFAULT_CONFIDENCE = 0.95;
+
+    private final int parallelism;
+    private final Dealing dealing;
+    private final Consumer<TournamentProgressDto> progressListener;
+
+    public TournamentScheduler() {
+        this(Runtime.getRuntime().availableProcessors(), progress -> {});
+    }
+
+    public TournamentScheduler(int parallelism, Consumer<TournamentProgressDto> progressListener) {
+        this(parallelism, Dealing.RANDOM, progressListener);
+    }
+
+    public TournamentScheduler(int parallelism, Dealing dealing, Consumer<TournamentProgressDto> progressListener) {
+        if (parallelism < 1) throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        this.parallelism = parallelism;
+        this.dealing = Objects.requireNonNull(dealing, "Dealing must not be null!");
+        this.progressListener = Objects.requireNonNull(progressListener, "Progress listener must not be null!");
+    }
+
+    public Map<Matchup, MatchupResultsDto> play(List<Matchup> matchups, int dealsPerMatchup) {
+        if (dealsPerMatchup < 1) throw new IllegalArgumentException("Deals per matchup must be positive: " + dealsPerMatchup);
+        return play(matchups, SequentialStoppingRule.fixed(dealsPerMatchup, DEFAULT_CONFIDENCE));
+    }
+
+    // Plays the matchups in rounds. Each round submits the next batch of deals of every matchup still running and,
+    // once it is over, asks the stopping rule which matchups are already decided from the point of view of their
+    // first bot. Only decided deals are scored, so split duplicate pairs count towards the cap but not the estimate.
+    public Map<Matchup, MatchupResultsDto> play(List<Matchup> matchups, SequentialStoppingRule stoppingRule) {
+        Objects.requireNonNull(matchups, "Matchups must not be null!");
+        Objects.requireNonNull(stoppingRule, "Stopping rule must not be null!");
+
+        final List<List<List<PlayWithBotsDto>>> results = new ArrayList<>();
+        final long[] playedDeals = new long[matchups.size()];
+        final Progress progress = new Progress((long) matchups.size() * stoppingRule.maxGames() * gamesPerDeal());
+        final List<SimulationService> simulators = matchups.stream()
+                .map(matchup -> new SimulationService(UUID.randomUUID(), matchup.bot1Name(), matchup.bot2Name(),
+                        HistoryRetention.NONE))
+                .toList();
+        matchups.forEach(matchup -> results.add(new ArrayList<>()));
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Integer> running = new ArrayList<>();
+            for (int matchup = 0; matchup < matchups.size(); matchup++) running.add(matchup);
+
+            while (!running.isEmpty()) {
+                final Map<Integer, List<List<PlayWithBotsDto>>> batch = new HashMap<>();
+                running.forEach(matchup -> batch.put(matchup,
+                        new ArrayList<>(Collections.nCopies(stoppingRule.nextBatchSize(playedDeals[matchup]), null))));
+                playBatch(pool, matchups, running, batch, simulators, progress);
+
+                final List<Integer> stillRunning = new ArrayList<>();
+                for (int matchup : running) {
+                    playedDeals[matchup] += batch.get(matchup).size();
+                    final List<List<PlayWithBotsDto>> matchupDeals = results.get(matchup);
+                    batch.get(matchup).stream().filter(Objects::nonNull).forEach(matchupDeals::add);
+
+                    final MatchupResultsDto matchupResults = resultsOf(matchupDeals, playedDeals[matchup]);
+                    final long wins = matchupResults.dealsWonBy(matchups.get(matchup).bot1Name());
+                    if (playedDeals[matchup] >= stoppingRule.maxGames() || stoppingRule.shouldStop(wins, matchupResults.decidedDeals()))
+                        progress.gamesSkipped((stoppingRule.maxGames() - playedDeals[matchup]) * gamesPerDeal());
+                    else stillRunning.add(matchup);
+                }
+                running = stillRunning;
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        final Map<Matchup, MatchupResultsDto> resultsByMatchup = new LinkedHashMap<>();
+        for (int matchup = 0; matchup < matchups.size(); matchup++)
+            resultsByMatchup.put(matchups.get(matchup), resultsOf(results.get(matchup), playedDeals[matchup]));
+        return resultsByMatchup;
+    }
+
+    private MatchupResultsDto resultsOf(List<List<PlayWithBotsDto>> deals, long playedDeals) {
+        return new MatchupResultsDto(deals, (playedDeals - deals.size()) * gamesPerDeal());
+    }
+
+    private void playBatch(ForkJoinPool pool, List<Matchup> matchups, List<Integer> running, Map<Integer, List<List<PlayWithBotsDto>>> batch,
+                           List<SimulationService> simulators, Progress progress) {
+        final int largestBatch = running.stream().mapToInt(matchup -> batch.get(matchup).size()).max().orElse(0);
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (int deal = 0; deal < largestBatch; deal++) {
+            for (int matchup : running) {
+                final List<List<PlayWithBotsDto>> deals = batch.get(matchup);
+                if (deal >= deals.size()) continue;
+                final int matchupIndex = matchup;
+                final int dealIndex = deal;
+                tasks.add(pool.submit(() -> {
+                    final List<PlayWithBotsDto> played = playSafely(matchups.get(matchupIndex), simulators.get(matchupIndex));
+                    deals.set(dealIndex, played);
+                    progress.gamesCompleted(gamesPerDeal(), played == null);
+                }));
+            }
+        }
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private List<PlayWithBotsDto> playSafely(Matchup matchup, SimulationService simulator) {
+        try {
+            if (dealing == Dealing.DUPLICATE)
+                return simulator.simulateDuplicate(ThreadLocalRandom.current().nextLong()).games();
+            return List.of(simulator.simulate());
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not play a deal of " + matchup.bot1Name() + " against "
+                    + matchup.bot2Name() + ", counting it as failed.", e);
+            return null;
+        }
+    }
+
+    private int gamesPerDeal() {
+        return dealing == Dealing.DUPLICATE ? 2 : 1;
+    }
+
+    private class Progress {
+        private final long start = System.nanoTime();
+        private final AtomicLong totalGames;
+        private final AtomicLong completedGames = new AtomicLong();
+        private final AtomicLong failedGames = new AtomicLong();
+        private final long reportStep;
+
+        private Progress(long totalGames) {
+            this.totalGames = new AtomicLong(totalGames);
+            this.reportStep = Math.max(1, totalGames / 100);
+        }
+
+        private void gamesCompleted(int games, boolean failed) {
+            if (failed) failedGames.addAndGet(games);
+            final long completed = completedGames.addAndGet(games);
+            final long total = totalGames.get();
+            if (completed / reportStep != (completed - games) / reportStep || completed == total) report(completed, total);
+        }
+
+        // Games of a matchup that stopped early will never be played, so they are no longer part of the estimate.
+        private void gamesSkipped(long games) {
+            if (games <= 0) return;
+            final long total = totalGames.addAndGet(-games);
+            final long completed = completedGames.get();
+            if (completed == total) report(completed, total);
+        }
+
+        private void report(long completed, long total) {
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            final double gamesPerSecond = completed / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+            final Duration eta = Duration.ofSeconds(Math.round((total - completed) / gamesPerSecond));
+            progressListener.accept(new TournamentProgressDto(completed, failedGames.get(), total, elapsed, gamesPerSecond, eta));
+        }
+    }
+}
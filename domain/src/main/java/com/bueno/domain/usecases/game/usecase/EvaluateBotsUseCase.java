@@ -1,54 +1,92 @@
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.game.dtos.ConfidenceIntervalDto;
+import com.bueno.domain.usecases.game.dtos.Dealing;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-import com.bueno.domain.usecases.game.service.SimulationService;
-import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
+import com.bueno.domain.usecases.game.dtos.TournamentProgressDto;
+import com.bueno.domain.usecases.game.service.Matchup;
+import com.bueno.domain.usecases.game.service.SequentialStoppingRule;
+import com.bueno.domain.usecases.game.service.TournamentScheduler;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 public class EvaluateBotsUseCase {
-    private final UUID uuidBotToEvaluate = UUID.randomUUID();
     private final String botToEvaluateName;
+    private final TournamentScheduler scheduler;
+    private final SequentialStoppingRule stoppingRule;
     public static final int TIMES = 31;
 
     public EvaluateBotsUseCase(String botToEvaluateName) {
         this.botToEvaluateName = botToEvaluateName;
+        this.scheduler = new TournamentScheduler();
+        this.stoppingRule = SequentialStoppingRule.fixed(TIMES, TournamentScheduler.DEFAULT_CONFIDENCE);
     }
 
-    public EvaluateResultsDto getResults(List<String> botNames) {
-        final int numberOfGames = (botNames.size() - 1) * TIMES;
+    public EvaluateBotsUseCase(String botToEvaluateName, int parallelism,
+                               Consumer<TournamentProgressDto> progressListener) {
+        this.botToEvaluateName = botToEvaluateName;
+        this.scheduler = new TournamentScheduler(parallelism, progressListener);
+        this.stoppingRule = SequentialStoppingRule.fixed(TIMES, TournamentScheduler.DEFAULT_CONFIDENCE);
+    }
+
+    // Adaptive evaluation: each opponent is played until the win rate against it is known to be above or below 50%
+    // at the given confidence, or until maxGamesPerOpponent games have been played.
+    public EvaluateBotsUseCase(String botToEvaluateName, double confidence, int maxGamesPerOpponent, int parallelism,
+                               Consumer<TournamentProgressDto> progressListener) {
+        this(botToEvaluateName, confidence, maxGamesPerOpponent, parallelism, Dealing.RANDOM, progressListener);
+    }
+
+    // With duplicate dealing every opponent is played in mirrored pairs, at most maxDealsPerOpponent of them, and the
+    // win rates are estimated from the pairs one bot won outright.
+    public EvaluateBotsUseCase(String botToEvaluateName, double confidence, int maxDealsPerOpponent, int parallelism,
+                               Dealing dealing, Consumer<TournamentProgressDto> progressListener) {
+        this.botToEvaluateName = botToEvaluateName;
+        this.scheduler = new TournamentScheduler(parallelism, dealing, progressListener);
+        this.stoppingRule = new SequentialStoppingRule(confidence, maxDealsPerOpponent);
+    }
 
+    public EvaluateResultsDto getResults(List<String> botNames) {
         final long start = System.currentTimeMillis();
-        var results = botNames.stream().filter(this::isNotEvaluatedBot).map(this::runSimulations).toList();
+        final List<Matchup> matchups = botNames.stream()
+                .filter(this::isNotEvaluatedBot)
+                .map(opponentName -> new Matchup(botToEvaluateName, opponentName))
+                .toList();
+        final Map<Matchup, MatchupResultsDto> results = scheduler.play(matchups, stoppingRule);
         final long end = System.currentTimeMillis();
 
-        final long evaluatedBotWins = results.stream().mapToLong(this::resultAccumulator).sum();
-        final long gameWins = results.stream().mapToLong(match -> WinsAccumulatorService.getWins(match, botToEvaluateName, TIMES)).sum();
+        long numberOfGames = 0;
+        long failedGames = 0;
+        long evaluatedBotWins = 0;
+        long dealWins = 0;
+        long decidedDeals = 0;
+        long gameWins = 0;
+        final Map<String, ConfidenceIntervalDto> intervalByOpponent = new LinkedHashMap<>();
+        for (Map.Entry<Matchup, MatchupResultsDto> entry : results.entrySet()) {
+            final MatchupResultsDto match = entry.getValue();
+            final long wins = match.dealsWonBy(botToEvaluateName);
+            final long decided = match.decidedDeals();
+            numberOfGames += match.games().size();
+            failedGames += match.failedGames();
+            evaluatedBotWins += match.winsOf(botToEvaluateName);
+            dealWins += wins;
+            decidedDeals += decided;
+            if (wins > decided / 2) gameWins++;
+            intervalByOpponent.put(entry.getKey().bot2Name(), stoppingRule.interval(wins, decided));
+        }
 
-        double winRate = ((double) evaluatedBotWins / numberOfGames) * 100;
-        double percentile = (((double) gameWins / (botNames.size() - 1)) * 100);
+        final double winRate = numberOfGames == 0 ? 0.0 : ((double) evaluatedBotWins / numberOfGames) * 100;
+        final double percentile = matchups.isEmpty() ? 0.0 : ((double) gameWins / matchups.size()) * 100;
+        final ConfidenceIntervalDto winRateInterval = stoppingRule.interval(dealWins, decidedDeals);
 
-        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins);
+        return new EvaluateResultsDto((end - start), numberOfGames, failedGames, evaluatedBotWins, winRate, percentile, gameWins,
+                winRateInterval, intervalByOpponent);
     }
 
     private boolean isNotEvaluatedBot(String opponentName) {
         return !opponentName.equals(botToEvaluateName);
     }
-
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName) {
-        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return playManyService.runInParallel(TIMES);
-    }
-
-    private Long resultAccumulator(List<PlayWithBotsDto> results) {
-        Map<String, Long> collectResults = results.stream()
-                .collect(Collectors.groupingBy(PlayWithBotsDto::name, Collectors.counting()));
-        if (!collectResults.containsKey(botToEvaluateName)) return 0L;
-        return collectResults.get(botToEvaluateName);
-    }
-
 }
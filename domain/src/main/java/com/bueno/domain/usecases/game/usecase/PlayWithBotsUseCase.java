@@ -20,10 +20,9 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
 import com.bueno.domain.usecases.game.service.SimulationService;
 
-import java.util.List;
 import java.util.UUID;
 
 public class PlayWithBotsUseCase {
@@ -38,7 +37,7 @@ public class PlayWithBotsUseCase {
         this.bot2Name = bot2Name;
     }
 
-    public List<PlayWithBotsDto> playWithBots(int times) {
+    public MatchupResultsDto playWithBots(int times) {
         final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name);
         return simulator.runInParallel(times);
     }
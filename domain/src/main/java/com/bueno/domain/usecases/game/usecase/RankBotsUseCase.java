@@ -1,45 +1,57 @@
 package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.bot.providers.BotProviders;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
+import com.bueno.domain.usecases.game.dtos.TournamentProgressDto;
+import com.bueno.domain.usecases.game.service.Matchup;
+import com.bueno.domain.usecases.game.service.SequentialStoppingRule;
+import com.bueno.domain.usecases.game.service.TournamentScheduler;
 import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Consumer;
 
 public class RankBotsUseCase {
     private final int TIMES = 7;
     private final Map<String, Long> rankMap = new HashMap<>();
     private final List<String> botNames = BotProviders.availableBots();
+    private final TournamentScheduler scheduler;
+    private final SequentialStoppingRule stoppingRule;
 
-    public Map<String, Long> rankAll() {
-        botNames.forEach(this::playAgainstAll);
-        return rankMap;
+    public RankBotsUseCase() {
+        this.scheduler = new TournamentScheduler();
+        this.stoppingRule = SequentialStoppingRule.fixed(TIMES, TournamentScheduler.DEFAULT_CONFIDENCE);
+    }
+
+    public RankBotsUseCase(int parallelism, Consumer<TournamentProgressDto> progressListener) {
+        this.scheduler = new TournamentScheduler(parallelism, progressListener);
+        this.stoppingRule = SequentialStoppingRule.fixed(TIMES, TournamentScheduler.DEFAULT_CONFIDENCE);
+    }
+
+    // Adaptive ranking: each pair is played until the winner is known at the given confidence or the cap is reached.
+    public RankBotsUseCase(double confidence, int maxGamesPerMatchup, int parallelism,
+                           Consumer<TournamentProgressDto> progressListener) {
+        this.scheduler = new TournamentScheduler(parallelism, progressListener);
+        this.stoppingRule = new SequentialStoppingRule(confidence, maxGamesPerMatchup);
     }
 
-    private void playAgainstAll(String botName) {
-        UUID uuidBotToEvaluate = UUID.randomUUID();
-        var results = botNames.stream()
-                .filter(opponentName -> isNotEvaluatedBot(opponentName, botName))
-                .map(opponent -> runSimulations(opponent, botName, uuidBotToEvaluate))
+    public Map<String, Long> rankAll() {
+        final List<Matchup> matchups = botNames.stream()
+                .flatMap(botName -> botNames.stream()
+                        .filter(opponentName -> isNotEvaluatedBot(opponentName, botName))
+                        .map(opponentName -> new Matchup(botName, opponentName)))
                 .toList();
 
-        Long botWins = results.stream()
-                .mapToLong(match -> WinsAccumulatorService.getWins(match, botName, TIMES))
-                .sum();
-        rankMap.put(botName, botWins);
+        final Map<Matchup, MatchupResultsDto> results = scheduler.play(matchups, stoppingRule);
+        botNames.forEach(botName -> rankMap.put(botName, 0L));
+        results.forEach((matchup, match) -> rankMap.merge(matchup.bot1Name(),
+                WinsAccumulatorService.getWins(match.games(), matchup.bot1Name(), match.games().size()), Long::sum));
+        return rankMap;
     }
 
     private boolean isNotEvaluatedBot(String opponentName, String botToEvaluateName) {
         return !opponentName.equals(botToEvaluateName);
     }
-
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate) {
-        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return simulator.runInParallel(TIMES);
-    }
-
 }
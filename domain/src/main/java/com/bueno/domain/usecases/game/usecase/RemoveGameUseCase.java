@@ -22,6 +22,7 @@ package com.bueno.domain.usecases.game.usecase;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.dtos.HandDto;
@@ -37,6 +38,8 @@ import java.util.UUID;
 @Service
 public class RemoveGameUseCase {
 
+    private static final int REMOVAL_BATCH_SIZE = 100;
+
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
 
@@ -45,13 +48,22 @@ public class RemoveGameUseCase {
         this.gameResultRepo = gameResultRepo;
     }
 
+    // Inactive games are closed in batches: one delete and one insert of game results per batch, instead of one
+    // load, delete and insert per game. A game without a current player is over and its result was saved when it
+    // ended, so it is only deleted.
     public List<UUID> byInactivityAfter(int minutes){
-        final List<UUID> gamesToRemove = gameRepo.findAllInactiveAfter(minutes)
-                .stream()
-                .map(this::inactivePlayerUuid)
-                .toList();
-        gamesToRemove.forEach(this::byUserUuid);
-        return gamesToRemove;
+        final List<InactiveGameDto> inactiveGames = gameRepo.findInactiveGamesAfter(minutes);
+        for (int from = 0; from < inactiveGames.size(); from += REMOVAL_BATCH_SIZE) {
+            final List<InactiveGameDto> batch = inactiveGames.subList(from, Math.min(from + REMOVAL_BATCH_SIZE, inactiveGames.size()));
+            gameRepo.deleteAll(batch.stream().map(InactiveGameDto::gameUuid).toList());
+            final List<GameResultDto> results = batch.stream()
+                    .filter(game -> game.currentPlayerUuid() != null)
+                    .map(game -> createGameResultFrom(game.gameUuid(), game.timestamp(), game.player1Uuid(),
+                            game.player2Uuid(), game.currentPlayerUuid()))
+                    .toList();
+            if (!results.isEmpty()) gameResultRepo.saveAll(results);
+        }
+        return inactiveGames.stream().map(InactiveGameDto::currentPlayerUuid).filter(Objects::nonNull).toList();
     }
 
     public UUID inactivePlayerUuid(GameDto game){
@@ -64,21 +76,21 @@ public class RemoveGameUseCase {
         final GameDto game = gameRepo.findByPlayerUuid(Objects.requireNonNull(uuid))
                 .orElseThrow(() -> new NoSuchElementException("The is no active game for user UUID: " + userUuid));
         gameRepo.delete(game.gameUuid());
-        gameResultRepo.save(createGameResultFrom(game, userUuid));
+        gameResultRepo.save(createGameResultFrom(game.gameUuid(), game.timestamp(), game.player1().uuid(),
+                game.player2().uuid(), userUuid));
     }
 
-    private GameResultDto createGameResultFrom(GameDto game, UUID quitterUuid){
-        final UUID player1uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player1().uuid() : game.player2().uuid();
-        final UUID player2uuid = game.player1().uuid().equals(quitterUuid)
-                ? game.player2().uuid() : game.player1().uuid();
+    private GameResultDto createGameResultFrom(UUID gameUuid, LocalDateTime gameStart, UUID firstPlayer,
+                                               UUID secondPlayer, UUID quitterUuid){
+        final UUID player1uuid = firstPlayer.equals(quitterUuid) ? firstPlayer : secondPlayer;
+        final UUID player2uuid = firstPlayer.equals(quitterUuid) ? secondPlayer : firstPlayer;
         final UUID winnerUuid = player1uuid.equals(quitterUuid) ? player2uuid : player1uuid;
         final int player1Score = player1uuid.equals(winnerUuid) ? 12 : 0;
         final int player2Score = player2uuid.equals(winnerUuid) ? 12 : 0;
 
         return new GameResultDto(
-                game.gameUuid(),
-                game.timestamp(),
+                gameUuid,
+                gameStart,
                 LocalDateTime.now(),
                 winnerUuid,
                 player1uuid,
@@ -20,16 +20,23 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
 import com.bueno.domain.usecases.game.dtos.UserRecordDto;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.user.UserRepository;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
 public class UserRecordUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final GameResultRepository gameResultRepository;
     private final UserRepository userRepository;
 
@@ -39,9 +46,22 @@ public class UserRecordUseCase {
     }
 
     public UserRecordDto listByUuid(UUID userUuid){
+        return listByUuid(userUuid, null, DEFAULT_PAGE_SIZE);
+    }
+
+    // Lists one page of the user matches, most recent first. The cursor of the returned record points to the last
+    // match of the page and is passed back to get the next one; it is null when there are no more matches.
+    public UserRecordDto listByUuid(UUID userUuid, MatchCursorDto after, int pageSize){
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE)
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
         var user = userRepository.findByUuid(userUuid)
                 .orElseThrow(() -> new EntityNotFoundException("User not found: " + userUuid));
-        var userRecord = gameResultRepository.findAllByUserUuid(userUuid);
-        return new UserRecordDto(user.uuid(), user.username(), userRecord);
+
+        final List<MatchHistoryEntryDto> matches = gameResultRepository.findMatchesByUserUuid(userUuid, after, pageSize + 1);
+        final boolean hasNext = matches.size() > pageSize;
+        final List<MatchHistoryEntryDto> page = hasNext ? matches.subList(0, pageSize) : matches;
+        final List<GameResultUsernamesDto> userRecord = page.stream().map(MatchHistoryEntryDto::toGameResultUsernames).toList();
+        final MatchCursorDto next = hasNext ? page.get(page.size() - 1).cursor() : null;
+        return new UserRecordDto(user.uuid(), user.username(), userRecord, next);
     }
 }
@@ -23,12 +23,13 @@ package com.bueno.domain.usecases.hand;
 import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.hand.validator.ActionValidator;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
@@ -43,7 +44,7 @@ public class PlayCardUseCase {
     private final GameRepository gameRepository;
     private final GameResultRepository gameResultRepository;
     private final HandResultRepository handResultRepository;
-    private final BotUseCase botUseCase;
+    private BotUseCase botUseCase;
 
     public PlayCardUseCase(GameRepository gameRepository) {
         this(gameRepository, null, null);
@@ -57,7 +58,6 @@ public class PlayCardUseCase {
         this.gameRepository = gameRepository;
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
     }
 
     public IntelDto playCard(PlayCardDto request) {
@@ -68,13 +68,35 @@ public class PlayCardUseCase {
         return playCard(request, true);
     }
 
+    // Plays a single move on a game the caller has already loaded. Bot turns are not played and the caller is
+    // responsible for persisting the game.
+    public Intel playCard(Game game, PlayCardDto request) {
+        return playCard(game, request, false);
+    }
+
+    public Intel discard(Game game, PlayCardDto request) {
+        return playCard(game, request, true);
+    }
+
     private IntelDto playCard(PlayCardDto request, boolean discard) {
-        final var validator = new ActionValidator(gameRepository, PossibleAction.PLAY);
-        final var notification = validator.validate(request.uuid());
+        final GameUnitOfWork unitOfWork = GameUnitOfWork.load(gameRepository, request.uuid());
+        final Game game = unitOfWork.game();
+        playCard(game, request, discard);
+        final Intel intel = unitOfWork.commitThen(botUseCase()::playWhenNecessary);
+        return IntelConverter.toDto(intel);
+    }
+
+    private BotUseCase botUseCase() {
+        if (botUseCase == null) botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        return botUseCase;
+    }
+
+    private Intel playCard(Game game, PlayCardDto request, boolean discard) {
+        final var validator = new ActionValidator(PossibleAction.PLAY);
+        final var notification = validator.validate(game, request.uuid());
 
         if (notification.hasErrors()) throw new UnsupportedGameRequestException(notification.errorMessage());
 
-        Game game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
         final Card cardToPlay = CardConverter.fromDto(request.card());
@@ -83,15 +105,7 @@ public class PlayCardUseCase {
         if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, playedCard);
         else hand.playSecondCard(player, playedCard);
 
-        final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
-        final IntelDto gameResult = resultHandler.handle(game);
-
-        gameRepository.update(GameConverter.toDto(game));
-        if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(request.uuid()).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        new ResultHandler(gameResultRepository, handResultRepository).handle(game);
+        return game.getIntel();
     }
 }
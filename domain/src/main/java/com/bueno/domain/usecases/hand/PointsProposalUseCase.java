@@ -22,23 +22,24 @@ package com.bueno.domain.usecases.hand;
 
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.GameUnitOfWork;
 import com.bueno.domain.usecases.hand.validator.ActionValidator;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import com.bueno.domain.usecases.utils.exceptions.UnsupportedGameRequestException;
 import com.bueno.domain.usecases.utils.validation.Notification;
-import com.bueno.domain.usecases.utils.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Service
 public class PointsProposalUseCase {
@@ -46,7 +47,7 @@ public class PointsProposalUseCase {
     private final GameRepository gameRepository;
     private final GameResultRepository gameResultRepository;
     private final HandResultRepository handResultRepository;
-    private final BotUseCase botUseCase;
+    private BotUseCase botUseCase;
 
     public PointsProposalUseCase(GameRepository gameRepository) {
         this(gameRepository, null, null);
@@ -59,63 +60,69 @@ public class PointsProposalUseCase {
         this.gameRepository = Objects.requireNonNull( gameRepository);
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
     }
 
     public IntelDto raise(UUID playerUuid){
-        validateInput(playerUuid, PossibleAction.RAISE);
+        return inUnitOfWork(playerUuid, game -> raise(game, playerUuid));
+    }
+
+    public IntelDto accept(UUID playerUuid){
+        return inUnitOfWork(playerUuid, game -> accept(game, playerUuid));
+    }
+
+    public IntelDto quit(UUID playerUuid){
+        return inUnitOfWork(playerUuid, game -> quit(game, playerUuid));
+    }
+
+    // The following methods play a single move on a game the caller has already loaded. Bot turns are not played and
+    // the caller is responsible for persisting the game.
+    public Intel raise(Game game, UUID playerUuid){
+        validateInput(game, playerUuid, PossibleAction.RAISE);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
         hand.raise(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        return game.getIntel();
     }
 
-    public IntelDto accept(UUID playerUuid){
-        validateInput(playerUuid, PossibleAction.ACCEPT);
+    public Intel accept(Game game, UUID playerUuid){
+        validateInput(game, playerUuid, PossibleAction.ACCEPT);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
         hand.accept(player);
-        gameRepository.update(GameConverter.toDto(game));
-        botUseCase.playWhenNecessary(game);
-
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+        return game.getIntel();
     }
 
-    public IntelDto quit(UUID playerUuid){
-        validateInput(playerUuid, PossibleAction.QUIT);
+    public Intel quit(Game game, UUID playerUuid){
+        validateInput(game, playerUuid, PossibleAction.QUIT);
 
-        Game game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
         final Hand hand = game.currentHand();
         final Player player = hand.getCurrentPlayer();
 
         hand.quit(player);
+        new ResultHandler(gameResultRepository, handResultRepository).handle(game);
+        return game.getIntel();
+    }
 
-        final ResultHandler resultHandler = new ResultHandler(gameResultRepository, handResultRepository);
-        final IntelDto gameResult = resultHandler.handle(game);
-
-        gameRepository.update(GameConverter.toDto(game));
-        if(gameResult != null) return gameResult;
-
-        botUseCase.playWhenNecessary(game);
+    private IntelDto inUnitOfWork(UUID playerUuid, Consumer<Game> move) {
+        final GameUnitOfWork unitOfWork = GameUnitOfWork.load(gameRepository, playerUuid);
+        final Game game = unitOfWork.game();
+        move.accept(game);
+        final Intel intel = unitOfWork.commitThen(botUseCase()::playWhenNecessary);
+        return IntelConverter.toDto(intel);
+    }
 
-        game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
-        return IntelConverter.toDto(game.getIntel());
+    private BotUseCase botUseCase() {
+        if (botUseCase == null) botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        return botUseCase;
     }
 
-    private void validateInput(UUID usedUuid, PossibleAction raise) {
-        final Validator<UUID> validator = new ActionValidator(gameRepository, raise);
-        final Notification notification = validator.validate(usedUuid);
+    private void validateInput(Game game, UUID usedUuid, PossibleAction action) {
+        final ActionValidator validator = new ActionValidator(action);
+        final Notification notification = validator.validate(game, usedUuid);
         if (notification.hasErrors()) throw new UnsupportedGameRequestException(notification.errorMessage());
     }
 }
@@ -24,8 +24,6 @@ import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.usecases.game.converter.GameResultConverter;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.converter.HandResultConverter;
-import com.bueno.domain.usecases.intel.converters.IntelConverter;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
 class ResultHandler {
 
@@ -37,18 +35,14 @@ class ResultHandler {
         this.handResultRepository = handResultRepository;
     }
 
-    IntelDto handle(Game game) {
+    void handle(Game game) {
         game.currentHand().getResult().ifPresent(unused -> {
             if (handResultRepository != null) handResultRepository.save(HandResultConverter.of(game));
             updateGameStatus(game);
         });
 
-        if (game.isDone()) {
-            if (gameResultRepository != null)
-                gameResultRepository.save(GameResultConverter.toDto(game));
-            return IntelConverter.toDto(game.getIntel());
-        }
-        return null;
+        if (game.isDone() && gameResultRepository != null)
+            gameResultRepository.save(GameResultConverter.toDto(game));
     }
 
     private void updateGameStatus(Game game) {
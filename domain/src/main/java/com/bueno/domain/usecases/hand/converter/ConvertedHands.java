@@ -0,0 +1,91 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand.converter;
+
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandHistory;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// What was already converted from each hand of a game that is loaded and saved again, like in a unit of work. A
+// finished hand never changes again, so its dto is kept and reused as is; for the hand in progress only the history
+// events recorded since the previous conversion are new. Hands are compared by identity. It belongs to whoever owns
+// the game and, like the game, must not be shared between threads.
+public class ConvertedHands {
+
+    private final Map<Hand, ConvertedHand> hands = new IdentityHashMap<>();
+
+    HandDto toDto(Hand hand, boolean finished) {
+        final ConvertedHand converted = hands.computeIfAbsent(hand, unused -> new ConvertedHand());
+        if (converted.finishedDto != null) return converted.finishedDto;
+
+        final HandDto dto = HandConverter.toDto(hand, converted.update(hand.getHistory()));
+        if (finished) converted.finish(dto);
+        return dto;
+    }
+
+    void restored(Hand hand, HandDto dto, boolean finished) {
+        final ConvertedHand converted = new ConvertedHand(hand.getHistory(), dto.history().events());
+        if (finished) converted.finish(dto);
+        hands.put(hand, converted);
+    }
+
+    // Event dtos already converted for a hand in progress, from the sequence of the first one on. Events the history
+    // no longer retains are dropped and only the ones recorded since the previous update are converted. Once the hand
+    // is finished only its dto is kept.
+    private static final class ConvertedHand {
+        private final List<HandEventDto> events;
+        private long firstSequence;
+        private HandDto finishedDto;
+
+        private ConvertedHand() {
+            this.events = new ArrayList<>();
+        }
+
+        private ConvertedHand(HandHistory history, List<HandEventDto> events) {
+            this.events = new ArrayList<>(events);
+            this.firstSequence = history.retainedFromSequence();
+        }
+
+        private HandHistoryDto update(HandHistory history) {
+            final long retainedFrom = history.retainedFromSequence();
+            final long stale = retainedFrom - firstSequence;
+            if (stale < 0 || stale > events.size()) events.clear();
+            else events.subList(0, (int) stale).clear();
+            firstSequence = retainedFrom;
+
+            for (int index = events.size(); index < history.size(); index++)
+                events.add(HandConverter.eventToDto(history, index));
+            return HandConverter.historyToDto(history, List.copyOf(events));
+        }
+
+        private void finish(HandDto dto) {
+            finishedDto = dto;
+            events.clear();
+        }
+    }
+}
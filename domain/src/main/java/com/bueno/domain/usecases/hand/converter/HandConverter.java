@@ -20,22 +20,29 @@
 
 package com.bueno.domain.usecases.hand.converter;
 
+import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandHistory;
 import com.bueno.domain.entities.hand.HandPoints;
 import com.bueno.domain.entities.hand.HandResult;
 import com.bueno.domain.entities.hand.Round;
+import com.bueno.domain.entities.intel.Event;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.converter.PlayerConverter;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
-import com.bueno.domain.usecases.intel.converters.IntelConverter;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class HandConverter {
@@ -44,12 +51,22 @@ public class HandConverter {
 
     public static HandDto toDto(Hand hand){
         if(hand == null) return  null;
+        return toDto(hand, historyToDto(hand.getHistory()));
+    }
+
+    // Converts a hand of a game being saved again, reusing what was already converted from it.
+    public static HandDto toDto(Hand hand, boolean finished, ConvertedHands convertedHands){
+        if(hand == null) return  null;
+        return convertedHands.toDto(hand, finished);
+    }
+
+    static HandDto toDto(Hand hand, HandHistoryDto history){
         return new HandDto(
                 CardConverter.toDto(hand.getVira()),
                 hand.getDealtCards().stream().map(CardConverter::toDto).toList(),
                 hand.getOpenCards().stream().map(CardConverter::toDto).toList(),
                 hand.getRoundsPlayed().stream().map(RoundConverter::toDto).toList(),
-                hand.getIntelHistory().stream().map(IntelConverter::toDto).toList(),
+                history,
                 hand.getPossibleActions().stream().map(PossibleAction::toString).collect(Collectors.toSet()),
                 PlayerConverter.toDto(hand.getFirstToPlay()),
                 PlayerConverter.toDto(hand.getLastToPlay()),
@@ -85,7 +102,7 @@ public class HandConverter {
                 dto.dealtCards().stream().map(CardConverter::fromDto).toList(),
                 dto.openCards().stream().map(CardConverter::fromDto).toList(),
                 rounds,
-                dto.history().stream().map(IntelConverter::fromDto).toList(),
+                historyFromDto(dto, players),
                 possibleActions,
                 players.get(dto.firstToPlay().uuid()),
                 players.get(dto.lastToPlay().uuid()),
@@ -99,6 +116,88 @@ public class HandConverter {
                 dto.state());
     }
 
+    // Restores a hand of a saved game, keeping the dto it came from so that saving it again does not convert it anew.
+    public static Hand fromDto(HandDto dto, Player player1, Player player2, boolean finished, ConvertedHands convertedHands){
+        final Hand hand = fromDto(dto, player1, player2);
+        if(hand == null) return null;
+        convertedHands.restored(hand, dto, finished);
+        return hand;
+    }
+
+    private static HandHistoryDto historyToDto(HandHistory history) {
+        final List<HandEventDto> events = new ArrayList<>(history.size());
+        for (int index = 0; index < history.size(); index++) events.add(eventToDto(history, index));
+        return historyToDto(history, events);
+    }
+
+    static HandHistoryDto historyToDto(HandHistory history, List<HandEventDto> events) {
+        return new HandHistoryDto(history.getFirstSeat().getUuid(), history.getFirstSeatCards().size(),
+                history.getFirstSequence(), events);
+    }
+
+    static HandEventDto eventToDto(HandHistory history, int index) {
+        final HandHistory.Entry entry = history.entryAt(index);
+        return new HandEventDto(
+                entry.event().name(),
+                uuidOrNull(entry.eventPlayer()),
+                uuidOrNull(entry.currentPlayer()),
+                entry.firstToPlay().getUuid(),
+                entry.possibleActions().stream().map(PossibleAction::name).collect(Collectors.toSet()),
+                entry.points(),
+                entry.pointsProposal(),
+                entry.roundsPlayed(),
+                entry.openCards(),
+                CardConverter.toDto(entry.cardToPlayAgainst()),
+                uuidOrNull(entry.handWinner()),
+                entry.firstSeatScore(),
+                entry.lastSeatScore(),
+                entry.maoDeOnze(),
+                entry.heldCards().stream().map(CardConverter::toDto).toList(),
+                entry.timestamp());
+    }
+
+    private static UUID uuidOrNull(Player player) {
+        return player != null ? player.getUuid() : null;
+    }
+
+    private static HandHistory historyFromDto(HandDto dto, Map<UUID, Player> players) {
+        final HandHistoryDto historyDto = dto.history();
+        final Player firstSeat = players.get(historyDto.firstSeat());
+        final Player lastSeat = players.values().stream().filter(player -> !player.equals(firstSeat)).findFirst().orElseThrow();
+
+        final List<Card> dealtCards = dto.dealtCards().stream().map(CardConverter::fromDto).toList();
+        final int lastDealtCard = 1 + historyDto.firstSeatCards();
+
+        final List<HandHistory.Entry> entries = historyDto.events().stream()
+                .map(event -> eventFromDto(event, players))
+                .toList();
+        return new HandHistory(firstSeat, dealtCards.subList(1, lastDealtCard),
+                lastSeat, dealtCards.subList(lastDealtCard, dealtCards.size()), historyDto.firstSequence(), entries);
+    }
+
+    private static HandHistory.Entry eventFromDto(HandEventDto dto, Map<UUID, Player> players) {
+        final Function<UUID, Player> playerOrNull = uuid -> uuid != null ? players.get(uuid) : null;
+        final Set<PossibleAction> possibleActions = EnumSet.noneOf(PossibleAction.class);
+        dto.possibleActions().forEach(action -> possibleActions.add(PossibleAction.valueOf(action)));
+        return new HandHistory.Entry(
+                Event.valueOf(dto.event()),
+                playerOrNull.apply(dto.eventPlayer()),
+                playerOrNull.apply(dto.currentPlayer()),
+                players.get(dto.firstToPlay()),
+                possibleActions,
+                dto.points(),
+                dto.pointsProposal(),
+                dto.roundsPlayed(),
+                dto.openCards(),
+                CardConverter.fromDto(dto.cardToPlayAgainst()),
+                playerOrNull.apply(dto.handWinner()),
+                dto.firstSeatScore(),
+                dto.lastSeatScore(),
+                dto.maoDeOnze(),
+                dto.heldCards().stream().map(CardConverter::fromDto).toList(),
+                dto.timestamp());
+    }
+
     private static HandResult handResultFromDto(HandDto dto) {
         final PlayerDto winner = dto.winner();
         final HandPoints handPoints = HandPoints.fromIntValue(dto.points());
@@ -41,11 +41,21 @@ public class ActionValidator extends Validator<UUID> {
         this.action = action;
     }
 
+    public ActionValidator(PossibleAction action) {
+        this(null, action);
+    }
+
     @Override
     public Notification validate(UUID uuid) {
         if(uuid == null) throw new NullPointerException("UUID is null.");
         final var game = gameRepository.findByPlayerUuid(uuid).map(GameConverter::fromDto)
                 .orElseThrow(() -> new GameNotFoundException("User with UUID " + uuid + " is not in an active game."));
+        return validate(game, uuid);
+    }
+
+    // Validates the request against a game the caller has already loaded.
+    public Notification validate(Game game, UUID uuid) {
+        if(uuid == null) throw new NullPointerException("UUID is null.");
         if(game.isDone()) throw new GameNotFoundException("Game is over. Start a new game.");
 
         final var requester = getRequester(uuid, Objects.requireNonNull(game));
@@ -54,6 +54,14 @@ public class HandleIntelUseCase {
         return new IntelSinceDto(lastIntelTimestamp, intelSince);
     }
 
+    public IntelSinceDto findIntelAfter(UUID uuid, long lastIntelSequence){
+        final var game = getGameOrThrow(uuid);
+        final var intelAfter = game.getIntelAfter(lastIntelSequence).stream()
+                .map(IntelConverter::toDto)
+                .collect(Collectors.toList());
+        return new IntelSinceDto(null, lastIntelSequence, intelAfter);
+    }
+
     public IntelDto findLastIntel(UUID uuid){
         final var game = getGameOrThrow(uuid);
         return IntelConverter.toDto(game.getIntel());
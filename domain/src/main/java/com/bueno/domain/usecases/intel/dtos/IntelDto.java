@@ -25,7 +25,7 @@ import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import java.time.Instant;
 import java.util.*;
 
-public record IntelDto(Instant timestamp, boolean isGameDone, UUID gameWinner, boolean isMaoDeOnze,
+public record IntelDto(long sequence, Instant timestamp, boolean isGameDone, UUID gameWinner, boolean isMaoDeOnze,
                        Integer handPoints, Integer handPointsProposal,
                        List<Optional<String>> roundWinnersUsernames,
                        List<Optional<UUID>> roundWinnersUuid, int roundsPlayed,
@@ -44,12 +44,12 @@ public record IntelDto(Instant timestamp, boolean isGameDone, UUID gameWinner, b
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         IntelDto that = (IntelDto) o;
-        return timestamp.equals(that.timestamp);
+        return sequence == that.sequence;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(timestamp);
+        return Long.hashCode(sequence);
     }
 
 }
@@ -24,10 +24,15 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 
-public record IntelSinceDto(Instant baseTimestamp, List<IntelDto> intelSinceBaseTimestamp) {
+public record IntelSinceDto(Instant baseTimestamp, Long baseSequence, List<IntelDto> intelSinceBaseTimestamp) {
 
-    public IntelSinceDto(Instant baseTimestamp, List<IntelDto> intelSinceBaseTimestamp) {
+    public IntelSinceDto(Instant baseTimestamp, Long baseSequence, List<IntelDto> intelSinceBaseTimestamp) {
         this.baseTimestamp = baseTimestamp;
+        this.baseSequence = baseSequence;
         this.intelSinceBaseTimestamp = Objects.requireNonNull(intelSinceBaseTimestamp);
     }
+
+    public IntelSinceDto(Instant baseTimestamp, List<IntelDto> intelSinceBaseTimestamp) {
+        this(baseTimestamp, null, intelSinceBaseTimestamp);
+    }
 }
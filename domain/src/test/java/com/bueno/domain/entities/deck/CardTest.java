@@ -28,6 +28,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
@@ -197,4 +203,35 @@ class CardTest {
         final Card zap = Card.of(Rank.THREE, Suit.CLUBS);
         assertThat(zap.compareValueTo(copas, vira)).isPositive();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should give each card a distinct id between 0 and 40")
+    void shouldGiveEachCardADistinctIdBetween0And40() {
+        final Deck deck = new Deck();
+        final Set<Integer> ids = new HashSet<>();
+        deck.take(40).forEach(card -> ids.add(card.getId()));
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(ids).hasSize(40).allSatisfy(id -> assertThat(id).isBetween(1, 40));
+        softly.assertThat(Card.closed().getId()).isZero();
+        softly.assertThat(Card.ofId(Card.of(Rank.KING, Suit.HEARTS).getId())).isSameAs(Card.of(Rank.KING, Suit.HEARTS));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should sort cards by relative value to the vira")
+    void shouldSortCardsByRelativeValueToTheVira() {
+        final Card vira = Card.of(Rank.TWO, Suit.CLUBS);
+        final Card zap = Card.of(Rank.THREE, Suit.CLUBS);
+        final Card ace = Card.of(Rank.ACE, Suit.HEARTS);
+        final Card four = Card.of(Rank.FOUR, Suit.SPADES);
+        final List<Card> cards = new ArrayList<>(List.of(zap, four, ace));
+        cards.sort(Card.valueComparator(vira));
+        assertThat(cards).isEqualTo(List.of(four, ace, zap));
+    }
+
+    @Test
+    @DisplayName("Should throw if comparing closed card to closed vira")
+    void shouldThrowIfComparingClosedCardToClosedVira() {
+        assertThatIllegalStateException().isThrownBy(() -> Card.closed().relativeValue(Card.closed().getId()));
+    }
+}
@@ -26,7 +26,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -70,6 +72,39 @@ class DeckTest {
         assertThat(deck.take(8)).isNotEqualTo(firstEight);
     }
 
+    @Test
+    @DisplayName("Should get all cards back after shuffling")
+    void shouldGetAllCardsBackAfterShuffling() {
+        deck.take(7);
+        deck.shuffle();
+        assertEquals(40, deck.size());
+    }
+
+    @Test
+    @DisplayName("Should deal every card exactly once after shuffling")
+    void shouldDealEveryCardExactlyOnceAfterShuffling() {
+        deck.shuffle();
+        final List<Card> dealt = deck.take(40);
+        assertThat(new HashSet<>(dealt)).isEqualTo(new HashSet<>(new Deck().take(40)));
+    }
+
+    @Test
+    @DisplayName("Should throw if dealing more cards than the deck has")
+    void shouldThrowIfDealingMoreCardsThanTheDeckHas() {
+        deck.take(38);
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.take(3));
+    }
+
+    @Test
+    @DisplayName("Should deal the same cards from decks with the same seed")
+    void shouldDealTheSameCardsFromDecksWithTheSameSeed() {
+        final Deck seeded = new Deck(new SplittableRandom(42));
+        final Deck sameSeed = new Deck(new SplittableRandom(42));
+        seeded.shuffle();
+        sameSeed.shuffle();
+        assertThat(seeded.take(7)).isEqualTo(sameSeed.take(7));
+    }
+
     @Test
     @DisplayName("Should be able to deal multiple cards ")
     void shouldDealMultipleCorrectly() {
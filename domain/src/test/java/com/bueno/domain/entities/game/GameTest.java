@@ -25,6 +25,7 @@ import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HistoryRetention;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import org.assertj.core.api.SoftAssertions;
@@ -132,6 +133,61 @@ class GameTest {
         assertThat(sut.getIntelSince(null).size()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("Should keep only the current hand and its last event if retention is last only")
+    void shouldKeepOnlyTheCurrentHandAndItsLastEventIfRetentionIsLastOnly() {
+        sut = new Game(player1, player2, UUID.randomUUID(), deck, HistoryRetention.LAST_ONLY);
+        sut.currentHand().playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        sut.prepareNewHand();
+        sut.currentHand().playFirstCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.handsPlayed()).as("Number of hands").isEqualTo(2);
+        softly.assertThat(sut.getHands()).as("Retained hands").hasSize(1);
+        softly.assertThat(sut.getIntelSince(null)).as("Retained intel").containsExactly(sut.getIntel());
+        softly.assertThat(sut.getIntel().cardToPlayAgainst()).as("Last intel").contains(Card.of(Rank.JACK, Suit.CLUBS));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should keep no history but still get intel if retention is none")
+    void shouldKeepNoHistoryButStillGetIntelIfRetentionIsNone() {
+        sut = new Game(player1, player2, UUID.randomUUID(), deck, HistoryRetention.NONE);
+        sut.currentHand().playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.getIntelSince(null)).as("Retained intel").isEmpty();
+        softly.assertThat(sut.getIntel().event()).as("Last event").contains("PLAY");
+        softly.assertThat(sut.getIntel().cardToPlayAgainst()).as("Last intel").contains(Card.of(Rank.KING, Suit.CLUBS));
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should number intel with consecutive sequences across hands")
+    void shouldNumberIntelWithConsecutiveSequencesAcrossHands() {
+        sut.currentHand().playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        sut.prepareNewHand();
+        sut.currentHand().playFirstCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+
+        final List<Intel> history = sut.getIntelAfter(-1);
+        assertThat(history).extracting(Intel::sequence).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(sut.getLastSequence()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Should get only intel after the given sequence")
+    void shouldGetOnlyIntelAfterTheGivenSequence() {
+        sut.currentHand().playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        sut.prepareNewHand();
+        sut.currentHand().playFirstCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.getIntelAfter(0)).extracting(Intel::sequence).containsExactly(1L, 2L, 3L);
+        softly.assertThat(sut.getIntelAfter(2)).extracting(Intel::sequence).containsExactly(3L);
+        softly.assertThat(sut.getIntelAfter(3)).isEmpty();
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should correctly get intel in the same hand")
     void shouldCorrectlyGetIntelInTheSameHand() {
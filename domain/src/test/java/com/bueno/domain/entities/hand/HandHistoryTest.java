@@ -0,0 +1,152 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HandHistoryTest {
+
+    private Hand hand;
+    @Mock private Player player1;
+    @Mock private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        when(player1.getCards()).thenReturn(List.of(Card.of(Rank.KING, Suit.SPADES), Card.of(Rank.FOUR, Suit.SPADES)));
+        when(player2.getCards()).thenReturn(List.of(Card.of(Rank.KING, Suit.DIAMONDS), Card.of(Rank.FOUR, Suit.DIAMONDS)));
+        hand = new Hand(player1, player2, Card.of(Rank.SEVEN, Suit.CLUBS));
+    }
+
+    @Test
+    @DisplayName("Should record one event per hand update")
+    void shouldRecordOneEventPerHandUpdate() {
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        hand.playSecondCard(player2, Card.of(Rank.KING, Suit.DIAMONDS));
+        assertThat(hand.getHistory().size()).isEqualTo(hand.getIntelHistory().size()).isGreaterThan(2);
+    }
+
+    @Test
+    @DisplayName("Should materialise last intel as the last history entry")
+    void shouldMaterialiseLastIntelAsTheLastHistoryEntry() {
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        final List<Intel> history = hand.getIntelHistory();
+        assertThat(hand.getLastIntel()).isEqualTo(history.get(history.size() - 1));
+        assertThat(hand.getLastIntel().timestamp()).isEqualTo(hand.getHistory().timestampAt(history.size() - 1));
+    }
+
+    @Test
+    @DisplayName("Should keep the state of the hand at the time of each event")
+    void shouldKeepTheStateOfTheHandAtTheTimeOfEachEvent() {
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        hand.playSecondCard(player2, Card.of(Rank.KING, Suit.DIAMONDS));
+        final List<Intel> history = hand.getIntelHistory();
+
+        assertThat(history.get(0).openCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS));
+        assertThat(history.get(0).cardToPlayAgainst()).isEmpty();
+        assertThat(history.get(0).roundsPlayed()).isZero();
+        assertThat(history.get(1).cardToPlayAgainst()).contains(Card.of(Rank.KING, Suit.SPADES));
+        assertThat(history.get(history.size() - 1).roundsPlayed()).isOne();
+        assertThat(history.get(history.size() - 1).openCards()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should restore the same intel history from the exported entries")
+    void shouldRestoreTheSameIntelHistoryFromTheExportedEntries() {
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        final HandHistory history = hand.getHistory();
+        final List<HandHistory.Entry> entries = IntStream.range(0, history.size()).mapToObj(history::entryAt).toList();
+        final HandHistory restored = new HandHistory(player1, history.getFirstSeatCards(),
+                player2, history.getLastSeatCards(), history.getFirstSequence(), entries);
+
+        assertThat(restored.toIntelList(hand)).isEqualTo(history.toIntelList(hand));
+        assertThat(restored.intelAt(hand, 0).players().get(0).getCards())
+                .isEqualTo(history.intelAt(hand, 0).players().get(0).getCards());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same intel the hand had at each event")
+    void shouldRebuildTheSameIntelTheHandHadAtEachEvent() {
+        final Player first = new Player(new ArrayList<>(List.of(Card.of(Rank.THREE, Suit.HEARTS), Card.of(Rank.FIVE, Suit.CLUBS),
+                Card.of(Rank.JACK, Suit.SPADES))), "First", UUID.randomUUID(), 7, false);
+        final Player last = new Player(new ArrayList<>(List.of(Card.of(Rank.ACE, Suit.DIAMONDS), Card.of(Rank.SIX, Suit.HEARTS),
+                Card.of(Rank.QUEEN, Suit.CLUBS))), "Last", UUID.randomUUID(), 4, true);
+        final Hand realHand = new Hand(first, last, Card.of(Rank.FOUR, Suit.HEARTS));
+        final List<Intel> expected = new ArrayList<>();
+        expected.add(Intel.ofHand(realHand, Event.HAND_START));
+
+        realHand.raise(first);
+        expected.add(Intel.ofHand(realHand, Event.RAISE));
+        realHand.accept(last);
+        expected.add(Intel.ofHand(realHand, Event.ACCEPT));
+        realHand.playFirstCard(first, first.play(Card.of(Rank.THREE, Suit.HEARTS)));
+        expected.add(Intel.ofHand(realHand, Event.PLAY));
+        realHand.playSecondCard(last, last.play(Card.of(Rank.ACE, Suit.DIAMONDS)));
+        expected.add(Intel.ofHand(realHand, Event.PLAY));
+
+        assertThat(realHand.getIntelHistory())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("timestamp")
+                .containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should get the same last intel as a full history when retention is none")
+    void shouldGetTheSameLastIntelAsAFullHistoryWhenRetentionIsNone() {
+        final Hand full = playedHand(HistoryRetention.FULL);
+        final Hand none = playedHand(HistoryRetention.NONE);
+
+        none.getFirstToPlay().addScore(HandPoints.THREE);
+        full.getFirstToPlay().addScore(HandPoints.THREE);
+
+        assertThat(none.getIntelHistory()).isEmpty();
+        assertThat(none.getLastIntel()).usingRecursiveComparison().ignoringFields("timestamp").isEqualTo(full.getLastIntel());
+        assertThat(none.getLastIntel().players().get(0).getScore()).isEqualTo(2);
+    }
+
+    private Hand playedHand(HistoryRetention retention) {
+        final Player first = new Player(new ArrayList<>(List.of(Card.of(Rank.THREE, Suit.HEARTS), Card.of(Rank.FIVE, Suit.CLUBS),
+                Card.of(Rank.JACK, Suit.SPADES))), "First", new UUID(0, 1), 2, false);
+        final Player last = new Player(new ArrayList<>(List.of(Card.of(Rank.ACE, Suit.DIAMONDS), Card.of(Rank.SIX, Suit.HEARTS),
+                Card.of(Rank.QUEEN, Suit.CLUBS))), "Last", new UUID(0, 2), 5, true);
+        final Hand playedHand = new Hand(first, last, Card.of(Rank.FOUR, Suit.HEARTS), retention, 0);
+        playedHand.playFirstCard(first, first.play(Card.of(Rank.THREE, Suit.HEARTS)));
+        return playedHand;
+    }
+}
@@ -106,17 +106,34 @@ class IntelTest {
     }
 
     @Test
-    @DisplayName("Should two intel objects be different if created in different moments")
-    void shouldTwoIntelObjectsBeDifferentIfCreatedInDifferentMoments() {
+    @DisplayName("Should two intel objects be different if they have different sequences")
+    void shouldTwoIntelObjectsBeDifferentIfTheyHaveDifferentSequences() {
+        when(hand.getLastSequence()).thenReturn(0L, 1L);
         assertThat(Intel.ofHand(hand, Event.HAND_START)).isNotEqualTo(Intel.ofHand(hand, Event.HAND_START));
     }
 
     @Test
-    @DisplayName("Should intel created with same data in different moments have different hashcode")
-    void shouldIntelCreatedWithSameDataInDifferentMomentsHaveDifferentHashcode() {
+    @DisplayName("Should intel created with same data and different sequences have different hashcode")
+    void shouldIntelCreatedWithSameDataAndDifferentSequencesHaveDifferentHashcode() {
+        when(hand.getLastSequence()).thenReturn(0L, 1L);
         assertThat(Intel.ofHand(hand, Event.HAND_START).hashCode()).isNotEqualTo(Intel.ofHand(hand, Event.HAND_START).hashCode());
     }
 
+    @Test
+    @DisplayName("Should intel with the same sequence be equal even if created in the same clock tick")
+    void shouldIntelWithTheSameSequenceBeEqual() {
+        when(hand.getLastSequence()).thenReturn(3L);
+        assertThat(Intel.ofHand(hand, Event.HAND_START)).isEqualTo(Intel.ofHand(hand, Event.HAND_START));
+    }
+
+    @Test
+    @DisplayName("Should game over intel come right after the last event of the hand")
+    void shouldGameOverIntelComeRightAfterTheLastEventOfTheHand() {
+        when(game.currentHand()).thenReturn(hand);
+        when(hand.getLastSequence()).thenReturn(7L);
+        assertThat(Intel.ofGame(game).sequence()).isEqualTo(8L);
+    }
+
     @Test
     @DisplayName("Should intel created with same data differ only by the timestamp")
     void shouldIntelCreatedWithSameDataDifferOnlyByTheTimestamp() {
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
+import com.bueno.spi.service.BotServiceProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BotDecisionContextTest {
+
+    @Mock Player bot;
+    @Mock Intel intel;
+    @Mock BotServiceProvider botService;
+
+    @Test
+    @DisplayName("Should parse possible actions of intel")
+    void shouldParsePossibleActionsOfIntel() {
+        when(intel.possibleActions()).thenReturn(Set.of("PLAY", "RAISE"));
+        final BotDecisionContext sut = new BotDecisionContext(intel, bot, botService);
+        assertThat(sut.canDo(PossibleAction.PLAY)).isTrue();
+        assertThat(sut.canDo(PossibleAction.RAISE)).isTrue();
+        assertThat(sut.canDo(PossibleAction.QUIT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build game intel only once per decision")
+    void shouldBuildGameIntelOnlyOncePerDecision() {
+        final BotDecisionContext sut = new BotDecisionContext(intel, bot, botService);
+        assertThat(sut.gameIntel()).isSameAs(sut.gameIntel());
+    }
+
+    @Test
+    @DisplayName("Should not accept null bot service")
+    void shouldNotAcceptNullBotService() {
+        assertThatNullPointerException().isThrownBy(() -> new BotDecisionContext(intel, bot, null));
+    }
+}
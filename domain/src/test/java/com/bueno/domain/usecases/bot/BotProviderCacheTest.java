@@ -0,0 +1,88 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.spi.service.BotServiceProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class BotProviderCacheTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private BotProviderCache sut;
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        sut = new BotProviderCache(name -> {
+            lookups.incrementAndGet();
+            return mock(BotServiceProvider.class);
+        }, 2);
+        game = new Game(Player.ofBot("Bot 1"), Player.ofBot("Bot 2"));
+    }
+
+    @Test
+    @DisplayName("Should look up each bot only once per game")
+    void shouldLookUpEachBotOnlyOncePerGame() {
+        final BotServiceProvider first = sut.providerFor(game, game.getPlayer1());
+        final BotServiceProvider again = sut.providerFor(game, game.getPlayer1());
+        sut.providerFor(game, game.getPlayer2());
+
+        assertThat(again).isSameAs(first);
+        assertThat(lookups).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should give each game its own bot")
+    void shouldGiveEachGameItsOwnBot() {
+        final Game other = new Game(game.getPlayer1(), game.getPlayer2());
+        assertThat(sut.providerFor(other, game.getPlayer1())).isNotSameAs(sut.providerFor(game, game.getPlayer1()));
+    }
+
+    @Test
+    @DisplayName("Should release the bots of a game")
+    void shouldReleaseTheBotsOfAGame() {
+        sut.providerFor(game, game.getPlayer1());
+        sut.providerFor(game, game.getPlayer2());
+        sut.release(game);
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop the least recently used bot when full")
+    void shouldDropTheLeastRecentlyUsedBotWhenFull() {
+        final Game other = new Game(Player.ofBot("Bot 3"), Player.ofBot("Bot 4"));
+        final BotServiceProvider kept = sut.providerFor(game, game.getPlayer1());
+        sut.providerFor(game, game.getPlayer2());
+        sut.providerFor(game, game.getPlayer1());
+        sut.providerFor(other, other.getPlayer1());
+
+        assertThat(sut.size()).isEqualTo(2);
+        assertThat(sut.providerFor(game, game.getPlayer1())).isSameAs(kept);
+    }
+}
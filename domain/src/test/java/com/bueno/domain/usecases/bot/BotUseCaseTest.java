@@ -122,30 +122,30 @@ class BotUseCaseTest {
     @Test
     @DisplayName("Should first handle mao de onze")
     void shouldFirstHandleMaoDeOnze() {
-        when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(true);
+        when(maoDeOnzeHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(maoDeOnzeHandler, times(1)).handle(intel, player);
-        verify(raiseHandler, times(0)).handle(intel, player);
+        verify(maoDeOnzeHandler, times(1)).handle(any());
+        verify(raiseHandler, times(0)).handle(any());
     }
 
     @Test
     @DisplayName("Should handle raise decision before choosing card")
     void shouldHandleRaiseDecisionBeforeChoosingCard() {
-        when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(false);
-        when(raiseHandler.shouldHandle(intel)).thenReturn(true);
+        when(maoDeOnzeHandler.shouldHandle(any())).thenReturn(false);
+        when(raiseHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseHandler, times(1)).handle(intel, player);
-        verify(cardPlayingHandler, times(0)).handle(intel, player);
+        verify(raiseHandler, times(1)).handle(any());
+        verify(cardPlayingHandler, times(0)).handle(any());
     }
 
     @Test
     @DisplayName("Should handle card playing if already decided to raise or not")
     void shouldHandleCardPlayingIfAlreadyDecidedToRaiseOrNot() {
-        when(raiseHandler.shouldHandle(intel)).thenReturn(false);
-        when(cardPlayingHandler.shouldHandle(intel)).thenReturn(true);
+        when(raiseHandler.shouldHandle(any())).thenReturn(false);
+        when(cardPlayingHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(cardPlayingHandler, times(1)).handle(intel, player);
-        verify(raiseRequestHandler, times(0)).handle(intel, player);
+        verify(cardPlayingHandler, times(1)).handle(any());
+        verify(raiseRequestHandler, times(0)).handle(any());
     }
 
     @Test
@@ -153,7 +153,7 @@ class BotUseCaseTest {
     void shouldHandleIfItIsBotTurnJustBecauseItMustDecideAboutRaiseRequest() {
         when(raiseRequestHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseRequestHandler, times(1)).handle(intel, player);
+        verify(raiseRequestHandler, times(1)).handle(any());
     }
 
     @Test
@@ -164,6 +164,15 @@ class BotUseCaseTest {
         assertThatNoException().isThrownBy(() -> sut.playWhenNecessary(game));
     }
 
+    @Test
+    @DisplayName("Should play bot moves until the game ends without growing the stack")
+    void shouldPlayBotMovesUntilTheGameEndsWithoutGrowingTheStack() {
+        final Game botGame = new Game(Player.ofBot("LazyBot"), Player.ofBot("VeioDoBarBot"));
+        final Intel result = new BotUseCase(gameRepository).playWhenNecessary(botGame);
+        assertThat(result.isGameDone()).isTrue();
+        assertThat(botGame.isDone()).isTrue();
+    }
+
     @Test
     @DisplayName("Should have at least one default bot implementation of bot spi")
     void shouldHaveAtLeastOneDefaultBotImplementationOfBotSpi() {
@@ -22,6 +22,7 @@ package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.spi.model.CardRank;
@@ -56,7 +57,7 @@ class CardPlayingHandlerTest {
     @BeforeEach
     void setUp() {
         lenient().when(bot.getUuid()).thenReturn(UUID.randomUUID());
-        sut = new CardPlayingHandler(cardUseCase, botService);
+        sut = new CardPlayingHandler(cardUseCase);
     }
 
     @AfterEach
@@ -68,24 +69,28 @@ class CardPlayingHandlerTest {
     @DisplayName("Should not handle if can not play")
     void shouldNotHandleIfCanNotPlay() {
         when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should handle playing card and return true")
     void shouldHandlePlayingCardAndReturnTrue() {
         when(botService.chooseCard(any())).thenReturn(CardToPlay.of(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
-        sut.handle(intel, bot);
-        verify(cardUseCase, times(1)).playCard(any());
-        verify(cardUseCase, times(0)).discard(any());
+        sut.handle(context());
+        verify(cardUseCase, times(1)).playCard(any(), any());
+        verify(cardUseCase, times(0)).discard(any(), any());
     }
 
     @Test
     @DisplayName("Should handle discard")
     void shouldHandleDiscard() {
         when(botService.chooseCard(any())).thenReturn(CardToPlay.discard(TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)));
-        sut.handle(intel, bot);
-        verify(cardUseCase, times(0)).playCard(any());
-        verify(cardUseCase, times(1)).discard(any());
+        sut.handle(context());
+        verify(cardUseCase, times(0)).playCard(any(), any());
+        verify(cardUseCase, times(1)).discard(any(), any());
     }
-}
\ No newline at end of file
+
+    private BotDecisionContext context() {
+        return new BotDecisionContext(intel, bot, botService);
+    }
+}
@@ -22,6 +22,7 @@ package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
 import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.spi.service.BotServiceProvider;
@@ -51,7 +52,7 @@ class MaoDeOnzeHandlerTest {
     @BeforeEach
     void setUp() {
         lenient().when(bot.getUuid()).thenReturn(UUID.randomUUID());
-        sut = new MaoDeOnzeHandler(scoreUseCase, botService);
+        sut = new MaoDeOnzeHandler(scoreUseCase);
     }
 
     @AfterEach
@@ -63,31 +64,35 @@ class MaoDeOnzeHandlerTest {
     @DisplayName("Should not handle if is not mao de onze")
     void shouldNotHandleIfIsNotMaoDeOnze() {
         when(intel.isMaoDeOnze()).thenReturn(false);
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should not handle if has already handled")
     void shouldNotHandleIfHasAlreadyHandled() {
         when(intel.handPoints()).thenReturn(3);
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should accept if bot service implementation decides to accept")
     void shouldAcceptIfBotServiceImplementationDecidesToAccept() {
         when(botService.getMaoDeOnzeResponse(any())).thenReturn(true);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(1)).accept(any());
-        verify(scoreUseCase, times(0)).quit(any());
+        sut.handle(context());
+        verify(scoreUseCase, times(1)).accept(any(), any());
+        verify(scoreUseCase, times(0)).quit(any(), any());
     }
 
     @Test
     @DisplayName("Should quit if bot service implementation decides to quit")
     void shouldQuitIfBotServiceImplementationDecidesToQuit() {
         when(botService.getMaoDeOnzeResponse(any())).thenReturn(false);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).accept(any());
-        verify(scoreUseCase, times(1)).quit(any());
+        sut.handle(context());
+        verify(scoreUseCase, times(0)).accept(any(), any());
+        verify(scoreUseCase, times(1)).quit(any(), any());
     }
-}
\ No newline at end of file
+
+    private BotDecisionContext context() {
+        return new BotDecisionContext(intel, bot, botService);
+    }
+}
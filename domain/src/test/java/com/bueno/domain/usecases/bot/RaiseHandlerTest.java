@@ -22,6 +22,7 @@ package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.spi.service.BotServiceProvider;
@@ -48,11 +49,13 @@ class RaiseHandlerTest {
     @Mock BotServiceProvider botService;
     @Mock PointsProposalUseCase scoreUseCase;
     RaiseHandler sut;
+    UUID botUuid;
 
     @BeforeEach
     void setUp() {
-        lenient().when(bot.getUuid()).thenReturn(UUID.randomUUID());
-        sut = new RaiseHandler(scoreUseCase, botService);
+        botUuid = UUID.randomUUID();
+        lenient().when(bot.getUuid()).thenReturn(botUuid);
+        sut = new RaiseHandler(scoreUseCase);
     }
 
     @AfterEach
@@ -64,29 +67,33 @@ class RaiseHandlerTest {
     @DisplayName("Should not handle if can not raise")
     void shouldNotHandleIfCanNotRaise() {
         when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should not handle if is answering a raise request")
     void shouldNotHandleIfIsAnsweringARaiseRequest() {
         when(intel.possibleActions()).thenReturn(Set.of("PLAY", "ACCEPT", "QUIT"));
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should raise if bot service implementation decides to raise")
     void shouldRaiseIfBotServiceImplementationDecidesToRaise() {
         when(botService.decideIfRaises(any())).thenReturn(true);
-        sut.handle(intel,bot);
-        verify(scoreUseCase, times(1)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(1)).raise(any(), eq(botUuid));
     }
 
     @Test
     @DisplayName("Should not handle if bot service implementation decides to not raise")
     void shouldNotHandleIfBotServiceImplementationDecidesToNotRaise() {
         when(botService.decideIfRaises(any())).thenReturn(false);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(0)).raise(any(), eq(botUuid));
     }
-}
\ No newline at end of file
+
+    private BotDecisionContext context() {
+        return new BotDecisionContext(intel, bot, botService);
+    }
+}
@@ -22,6 +22,7 @@ package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.handlers.BotDecisionContext;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.spi.service.BotServiceProvider;
@@ -48,11 +49,13 @@ class RaiseRequestHandlerTest {
     @Mock BotServiceProvider botService;
     @Mock PointsProposalUseCase scoreUseCase;
     RaiseRequestHandler sut;
+    UUID botUuid;
 
     @BeforeEach
     void setUp() {
-        lenient().when(bot.getUuid()).thenReturn(UUID.randomUUID());
-        sut = new RaiseRequestHandler(scoreUseCase, botService);
+        botUuid = UUID.randomUUID();
+        lenient().when(bot.getUuid()).thenReturn(botUuid);
+        sut = new RaiseRequestHandler(scoreUseCase);
     }
 
     @AfterEach
@@ -65,10 +68,10 @@ class RaiseRequestHandlerTest {
     void shouldQuitIfBotServiceImplementationIsAnsweringToQuitAndQuitIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("QUIT"));
         when(botService.getRaiseResponse(any())).thenReturn(-1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(1)).quit(bot.getUuid());
-        verify(scoreUseCase, times(0)).accept(bot.getUuid());
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(1)).quit(any(), eq(botUuid));
+        verify(scoreUseCase, times(0)).accept(any(), eq(botUuid));
+        verify(scoreUseCase, times(0)).raise(any(), eq(botUuid));
     }
 
     @Test
@@ -76,10 +79,10 @@ class RaiseRequestHandlerTest {
     void shouldAcceptIfBotServiceImplementationIsAnsweringToAcceptAndAcceptIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("ACCEPT"));
         when(botService.getRaiseResponse(any())).thenReturn(0);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).quit(bot.getUuid());
-        verify(scoreUseCase, times(1)).accept(bot.getUuid());
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(0)).quit(any(), eq(botUuid));
+        verify(scoreUseCase, times(1)).accept(any(), eq(botUuid));
+        verify(scoreUseCase, times(0)).raise(any(), eq(botUuid));
     }
 
     @Test
@@ -87,31 +90,35 @@ class RaiseRequestHandlerTest {
     void shouldRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsAllowed() {
         when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
         when(botService.getRaiseResponse(any())).thenReturn(1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).quit(bot.getUuid());
-        verify(scoreUseCase, times(0)).accept(bot.getUuid());
-        verify(scoreUseCase, times(1)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(0)).quit(any(), eq(botUuid));
+        verify(scoreUseCase, times(0)).accept(any(), eq(botUuid));
+        verify(scoreUseCase, times(1)).raise(any(), eq(botUuid));
     }
 
     @Test
     @DisplayName("Should not raise if bot service implementation is answering to raise and raise is not allowed")
     void shouldNotRaiseIfBotServiceImplementationIsAnsweringToRaiseAndRaiseIsNotAllowed() {
         when(botService.getRaiseResponse(any())).thenReturn(1);
-        sut.handle(intel, bot);
-        verify(scoreUseCase, times(0)).raise(bot.getUuid());
+        sut.handle(context());
+        verify(scoreUseCase, times(0)).raise(any(), eq(botUuid));
     }
 
     @Test
     @DisplayName("Should not handle if should play")
     void shouldNotHandleIfShouldPlay() {
         when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
 
     @Test
     @DisplayName("Should not handle in mao de onze")
     void shouldNotHandleInMaoDeOnze() {
         when(intel.isMaoDeOnze()).thenReturn(true);
-        assertThat(sut.shouldHandle(intel)).isFalse();
+        assertThat(sut.shouldHandle(context())).isFalse();
     }
-}
\ No newline at end of file
+
+    private BotDecisionContext context() {
+        return new BotDecisionContext(intel, bot, botService);
+    }
+}
@@ -31,6 +31,7 @@ import com.bueno.spi.model.CardSuit;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.model.TrucoCardSet;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -43,6 +44,7 @@ import java.util.UUID;
 
 import static com.bueno.spi.model.GameIntel.RoundResult.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,6 +88,34 @@ class SpiModelAdapterTest {
         assertThat(SpiModelAdapter.toGameIntel(player, intel)).isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("Should keep bot cards of GameIntel after player plays a card")
+    void shouldKeepBotCardsOfGameIntelAfterPlayerPlaysACard() {
+        final Player bot = Player.ofBot("Bot");
+        bot.setCards(List.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.ACE, Suit.SPADES)));
+
+        final GameIntel gameIntel = SpiModelAdapter.toGameIntel(bot, intel);
+        bot.play(Card.of(Rank.TWO, Suit.CLUBS));
+
+        assertThat(gameIntel.getCards()).containsExactly(TrucoCard.of(CardRank.TWO, CardSuit.CLUBS),
+                TrucoCard.of(CardRank.ACE, CardSuit.SPADES));
+        assertThat(gameIntel.getCardSet()).isEqualTo(TrucoCardSet.of(gameIntel.getCards()));
+    }
+
+    @Test
+    @DisplayName("Should create GameIntel with unmodifiable lists")
+    void shouldCreateGameIntelWithUnmodifiableLists() {
+        when(player.getCards()).thenReturn(List.of(Card.of(Rank.TWO, Suit.CLUBS)));
+        when(intel.openCards()).thenReturn(List.of(Card.of(Rank.THREE, Suit.CLUBS)));
+        when(intel.roundWinnersUuid()).thenReturn(List.of(Optional.empty()));
+
+        final GameIntel gameIntel = SpiModelAdapter.toGameIntel(player, intel);
+
+        assertThatThrownBy(() -> gameIntel.getCards().remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> gameIntel.getOpenCards().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> gameIntel.getRoundResults().add(WON)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     @DisplayName("ShouldConvertTrucoCardToCard")
     void shouldConvertTrucoCardToCard() {
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.RemoveGameUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RemoveGameUseCaseTest {
+
+    @Mock
+    private GameRepository gameRepo;
+    @Mock
+    private GameResultRepository gameResultRepo;
+
+    @InjectMocks
+    private RemoveGameUseCase sut;
+
+    @Test
+    @DisplayName("Should remove inactive games in batches without loading them")
+    void shouldRemoveInactiveGamesInBatchesWithoutLoadingThem() {
+        final List<InactiveGameDto> inactiveGames = IntStream.range(0, 150).mapToObj(i -> inactiveGame()).toList();
+        when(gameRepo.findInactiveGamesAfter(5)).thenReturn(inactiveGames);
+
+        final List<UUID> removed = sut.byInactivityAfter(5);
+
+        assertThat(removed).containsExactlyElementsOf(inactiveGames.stream().map(InactiveGameDto::currentPlayerUuid).toList());
+        verify(gameRepo, times(2)).deleteAll(any());
+        verify(gameResultRepo, times(2)).saveAll(any());
+        verify(gameRepo, never()).findByPlayerUuid(any());
+    }
+
+    @Test
+    @DisplayName("Should make the other player the winner of an inactive game")
+    void shouldMakeTheOtherPlayerTheWinnerOfAnInactiveGame() {
+        final InactiveGameDto game = inactiveGame();
+        when(gameRepo.findInactiveGamesAfter(5)).thenReturn(List.of(game));
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<GameResultDto>> results = ArgumentCaptor.forClass(Collection.class);
+
+        sut.byInactivityAfter(5);
+
+        verify(gameRepo).deleteAll(List.of(game.gameUuid()));
+        verify(gameResultRepo).saveAll(results.capture());
+        final GameResultDto result = results.getValue().iterator().next();
+        assertThat(result.winnerUuid()).isEqualTo(game.player2Uuid());
+        assertThat(result.player1Uuid()).isEqualTo(game.currentPlayerUuid());
+        assertThat(result.player2Score()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should delete inactive games that are over without saving another result")
+    void shouldDeleteInactiveGamesThatAreOverWithoutSavingAnotherResult() {
+        final InactiveGameDto abandoned = inactiveGame();
+        final InactiveGameDto over = new InactiveGameDto(UUID.randomUUID(), LocalDateTime.now(), UUID.randomUUID(),
+                UUID.randomUUID(), null);
+        when(gameRepo.findInactiveGamesAfter(5)).thenReturn(List.of(abandoned, over));
+        @SuppressWarnings("unchecked")
+        final ArgumentCaptor<Collection<GameResultDto>> results = ArgumentCaptor.forClass(Collection.class);
+
+        final List<UUID> removed = sut.byInactivityAfter(5);
+
+        assertThat(removed).containsExactly(abandoned.currentPlayerUuid());
+        verify(gameRepo).deleteAll(List.of(abandoned.gameUuid(), over.gameUuid()));
+        verify(gameResultRepo).saveAll(results.capture());
+        assertThat(results.getValue()).extracting(GameResultDto::gameUuid).containsExactly(abandoned.gameUuid());
+    }
+
+    private static InactiveGameDto inactiveGame() {
+        final UUID player1 = UUID.randomUUID();
+        return new InactiveGameDto(UUID.randomUUID(), LocalDateTime.now(), player1, UUID.randomUUID(), player1);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
+import com.bueno.domain.usecases.game.dtos.UserRecordDto;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.usecase.UserRecordUseCase;
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRecordUseCaseTest {
+
+    @Mock
+    private GameResultRepository gameResultRepository;
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UserRecordUseCase sut;
+
+    private UUID userUuid;
+
+    @BeforeEach
+    void setUp() {
+        userUuid = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return a cursor to the last match when there are more matches")
+    void shouldReturnACursorToTheLastMatchWhenThereAreMoreMatches() {
+        final List<MatchHistoryEntryDto> matches = matches(4);
+        registerUser();
+        when(gameResultRepository.findMatchesByUserUuid(userUuid, null, 4)).thenReturn(matches);
+
+        final UserRecordDto record = sut.listByUuid(userUuid, null, 3);
+
+        assertThat(record.record()).hasSize(3);
+        assertThat(record.next()).isEqualTo(matches.get(2).cursor());
+    }
+
+    @Test
+    @DisplayName("Should not return a cursor on the last page")
+    void shouldNotReturnACursorOnTheLastPage() {
+        final MatchCursorDto after = new MatchCursorDto(LocalDateTime.now(), UUID.randomUUID());
+        registerUser();
+        when(gameResultRepository.findMatchesByUserUuid(userUuid, after, 4)).thenReturn(matches(2));
+
+        final UserRecordDto record = sut.listByUuid(userUuid, after, 3);
+
+        assertThat(record.record()).hasSize(2);
+        assertThat(record.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not accept page sizes out of bounds")
+    void shouldNotAcceptPageSizesOutOfBounds() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.listByUuid(userUuid, null, 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.listByUuid(userUuid, null, UserRecordUseCase.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(gameResultRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw if user does not exist")
+    void shouldThrowIfUserDoesNotExist() {
+        when(userRepository.findByUuid(userUuid)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> sut.listByUuid(userUuid)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private void registerUser() {
+        when(userRepository.findByUuid(userUuid))
+                .thenReturn(Optional.of(new ApplicationUserDto(userUuid, "user", "", "user@email.com")));
+    }
+
+    private static List<MatchHistoryEntryDto> matches(int count) {
+        final LocalDateTime now = LocalDateTime.now();
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MatchHistoryEntryDto(UUID.randomUUID(), now.minusMinutes(i), "user", "opponent", "user"))
+                .toList();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.converter;
+
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.service.SimulationEngine;
+import com.bueno.domain.usecases.hand.converter.ConvertedHands;
+import com.bueno.domain.usecases.hand.converter.HandConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameConverterTest {
+
+    private Game game;
+    private SimulationEngine oneMoveAtATime;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game(Player.ofBot("LazyBot"), Player.ofBot("VeioDoBarBot"), new Deck(new Random(7)));
+        oneMoveAtATime = new SimulationEngine(game);
+    }
+
+    @Test
+    @DisplayName("Should produce the same dto as a full conversion after every move")
+    void shouldProduceTheSameDtoAsAFullConversionAfterEveryMove() {
+        final ConvertedHands convertedHands = new ConvertedHands();
+        while (!game.isDone()) {
+            final GameDto dto = GameConverter.toDto(game, convertedHands);
+            assertThat(dto.hands()).isEqualTo(fullConversionOfHands());
+            oneMoveAtATime.playNextMove();
+        }
+        assertThat(GameConverter.toDto(game, convertedHands).hands()).isEqualTo(fullConversionOfHands());
+    }
+
+    @Test
+    @DisplayName("Should reuse the dto of finished hands")
+    void shouldReuseTheDtoOfFinishedHands() {
+        while (game.handsPlayed() < 3 && !game.isDone()) oneMoveAtATime.playNextMove();
+        assertThat(game.handsPlayed()).isEqualTo(3);
+        final ConvertedHands convertedHands = new ConvertedHands();
+        final List<HandDto> first = GameConverter.toDto(game, convertedHands).hands();
+        oneMoveAtATime.playNextMove();
+        final List<HandDto> second = GameConverter.toDto(game, convertedHands).hands();
+
+        assertThat(second.get(0)).isSameAs(first.get(0));
+        assertThat(second.get(1)).isSameAs(first.get(1));
+    }
+
+    @Test
+    @DisplayName("Should reuse the dto of finished hands of a restored game")
+    void shouldReuseTheDtoOfFinishedHandsOfARestoredGame() {
+        while (game.handsPlayed() < 3 && !game.isDone()) oneMoveAtATime.playNextMove();
+        final ConvertedHands convertedHands = new ConvertedHands();
+        final GameDto saved = GameConverter.toDto(game);
+        final Game restored = GameConverter.fromDto(saved, convertedHands);
+        new SimulationEngine(restored).playNextMove();
+        final GameDto savedAgain = GameConverter.toDto(restored, convertedHands);
+
+        assertThat(savedAgain.hands().get(0)).isSameAs(saved.hands().get(0));
+        assertThat(savedAgain.hands().get(2)).isEqualTo(HandConverter.toDto(restored.currentHand()));
+    }
+
+    @Test
+    @DisplayName("Should convert every hand again without converted hands to reuse")
+    void shouldConvertEveryHandAgainWithoutConvertedHandsToReuse() {
+        while (game.handsPlayed() < 3 && !game.isDone()) oneMoveAtATime.playNextMove();
+        final List<HandDto> first = GameConverter.toDto(game, new ConvertedHands()).hands();
+        final List<HandDto> second = GameConverter.toDto(game).hands();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+    }
+
+    private List<HandDto> fullConversionOfHands() {
+        return game.getHands().stream().map(HandConverter::toDto).toList();
+    }
+}
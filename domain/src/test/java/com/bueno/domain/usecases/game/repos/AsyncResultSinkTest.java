@@ -0,0 +1,193 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.domain.usecases.hand.dtos.HandResultDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncResultSinkTest {
+
+    private static final Duration NEVER = Duration.ofDays(1);
+
+    @Mock private HandResultRepository handResultRepository;
+    @Mock private GameResultRepository gameResultRepository;
+    @Mock private Leaderboard leaderboard;
+
+    private AsyncResultSink sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new AsyncResultSink(handResultRepository, gameResultRepository, 100, 3, NEVER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sut.close();
+    }
+
+    @Test
+    @DisplayName("Should write results in a single batch when the batch is full")
+    void shouldWriteResultsInASingleBatchWhenTheBatchIsFull() {
+        final List<HandResultDto> handResults = List.of(handResult(), handResult(), handResult());
+        handResults.forEach(sut.handResults()::save);
+
+        verify(handResultRepository, timeout(1_000)).saveAll(handResults);
+        verify(handResultRepository, never()).save(any());
+        assertThat(sut.flushedBatches()).isEqualTo(1);
+        assertThat(sut.writtenResults()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should write a partial batch once the maximum delay has passed")
+    void shouldWriteAPartialBatchOnceTheMaximumDelayHasPassed() {
+        sut.close();
+        sut = new AsyncResultSink(handResultRepository, gameResultRepository, 100, 50, Duration.ofMillis(20));
+        final GameResultDto gameResult = gameResult();
+        sut.gameResults().save(gameResult);
+
+        verify(gameResultRepository, timeout(1_000)).saveAll(List.of(gameResult));
+    }
+
+    @Test
+    @DisplayName("Should write pending results before answering a query")
+    void shouldWritePendingResultsBeforeAnsweringAQuery() {
+        final GameResultDto gameResult = gameResult();
+        sut.gameResults().save(gameResult);
+        sut.gameResults().findTopWinners(10);
+
+        final var inOrder = inOrder(gameResultRepository);
+        inOrder.verify(gameResultRepository).saveAll(List.of(gameResult));
+        inOrder.verify(gameResultRepository).findTopWinners(10);
+    }
+
+    @Test
+    @DisplayName("Should write every queued result when closed")
+    void shouldWriteEveryQueuedResultWhenClosed() {
+        final HandResultDto handResult = handResult();
+        final GameResultDto gameResult = gameResult();
+        sut.handResults().save(handResult);
+        sut.gameResults().save(gameResult);
+        sut.close();
+
+        verify(handResultRepository).saveAll(List.of(handResult));
+        verify(gameResultRepository).saveAll(List.of(gameResult));
+        assertThat(sut.queuedResults()).isZero();
+        assertThatIllegalStateException().isThrownBy(() -> sut.handResults().save(handResult()));
+    }
+
+    @Test
+    @DisplayName("Should write results one by one when the batch fails")
+    void shouldWriteResultsOneByOneWhenTheBatchFails() {
+        final HandResultDto good = handResult();
+        final HandResultDto bad = handResult();
+        doThrow(IllegalArgumentException.class).when(handResultRepository).saveAll(anyCollection());
+        lenient().doThrow(IllegalArgumentException.class).when(handResultRepository).save(bad);
+
+        sut.handResults().save(good);
+        sut.handResults().save(bad);
+        sut.flush();
+
+        verify(handResultRepository).save(good);
+        assertThat(sut.writtenResults()).isEqualTo(1);
+        assertThat(sut.failedResults()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should count in the leaderboard only the game results that were written")
+    void shouldCountInTheLeaderboardOnlyTheGameResultsThatWereWritten() {
+        sut.close();
+        sut = new AsyncResultSink(handResultRepository, new LeaderboardGameResultRepository(gameResultRepository, leaderboard),
+                100, 3, NEVER);
+        final GameResultDto good = gameResult();
+        final GameResultDto bad = gameResult();
+        doThrow(IllegalArgumentException.class).when(gameResultRepository).saveAll(anyCollection());
+        lenient().doThrow(IllegalArgumentException.class).when(gameResultRepository).save(bad);
+
+        sut.gameResults().save(good);
+        sut.gameResults().save(bad);
+        sut.flush();
+
+        verify(leaderboard).record(good);
+        verify(leaderboard, never()).record(bad);
+        verify(leaderboard, never()).recordAll(any());
+    }
+
+    @Test
+    @DisplayName("Should block producers while the queue is full")
+    void shouldBlockProducersWhileTheQueueIsFull() throws Exception {
+        sut.close();
+        sut = new AsyncResultSink(handResultRepository, gameResultRepository, 1, 1, NEVER);
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).doNothing().when(handResultRepository).saveAll(anyCollection());
+
+        sut.handResults().save(handResult());
+        assertThat(writing.await(1, TimeUnit.SECONDS)).isTrue();
+        sut.handResults().save(handResult());
+        final CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> sut.handResults().save(handResult()));
+
+        verify(handResultRepository, after(100).times(1)).saveAll(anyCollection());
+        assertThat(blocked).isNotDone();
+        release.countDown();
+        blocked.get(1, TimeUnit.SECONDS);
+        verify(handResultRepository, timeout(1_000).times(3)).saveAll(anyCollection());
+        assertThat(sut.backpressureWaits()).isEqualTo(1);
+
+        sut.close();
+        assertThat(sut.writtenResults()).isEqualTo(3);
+    }
+
+    private static HandResultDto handResult() {
+        return new HandResultDto("WIN", UUID.randomUUID(), UUID.randomUUID(), 1, 0, List.of(), List.of());
+    }
+
+    private static GameResultDto gameResult() {
+        final LocalDateTime now = LocalDateTime.now();
+        return new GameResultDto(UUID.randomUUID(), now, now, UUID.randomUUID(), UUID.randomUUID(), 12,
+                UUID.randomUUID(), 3);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentGameRepositoryImplTest {
+
+    private Game game;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game(Player.of(UUID.randomUUID(), "user"), Player.ofBot("bot"));
+    }
+
+    @Test
+    @DisplayName("Should find game by the uuid of any of its players")
+    void shouldFindGameByTheUuidOfAnyOfItsPlayers() {
+        final ConcurrentGameRepositoryImpl sut = new ConcurrentGameRepositoryImpl();
+        sut.save(GameConverter.toDto(game));
+
+        assertThat(sut.findByPlayerUuid(game.getPlayer1().getUuid()).map(GameDto::gameUuid)).contains(game.getUuid());
+        assertThat(sut.findByPlayerUuid(game.getPlayer2().getUuid()).map(GameDto::gameUuid)).contains(game.getUuid());
+        assertThat(sut.findByPlayerUuid(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should remove game and its players from the index when deleting")
+    void shouldRemoveGameAndItsPlayersFromTheIndexWhenDeleting() {
+        final ConcurrentGameRepositoryImpl sut = new ConcurrentGameRepositoryImpl();
+        sut.save(GameConverter.toDto(game));
+        sut.delete(game.getUuid());
+
+        assertThat(sut.findByPlayerUuid(game.getPlayer1().getUuid())).isEmpty();
+        assertThat(sut.findByPlayerUuid(game.getPlayer2().getUuid())).isEmpty();
+        assertThat(sut.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not update a game that was not saved")
+    void shouldNotUpdateAGameThatWasNotSaved() {
+        final ConcurrentGameRepositoryImpl sut = new ConcurrentGameRepositoryImpl();
+        sut.update(GameConverter.toDto(game));
+        assertThat(sut.findByPlayerUuid(game.getPlayer1().getUuid())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find only games inactive for longer than the given minutes")
+    void shouldFindOnlyGamesInactiveForLongerThanTheGivenMinutes() {
+        final ConcurrentGameRepositoryImpl sut = new ConcurrentGameRepositoryImpl();
+        sut.save(GameConverter.toDto(game));
+        assertThat(sut.findAllInactiveAfter(10)).isEmpty();
+        assertThat(sut.findAllInactiveAfter(-1)).extracting(GameDto::gameUuid).containsExactly(game.getUuid());
+    }
+
+    @Test
+    @DisplayName("Should keep index consistent when saving and deleting games concurrently")
+    void shouldKeepIndexConsistentWhenSavingAndDeletingGamesConcurrently() {
+        final ConcurrentGameRepositoryImpl sut = new ConcurrentGameRepositoryImpl();
+        final List<Game> games = IntStream.range(0, 200)
+                .mapToObj(index -> new Game(Player.of(UUID.randomUUID(), "user" + index), Player.ofBot("bot")))
+                .toList();
+
+        games.parallelStream().map(GameConverter::toDto).forEach(sut::save);
+        games.parallelStream().filter(each -> games.indexOf(each) % 2 == 0).map(Game::getUuid).forEach(sut::delete);
+
+        assertThat(sut.size()).isEqualTo(100);
+        for (int index = 0; index < games.size(); index++) {
+            final Game each = games.get(index);
+            assertThat(sut.findByPlayerUuid(each.getPlayer1().getUuid()).isPresent()).isEqualTo(index % 2 == 1);
+        }
+    }
+}
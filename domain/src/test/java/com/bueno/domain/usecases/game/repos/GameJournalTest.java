@@ -0,0 +1,180 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameJournal.Entry;
+import com.bueno.domain.usecases.game.repos.GameJournal.Kind;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<GameDto> games = new CopyOnWriteArrayList<>();
+    private final GameJournal.Codec codec = new GameJournal.Codec() {
+        @Override
+        public synchronized byte[] encode(GameDto game) {
+            games.add(game);
+            return String.valueOf(games.size() - 1).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public GameDto decode(byte[] bytes) {
+            return games.get(Integer.parseInt(new String(bytes, StandardCharsets.UTF_8)));
+        }
+    };
+
+    @Test
+    @DisplayName("Should recover every record appended by concurrent writers")
+    void shouldRecoverEveryRecordAppendedByConcurrentWriters() {
+        final List<GameDto> written = IntStream.range(0, 200).mapToObj(i -> newGame()).toList();
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            written.parallelStream().forEach(game -> journal.append(Kind.CREATE, game.gameUuid(), game));
+        }
+
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).extracting(Entry::game).containsExactlyInAnyOrderElementsOf(written);
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a torn record at the end of the journal")
+    void shouldIgnoreATornRecordAtTheEndOfTheJournal() throws IOException {
+        final GameDto game = newGame();
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            journal.append(Kind.UPDATE, game.gameUuid(), game);
+            journal.append(Kind.DELETE, game.gameUuid(), null);
+        }
+        try (var segments = Files.list(directory)) {
+            final Path segment = segments.filter(path -> path.toFile().length() > 0).findFirst().orElseThrow();
+            final long length = Files.size(segment);
+            try (var channel = Files.newByteChannel(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(length - 3);
+            }
+        }
+
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).containsExactly(new Entry(Kind.UPDATE, game.gameUuid(), game));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not recover released segments")
+    void shouldNotRecoverReleasedSegments() {
+        final GameDto game = newGame();
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            journal.append(Kind.CREATE, game.gameUuid(), game);
+            journal.release(journal.rotate());
+        }
+
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should record updates as deltas and recover them as whole games")
+    void shouldRecordUpdatesAsDeltasAndRecoverThemAsWholeGames() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "user"), Player.ofBot("bot"));
+        final GameDto created = GameConverter.toDto(game);
+        final GameDto played = nextMove(game);
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            journal.append(Kind.CREATE, created.gameUuid(), created);
+            journal.appendUpdate(played.gameUuid(), created, played);
+        }
+
+        final HandHistoryDto recorded = games.get(1).hands().get(0).history();
+        assertThat(recorded.events()).hasSize(played.hands().get(0).history().events().size()
+                - created.hands().get(0).history().events().size());
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).containsExactly(new Entry(Kind.CREATE, created.gameUuid(), created),
+                    new Entry(Kind.UPDATE, played.gameUuid(), played));
+        }
+    }
+
+    @Test
+    @DisplayName("Should record whole the first update of a game after a rotation")
+    void shouldRecordWholeTheFirstUpdateOfAGameAfterARotation() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "user"), Player.ofBot("bot"));
+        final GameDto created = GameConverter.toDto(game);
+        final GameDto played = nextMove(game);
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            journal.append(Kind.CREATE, created.gameUuid(), created);
+            journal.release(journal.rotate());
+            journal.appendUpdate(played.gameUuid(), created, played);
+        }
+
+        assertThat(games.get(1)).isEqualTo(played);
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).containsExactly(new Entry(Kind.UPDATE, played.gameUuid(), played));
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a delta that was not taken from the recovered game")
+    void shouldDropADeltaThatWasNotTakenFromTheRecoveredGame() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "user"), Player.ofBot("bot"));
+        final GameDto created = GameConverter.toDto(game);
+        final GameDto played = nextMove(game);
+        final GameDto playedAgain = nextMove(game);
+        try (GameJournal journal = GameJournal.open(directory, codec)) {
+            journal.append(Kind.CREATE, created.gameUuid(), created);
+            journal.appendUpdate(playedAgain.gameUuid(), played, playedAgain);
+        }
+
+        try (GameJournal reopened = GameJournal.open(directory, codec)) {
+            assertThat(reopened.recoveredEntries()).containsExactly(new Entry(Kind.CREATE, created.gameUuid(), created));
+        }
+    }
+
+    private static GameDto nextMove(Game game) {
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        if (hand.getCardToPlayAgainst().isPresent()) hand.playSecondCard(player, player.getCards().get(0));
+        else hand.playFirstCard(player, player.getCards().get(0));
+        return GameConverter.toDto(game);
+    }
+
+    private static GameDto newGame() {
+        return GameConverter.toDto(new Game(Player.of(UUID.randomUUID(), "user"), Player.ofBot("bot")));
+    }
+}
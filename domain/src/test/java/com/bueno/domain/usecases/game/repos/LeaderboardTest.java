@@ -0,0 +1,156 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.usecases.game.dtos.GameResultDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
+import com.bueno.domain.usecases.user.UserRepository;
+import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardTest {
+
+    @Mock private GameResultRepository gameResultRepository;
+    @Mock private LeaderboardRepository leaderboardRepository;
+    @Mock private UserRepository userRepository;
+
+    @InjectMocks private Leaderboard sut;
+
+    private UUID alice;
+    private UUID bob;
+
+    @BeforeEach
+    void setUp() {
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should rank players by wins")
+    void shouldRankPlayersByWins() {
+        registerUser(alice, "Alice");
+        registerUser(bob, "Bob");
+
+        sut.recordAll(List.of(wonBy(alice), wonBy(bob), wonBy(bob)));
+
+        assertThat(sut.top(10)).containsExactly(new PlayerWinsDto("Bob", 2), new PlayerWinsDto("Alice", 1));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested number of players")
+    void shouldReturnOnlyTheRequestedNumberOfPlayers() {
+        when(gameResultRepository.findWinsByPlayer()).thenReturn(List.of(
+                new LeaderboardEntryDto(alice, "Alice", 5), new LeaderboardEntryDto(bob, "Bob", 7)));
+        sut.rebuild();
+
+        assertThat(sut.top(1)).containsExactly(new PlayerWinsDto("Bob", 7));
+    }
+
+    @Test
+    @DisplayName("Should write only the changed players to the summary")
+    void shouldWriteOnlyTheChangedPlayersToTheSummary() {
+        when(gameResultRepository.findWinsByPlayer()).thenReturn(List.of(
+                new LeaderboardEntryDto(alice, "Alice", 5), new LeaderboardEntryDto(bob, "Bob", 7)));
+        sut.rebuild();
+
+        sut.record(wonBy(alice));
+
+        verify(leaderboardRepository).saveAll(List.of(new LeaderboardEntryDto(alice, "Alice", 6)));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should not rank winners without a user account")
+    void shouldNotRankWinnersWithoutAUserAccount() {
+        when(userRepository.findByUuid(alice)).thenReturn(Optional.empty());
+
+        sut.record(wonBy(alice));
+
+        assertThat(sut.top(10)).isEmpty();
+        verify(leaderboardRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the summary from the game results")
+    void shouldRebuildTheSummaryFromTheGameResults() {
+        final List<LeaderboardEntryDto> history = List.of(new LeaderboardEntryDto(alice, "Alice", 3));
+        when(gameResultRepository.findWinsByPlayer()).thenReturn(history);
+
+        sut.rebuild();
+
+        verify(leaderboardRepository).replaceAll(history);
+        assertThat(sut.top(10)).containsExactly(new PlayerWinsDto("Alice", 3));
+    }
+
+    @Test
+    @DisplayName("Should write summary rows that failed again with the next result")
+    void shouldWriteSummaryRowsThatFailedAgainWithTheNextResult() {
+        registerUser(alice, "Alice");
+        registerUser(bob, "Bob");
+        doThrow(IllegalStateException.class).doNothing().when(leaderboardRepository).saveAll(any());
+
+        sut.record(wonBy(alice));
+        sut.record(wonBy(bob));
+
+        verify(leaderboardRepository).saveAll(argThat(rows -> rows.size() == 2
+                && rows.containsAll(List.of(new LeaderboardEntryDto(alice, "Alice", 1), new LeaderboardEntryDto(bob, "Bob", 1)))));
+        assertThat(sut.top(10)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should look up new winners without holding the ranking lock")
+    void shouldLookUpNewWinnersWithoutHoldingTheRankingLock() {
+        when(userRepository.findByUuid(alice)).thenAnswer(invocation -> {
+            assertThat(Thread.holdsLock(sut)).isFalse();
+            return Optional.of(new ApplicationUserDto(alice, "Alice", "", ""));
+        });
+
+        sut.recordAll(List.of(wonBy(alice), wonBy(alice)));
+
+        verify(userRepository, times(1)).findByUuid(alice);
+        assertThat(sut.top(10)).containsExactly(new PlayerWinsDto("Alice", 2));
+    }
+
+    private void registerUser(UUID uuid, String username) {
+        when(userRepository.findByUuid(uuid)).thenReturn(Optional.of(new ApplicationUserDto(uuid, username, "", "")));
+    }
+
+    private static GameResultDto wonBy(UUID winner) {
+        final LocalDateTime now = LocalDateTime.now();
+        return new GameResultDto(UUID.randomUUID(), now, now, winner, winner, 12, UUID.randomUUID(), 0);
+    }
+}
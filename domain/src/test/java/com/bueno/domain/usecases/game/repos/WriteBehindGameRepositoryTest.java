@@ -0,0 +1,211 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.repos;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.utils.exceptions.StaleGameUpdateException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class WriteBehindGameRepositoryTest {
+
+    private static final Duration NEVER = Duration.ofDays(1);
+
+    @TempDir
+    Path journalDirectory;
+
+    private final Map<Integer, GameDto> encodedGames = new ConcurrentHashMap<>();
+    private final AtomicInteger encodings = new AtomicInteger();
+    private final GameJournal.Codec codec = new GameJournal.Codec() {
+        @Override
+        public byte[] encode(GameDto game) {
+            final int key = encodings.getAndIncrement();
+            encodedGames.put(key, game);
+            return ByteBuffer.allocate(Integer.BYTES).putInt(key).array();
+        }
+
+        @Override
+        public GameDto decode(byte[] bytes) {
+            return encodedGames.get(ByteBuffer.wrap(bytes).getInt());
+        }
+    };
+
+    private ConcurrentGameRepositoryImpl backing;
+    private Game aggregate;
+    private GameDto game;
+    private UUID playerUuid;
+    private WriteBehindGameRepository sut;
+
+    @BeforeEach
+    void setUp() {
+        backing = spy(new ConcurrentGameRepositoryImpl());
+        playerUuid = UUID.randomUUID();
+        aggregate = new Game(Player.of(playerUuid, "user"), Player.ofBot("bot"));
+        game = GameConverter.toDto(aggregate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (sut != null) sut.close();
+    }
+
+    @Test
+    @DisplayName("Should serve written games from memory before they are flushed")
+    void shouldServeWrittenGamesFromMemoryBeforeTheyAreFlushed() {
+        sut = new WriteBehindGameRepository(backing, NEVER);
+        sut.save(game);
+
+        assertThat(sut.findByPlayerUuid(playerUuid)).contains(game.withVersion(0L));
+        assertThat(backing.size()).isZero();
+        assertThat(sut.dirtyGames()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should write each dirty game once per flush")
+    void shouldWriteEachDirtyGameOncePerFlush() {
+        backing.save(game);
+        sut = new WriteBehindGameRepository(backing, NEVER);
+        for (int move = 0; move < 5; move++) sut.update(game);
+        sut.flush();
+
+        verify(backing, times(1)).update(any(GameDto.class));
+        assertThat(sut.dirtyGames()).isZero();
+        assertThat(sut.flushedGames()).isOne();
+    }
+
+    @Test
+    @DisplayName("Should not write a game created and deleted between flushes")
+    void shouldNotWriteAGameCreatedAndDeletedBetweenFlushes() {
+        sut = new WriteBehindGameRepository(backing, NEVER);
+        sut.save(game);
+        sut.delete(game.gameUuid());
+        sut.flush();
+
+        verify(backing, never()).save(any(GameDto.class));
+        verify(backing, never()).deleteAll(any());
+        assertThat(sut.findByPlayerUuid(playerUuid)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should load games missing from memory from the backing repository")
+    void shouldLoadGamesMissingFromMemoryFromTheBackingRepository() {
+        backing.save(game);
+        sut = new WriteBehindGameRepository(backing, NEVER);
+
+        assertThat(sut.findByPlayerUuid(playerUuid)).contains(game.withVersion(0L));
+        assertThat(sut.findByPlayerUuid(playerUuid)).contains(game.withVersion(0L));
+        verify(backing, times(1)).findByPlayerUuid(playerUuid);
+    }
+
+    @Test
+    @DisplayName("Should send each flushed update with the version the game is stored at")
+    void shouldSendEachFlushedUpdateWithTheVersionTheGameIsStoredAt() {
+        backing.save(game.withVersion(7L));
+        sut = new WriteBehindGameRepository(backing, NEVER);
+        sut.findByPlayerUuid(playerUuid);
+        sut.update(nextMove().withVersion(7L));
+        sut.update(nextMove().withVersion(8L));
+        sut.flush();
+        sut.update(nextMove().withVersion(9L));
+        sut.flush();
+
+        verify(backing).update(argThat(update -> update.version() == 7L));
+        verify(backing).update(argThat(update -> update.version() == 8L));
+    }
+
+    @Test
+    @DisplayName("Should replay journaled writes that were not flushed before a crash")
+    void shouldReplayJournaledWritesThatWereNotFlushedBeforeACrash() {
+        final GameJournal crashedJournal = GameJournal.open(journalDirectory, codec);
+        final WriteBehindGameRepository crashed = new WriteBehindGameRepository(backing, NEVER, crashedJournal);
+        crashed.save(game);
+        final GameDto played = nextMove().withVersion(0L);
+        crashed.update(played);
+        assertThat(backing.size()).isZero();
+
+        final ConcurrentGameRepositoryImpl restartedBacking = new ConcurrentGameRepositoryImpl();
+        sut = new WriteBehindGameRepository(restartedBacking, NEVER, GameJournal.open(journalDirectory, codec));
+
+        assertThat(restartedBacking.findByPlayerUuid(playerUuid)).contains(played.withVersion(1L));
+        crashedJournal.close();
+    }
+
+    @Test
+    @DisplayName("Should reject an update made from a stale copy of the game")
+    void shouldRejectAnUpdateMadeFromAStaleCopyOfTheGame() {
+        sut = new WriteBehindGameRepository(backing, NEVER, GameJournal.open(journalDirectory, codec));
+        sut.save(game);
+        final GameDto played = nextMove().withVersion(0L);
+        sut.update(played);
+        final GameDto racing = nextMove().withVersion(0L);
+
+        assertThatExceptionOfType(StaleGameUpdateException.class).isThrownBy(() -> sut.update(racing));
+        assertThatExceptionOfType(StaleGameUpdateException.class).isThrownBy(() -> sut.update(played));
+        assertThatExceptionOfType(StaleGameUpdateException.class).isThrownBy(() -> sut.update(game));
+        assertThat(sut.findByPlayerUuid(playerUuid)).contains(played.withVersion(1L));
+    }
+
+    @Test
+    @DisplayName("Should release journal segments once their writes are flushed")
+    void shouldReleaseJournalSegmentsOnceTheirWritesAreFlushed() {
+        final WriteBehindGameRepository repository =
+                new WriteBehindGameRepository(backing, NEVER, GameJournal.open(journalDirectory, codec));
+        repository.save(game);
+        repository.close();
+
+        try (GameJournal reopened = GameJournal.open(journalDirectory, codec)) {
+            assertThat(reopened.recoveredEntries()).isEmpty();
+        }
+        assertThat(backing.findByPlayerUuid(playerUuid)).contains(game.withVersion(0L));
+    }
+
+    private GameDto nextMove() {
+        final Hand hand = aggregate.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        final Card card = player.getCards().stream().filter(unplayed -> !hand.getOpenCards().contains(unplayed))
+                .findFirst().orElseThrow();
+        if (hand.getCardToPlayAgainst().isPresent()) hand.playSecondCard(player, card);
+        else hand.playFirstCard(player, card);
+        return GameConverter.toDto(aggregate);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.ConfidenceIntervalDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SequentialStoppingRuleTest {
+
+    private final SequentialStoppingRule rule = new SequentialStoppingRule(0.95, 10, 100, 10);
+
+    @ParameterizedTest
+    @CsvSource({"0.90,1.645", "0.95,1.960", "0.99,2.576"})
+    @DisplayName("Should compute two-sided z score of confidence level")
+    void shouldComputeTwoSidedZScoreOfConfidenceLevel(double confidence, double expected) {
+        assertThat(SequentialStoppingRule.zScore(confidence)).isCloseTo(expected, within(1e-3));
+    }
+
+    @Test
+    @DisplayName("Should compute Wilson score interval")
+    void shouldComputeWilsonScoreInterval() {
+        final ConfidenceIntervalDto interval = rule.interval(10, 10);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(interval.estimate()).isEqualTo(1.0);
+        softly.assertThat(interval.lowerBound()).isCloseTo(0.722, within(1e-3));
+        softly.assertThat(interval.upperBound()).isEqualTo(1.0);
+        softly.assertThat(interval.confidence()).isEqualTo(0.95);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should return whole range if no game was played")
+    void shouldReturnWholeRangeIfNoGameWasPlayed() {
+        final ConfidenceIntervalDto interval = rule.interval(0, 0);
+        assertThat(interval.contains(0.0) && interval.contains(1.0)).isTrue();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"10,10,true", "0,10,true", "5,10,false", "7,10,false", "60,90,true", "50,90,false", "50,100,true"})
+    @DisplayName("Should stop only when interval excludes even odds or cap is reached")
+    void shouldStopOnlyWhenIntervalExcludesEvenOddsOrCapIsReached(long wins, long games, boolean expected) {
+        assertThat(rule.shouldStop(wins, games)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should not stop before minimum number of games")
+    void shouldNotStopBeforeMinimumNumberOfGames() {
+        final SequentialStoppingRule rule = new SequentialStoppingRule(0.5, 20, 100, 10);
+        assertThat(rule.shouldStop(10, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should size batches to reach minimum and not exceed maximum")
+    void shouldSizeBatchesToReachMinimumAndNotExceedMaximum() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(rule.nextBatchSize(0)).isEqualTo(10);
+        softly.assertThat(rule.nextBatchSize(4)).isEqualTo(6);
+        softly.assertThat(rule.nextBatchSize(30)).isEqualTo(10);
+        softly.assertThat(rule.nextBatchSize(95)).isEqualTo(5);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should fixed rule play exactly the given number of games")
+    void shouldFixedRulePlayExactlyTheGivenNumberOfGames() {
+        final SequentialStoppingRule fixed = SequentialStoppingRule.fixed(31, 0.95);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(fixed.nextBatchSize(0)).isEqualTo(31);
+        softly.assertThat(fixed.shouldStop(16, 31)).isTrue();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not accept invalid parameters")
+    void shouldNotAcceptInvalidParameters() {
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThatIllegalArgumentException().isThrownBy(() -> new SequentialStoppingRule(1.0, 10, 100, 10));
+        softly.assertThatIllegalArgumentException().isThrownBy(() -> new SequentialStoppingRule(0.95, 0, 100, 10));
+        softly.assertThatIllegalArgumentException().isThrownBy(() -> new SequentialStoppingRule(0.95, 10, 5, 10));
+        softly.assertThatIllegalArgumentException().isThrownBy(() -> new SequentialStoppingRule(0.95, 10, 100, 0));
+        softly.assertAll();
+    }
+}
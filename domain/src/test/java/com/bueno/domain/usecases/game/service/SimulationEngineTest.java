@@ -0,0 +1,189 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.BotUseCase;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
+import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mockito;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class SimulationEngineTest {
+
+    @ParameterizedTest
+    @CsvSource({"LazyBot,VeioDoBarBot", "TrucoGuru,JackBot", "VeioDoBarBot,TrucoGuru"})
+    @DisplayName("Should produce the same game as the use case path for the same deals")
+    void shouldProduceTheSameGameAsTheUseCasePathForTheSameDeals(String bot1Name, String bot2Name) {
+        for (int i = 0; i < 5; i++) {
+            final Game expected = playWithUseCases(bot1Name, bot2Name);
+            final Game actual = playWithEngine(expected);
+            assertSameGame(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep dealing from the same real deck past five hands")
+    void shouldKeepDealingFromTheSameRealDeckPastFiveHands() {
+        final Game game = new Game(Player.ofBot("Bot 1"), Player.ofBot("Bot 2"), new Deck(new Random(42)));
+
+        new SimulationEngine(game, new NeverRaisingBot(), new NeverRaisingBot()).play();
+
+        assertThat(game.isDone()).isTrue();
+        assertThat(game.handsPlayed()).isGreaterThan(5);
+    }
+
+    @Test
+    @DisplayName("Should not accept null game")
+    void shouldNotAcceptNullGame() {
+        final BotServiceProvider bot = Mockito.mock(BotServiceProvider.class);
+        assertThatNullPointerException().isThrownBy(() -> new SimulationEngine(null, bot, bot));
+    }
+
+    @Test
+    @DisplayName("Should not accept game with human players")
+    void shouldNotAcceptGameWithHumanPlayers() {
+        final BotServiceProvider bot = Mockito.mock(BotServiceProvider.class);
+        final Game game = new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("LazyBot"));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SimulationEngine(game, bot, bot));
+    }
+
+    private Game playWithUseCases(String bot1Name, String bot2Name) {
+        final GameRepository repo = new GameRepoDisposableImpl();
+        final var request = new CreateForBotsDto(UUID.randomUUID(), bot1Name, UUID.randomUUID(), bot2Name);
+        new CreateGameUseCase(repo).createForBots(request);
+        final Game game = repo.findByPlayerUuid(request.bot1Uuid()).map(GameConverter::fromDto).orElseThrow();
+        new BotUseCase(repo).playWhenNecessary(game);
+        return game;
+    }
+
+    private Game playWithEngine(Game reference) {
+        final Player player1 = Player.ofBot(reference.getPlayer1().getUuid(), reference.getPlayer1().getUsername());
+        final Player player2 = Player.ofBot(reference.getPlayer2().getUuid(), reference.getPlayer2().getUsername());
+        final Game game = new Game(player1, player2, reference.getUuid(), new ReplayDeck(reference.getHands()));
+        new SimulationEngine(game).play();
+        return game;
+    }
+
+    private void assertSameGame(Game expected, Game actual) {
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(actual.getWinner().map(Player::getUuid))
+                .as("Winner").isEqualTo(expected.getWinner().map(Player::getUuid));
+        softly.assertThat(actual.getPlayer1().getScore()).as("Player 1 score").isEqualTo(expected.getPlayer1().getScore());
+        softly.assertThat(actual.getPlayer2().getScore()).as("Player 2 score").isEqualTo(expected.getPlayer2().getScore());
+        softly.assertThat(actual.handsPlayed()).as("Number of hands").isEqualTo(expected.handsPlayed());
+
+        final int hands = Math.min(actual.handsPlayed(), expected.handsPlayed());
+        for (int i = 0; i < hands; i++) {
+            final Hand expectedHand = expected.getHands().get(i);
+            final Hand actualHand = actual.getHands().get(i);
+            softly.assertThat(actualHand.getOpenCards()).as("Open cards of hand " + i).isEqualTo(expectedHand.getOpenCards());
+            softly.assertThat(actualHand.getPoints()).as("Points of hand " + i).isEqualTo(expectedHand.getPoints());
+            softly.assertThat(winnerOf(actualHand)).as("Winner of hand " + i).isEqualTo(winnerOf(expectedHand));
+            softly.assertThat(eventsOf(actualHand)).as("Events of hand " + i).isEqualTo(eventsOf(expectedHand));
+        }
+        softly.assertAll();
+    }
+
+    private Optional<UUID> winnerOf(Hand hand) {
+        return hand.getResult().flatMap(HandResult::getWinner).map(Player::getUuid);
+    }
+
+    private List<String> eventsOf(Hand hand) {
+        return hand.getIntelHistory().stream()
+                .map(intel -> intel.event().orElse("") + ":" + intel.eventPlayerUuid().map(UUID::toString).orElse(""))
+                .toList();
+    }
+
+    // Every hand is worth one point, so a game between two of these bots always lasts more than five hands.
+    private static class NeverRaisingBot implements BotServiceProvider {
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return true;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+    }
+
+    private static class ReplayDeck extends Deck {
+        private final Queue<Card> cards = new ArrayDeque<>();
+
+        ReplayDeck(List<Hand> hands) {
+            hands.forEach(hand -> cards.addAll(hand.getDealtCards()));
+        }
+
+        @Override
+        public void shuffle() {
+        }
+
+        @Override
+        public Card takeOne() {
+            return cards.remove();
+        }
+
+        @Override
+        public List<Card> take(int numberOfCards) {
+            final List<Card> taken = new ArrayList<>();
+            for (int i = 0; i < numberOfCards; i++) taken.add(cards.remove());
+            return taken;
+        }
+    }
+}
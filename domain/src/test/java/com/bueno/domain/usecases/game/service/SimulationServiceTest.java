@@ -0,0 +1,81 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.dtos.DuplicatePairDto;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+
+class SimulationServiceTest {
+
+    @Test
+    @DisplayName("Should deal the same cards to swapped seats in mirrored games")
+    void shouldDealTheSameCardsToSwappedSeatsInMirroredGames() {
+        final Player bot1 = Player.ofBot(UUID.randomUUID(), "LazyBot");
+        final Player bot2 = Player.ofBot(UUID.randomUUID(), "VeioDoBarBot");
+        final Game game = new Game(bot1, bot2, new SplittableRandom(7));
+        final List<?> bot1Cards = List.copyOf(bot1.getCards());
+        final List<?> bot2Cards = List.copyOf(bot2.getCards());
+
+        final Game mirroredGame = new Game(bot2, bot1, new SplittableRandom(7));
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(mirroredGame.currentHand().getVira()).isEqualTo(game.currentHand().getVira());
+        softly.assertThat(bot2.getCards()).isEqualTo(bot1Cards);
+        softly.assertThat(bot1.getCards()).isEqualTo(bot2Cards);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should replay the same duplicate pair from the same seed")
+    void shouldReplayTheSameDuplicatePairFromTheSameSeed() {
+        final SimulationService sut = new SimulationService(UUID.randomUUID(), "TrucoGuru", "JackBot");
+        final DuplicatePairDto pair = sut.simulateDuplicate(42);
+        final DuplicatePairDto replay = sut.simulateDuplicate(42);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(replay.game().name()).isEqualTo(pair.game().name());
+        softly.assertThat(replay.mirroredGame().name()).isEqualTo(pair.mirroredGame().name());
+        softly.assertThat(pair.winsOf("TrucoGuru") + pair.winsOf("JackBot")).isEqualTo(2);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should count games that failed instead of leaving them out")
+    void shouldCountGamesThatFailedInsteadOfLeavingThemOut() {
+        final SimulationService sut = new SimulationService(UUID.randomUUID(), "LazyBot", "NoSuchBot");
+        final MatchupResultsDto results = sut.runInParallel(2);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(results.games()).isEmpty();
+        softly.assertThat(results.failedGames()).isEqualTo(2);
+        softly.assertAll();
+    }
+}
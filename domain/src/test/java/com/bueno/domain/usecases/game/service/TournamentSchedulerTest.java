@@ -0,0 +1,115 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.game.dtos.Dealing;
+import com.bueno.domain.usecases.game.dtos.MatchupResultsDto;
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.dtos.TournamentProgressDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TournamentSchedulerTest {
+
+    @Test
+    @DisplayName("Should play all games of all matchups")
+    void shouldPlayAllGamesOfAllMatchups() {
+        final List<Matchup> matchups = List.of(new Matchup("LazyBot", "VeioDoBarBot"), new Matchup("VeioDoBarBot", "LazyBot"));
+        final Map<Matchup, MatchupResultsDto> results = new TournamentScheduler(2, progress -> {}).play(matchups, 3);
+
+        assertThat(results).containsOnlyKeys(matchups);
+        assertThat(results.values()).allSatisfy(match -> assertThat(match.games()).hasSize(3)
+                .allSatisfy(game -> assertThat(game.name()).isIn("LazyBot", "VeioDoBarBot")));
+    }
+
+    @Test
+    @DisplayName("Should report progress until all games are completed")
+    void shouldReportProgressUntilAllGamesAreCompleted() {
+        final List<TournamentProgressDto> reports = new CopyOnWriteArrayList<>();
+        new TournamentScheduler(2, reports::add).play(List.of(new Matchup("LazyBot", "VeioDoBarBot")), 4);
+
+        assertThat(reports).hasSize(4);
+        assertThat(reports).anySatisfy(progress -> {
+            assertThat(progress.isDone()).isTrue();
+            assertThat(progress.totalGames()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    @DisplayName("Should play adaptive matchups in batches up to the cap")
+    void shouldPlayAdaptiveMatchupsInBatchesUpToTheCap() {
+        final List<TournamentProgressDto> reports = new CopyOnWriteArrayList<>();
+        final SequentialStoppingRule rule = new SequentialStoppingRule(0.95, 4, 12, 4);
+        final List<PlayWithBotsDto> games = new TournamentScheduler(2, reports::add)
+                .play(List.of(new Matchup("LazyBot", "VeioDoBarBot")), rule)
+                .get(new Matchup("LazyBot", "VeioDoBarBot"))
+                .games();
+
+        assertThat(games).hasSizeBetween(4, 12);
+        assertThat(games.size() % 4).isZero();
+        assertThat(reports).last().satisfies(progress -> {
+            assertThat(progress.isDone()).isTrue();
+            assertThat(progress.totalGames()).isEqualTo(games.size());
+        });
+    }
+
+    @Test
+    @DisplayName("Should play every deal twice with duplicate dealing")
+    void shouldPlayEveryDealTwiceWithDuplicateDealing() {
+        final List<TournamentProgressDto> reports = new CopyOnWriteArrayList<>();
+        final MatchupResultsDto match = new TournamentScheduler(2, Dealing.DUPLICATE, reports::add)
+                .play(List.of(new Matchup("LazyBot", "VeioDoBarBot")), 3)
+                .get(new Matchup("LazyBot", "VeioDoBarBot"));
+
+        assertThat(match.deals()).hasSize(3).allSatisfy(deal -> assertThat(deal).hasSize(2));
+        assertThat(match.dealsWonBy("LazyBot") + match.dealsWonBy("VeioDoBarBot")).isEqualTo(match.decidedDeals());
+        assertThat(reports).last().satisfies(progress -> assertThat(progress.totalGames()).isEqualTo(6));
+    }
+
+    @Test
+    @DisplayName("Should count failed games in the results and the progress")
+    void shouldCountFailedGamesInTheResultsAndTheProgress() {
+        final List<TournamentProgressDto> reports = new CopyOnWriteArrayList<>();
+        final MatchupResultsDto match = new TournamentScheduler(2, reports::add)
+                .play(List.of(new Matchup("LazyBot", "NoSuchBot")), 3)
+                .get(new Matchup("LazyBot", "NoSuchBot"));
+
+        assertThat(match.games()).isEmpty();
+        assertThat(match.failedGames()).isEqualTo(3);
+        assertThat(reports).last().satisfies(progress -> {
+            assertThat(progress.isDone()).isTrue();
+            assertThat(progress.failedGames()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("Should not accept non positive parallelism")
+    void shouldNotAcceptNonPositiveParallelism() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TournamentScheduler(0, progress -> {}));
+    }
+}
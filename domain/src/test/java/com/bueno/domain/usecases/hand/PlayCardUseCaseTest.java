@@ -27,6 +27,7 @@ import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.game.Game;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameRepositoryInMemoryImpl;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
@@ -46,11 +47,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class PlayCardUseCaseTest {
@@ -129,6 +131,37 @@ class PlayCardUseCaseTest {
         assertThat(intel.cardToPlayAgainst()).isEqualTo(cardDto);
     }
 
+    @Test
+    @DisplayName("Should load and persist the game only once per request without bot turns")
+    void shouldLoadAndPersistTheGameOnlyOncePerRequestWithoutBotTurns() {
+        final Card card = Card.of(Rank.THREE, Suit.CLUBS);
+        when(player1.getCards()).thenReturn(new ArrayList<>(List.of(card)));
+        repo = spy(new GameRepositoryInMemoryImpl());
+        repo.save(GameConverter.toDto(game));
+        sut = new PlayCardUseCase(repo);
+
+        sut.playCard(new PlayCardDto(p1Uuid, CardConverter.toDto(card)));
+
+        verify(repo, times(1)).findByPlayerUuid(p1Uuid);
+        verify(repo, times(1)).update(any());
+    }
+
+    @Test
+    @DisplayName("Should persist the player move even if the bot that plays next fails")
+    void shouldPersistThePlayerMoveEvenIfTheBotThatPlaysNextFails() {
+        final Card card = Card.of(Rank.THREE, Suit.CLUBS);
+        final CardDto cardDto = CardConverter.toDto(card);
+        when(player1.getCards()).thenReturn(new ArrayList<>(List.of(card)));
+        when(player2.isBot()).thenReturn(true);
+        repo.save(GameConverter.toDto(game));
+
+        assertThatExceptionOfType(NoSuchElementException.class)
+                .isThrownBy(() -> sut.playCard(new PlayCardDto(p1Uuid, cardDto)));
+
+        final GameDto stored = repo.findByPlayerUuid(p1Uuid).orElseThrow();
+        assertThat(stored.hands().get(stored.hands().size() - 1).cartToPlayAgainst()).isEqualTo(cardDto);
+    }
+
     @Test
     @DisplayName("Should correctly play hand if invariants are met")
     void shouldCorrectlyPlayHandIfInvariantsAreMet() {
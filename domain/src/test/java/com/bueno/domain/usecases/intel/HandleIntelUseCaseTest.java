@@ -136,4 +136,19 @@ class HandleIntelUseCaseTest {
 
         assertThat(obtained.intelSinceBaseTimestamp()).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should correctly get intel after sequence if invariants are met")
+    void shouldCorrectlyGetIntelAfterSequenceIfInvariantsAreMet() {
+        repo.save(GameConverter.toDto(game));
+        final long initialSequence = game.getIntel().sequence();
+
+        final var obtained = sut.findIntelAfter(p1Uuid, initialSequence);
+        final var expected = game.getIntelAfter(initialSequence).stream()
+                .map(IntelConverter::toDto)
+                .collect(Collectors.toList());
+
+        assertThat(obtained.baseSequence()).isEqualTo(initialSequence);
+        assertThat(obtained.intelSinceBaseTimestamp()).isEqualTo(expected);
+    }
+}
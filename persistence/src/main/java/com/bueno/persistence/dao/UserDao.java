@@ -24,6 +24,8 @@ import com.bueno.persistence.dto.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -31,4 +33,5 @@ public interface UserDao extends JpaRepository<UserEntity, Long> {
     UserEntity getByUuid(UUID uuid);
     UserEntity getByEmail(String email);
     UserEntity getByUsername(String username);
+    List<UserEntity> findAllByUuidIn(Collection<UUID> uuids);
 }
@@ -22,14 +22,20 @@ package com.bueno.persistence.dto;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import javax.persistence.Id;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -48,8 +54,17 @@ public class GameEntity {
     private UUID firstToPlay;
     private UUID lastToPlay;
     private List<HandEntity> hands;
+    // Copies of the last event timestamp and of the current player of the last hand, so that inactive games can be
+    // found through an index and closed without reading their hands.
+    @Indexed
+    private Instant lastActivity;
+    private UUID currentPlayer;
+    @Version
+    private Long version;
 
     public static GameEntity from(GameDto dto){
+        final HandDto lastHand = dto.hands().isEmpty() ? null : dto.hands().get(dto.hands().size() - 1);
+        final List<HandEventDto> lastEvents = lastHand != null ? lastHand.history().events() : List.of();
         return GameEntity.builder()
                 .id(dto.gameUuid())
                 .timestamp(dto.timestamp())
@@ -58,10 +73,20 @@ public class GameEntity {
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
                 .hands(dto.hands().stream().map(HandEntity::from).toList())
+                .lastActivity(lastEvents.isEmpty() ? null : lastEvents.get(lastEvents.size() - 1).timestamp())
+                .currentPlayer(lastHand != null && lastHand.currentPlayer() != null ? lastHand.currentPlayer().uuid() : null)
+                .version(dto.version())
                 .build();
     }
 
     public GameDto toDto(Map<UUID, PlayerDto> players){
+        final List<HandDto> handDtos = new ArrayList<>(hands.size());
+        long nextSequence = 0;
+        for (HandEntity hand : hands) {
+            final HandDto handDto = hand.toDto(players, nextSequence);
+            nextSequence = handDto.history().firstSequence() + handDto.history().events().size();
+            handDtos.add(handDto);
+        }
         return new GameDto(
                 id,
                 timestamp,
@@ -69,7 +94,8 @@ public class GameEntity {
                 players.get(player2),
                 players.get(firstToPlay),
                 players.get(lastToPlay),
-                hands.stream().map(hand -> hand.toDto(players)).toList()
+                handDtos,
+                version
         );
     }
 }
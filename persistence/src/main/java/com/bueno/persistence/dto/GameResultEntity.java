@@ -29,6 +29,7 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -37,7 +38,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "GAME_RESULT")
+@Table(name = "GAME_RESULT", indexes = @Index(name = "IDX_GAME_RESULT_WINNER", columnList = "WINNER"))
 public class GameResultEntity {
     @Id
     @Column(name = "GAME_ID")
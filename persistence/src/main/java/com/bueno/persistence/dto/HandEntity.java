@@ -43,6 +43,8 @@ public class HandEntity {
     private List<String> dealtCard;
     private List<String> openCards;
     private List<RoundEntity> roundsPlayed;
+    private HandHistoryEntity eventLog;
+    // History of the hands stored before the event log, read once and replaced by it when the game is saved again.
     private List<IntelEntity> history;
     private Set<String> possibleActions;
     private UUID firstToPlay;
@@ -60,13 +62,12 @@ public class HandEntity {
         final Function<List<CardDto>, List<String>> mapToString = dtos -> dtos.stream().map(CardDto::toString).toList();
         final Function<PlayerDto, UUID> playerUuidOrNull = playerDto -> playerDto != null ? playerDto.uuid() : null;
         final List<RoundEntity> roundEntities = dto.roundsPlayed().stream().map(RoundEntity::from).toList();
-        final List<IntelEntity> history = dto.history().stream().map(IntelEntity::from).toList();
         return HandEntity.builder()
                 .vira(dto.vira().toString())
                 .dealtCard(mapToString.apply(dto.dealtCards()))
                 .openCards(mapToString.apply(dto.openCards()))
                 .roundsPlayed(roundEntities)
-                .history(history)
+                .eventLog(HandHistoryEntity.from(dto.history()))
                 .possibleActions(dto.possibleActions())
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
@@ -81,7 +82,8 @@ public class HandEntity {
                 .build();
     }
 
-    public HandDto toDto(Map<UUID, PlayerDto> players){
+    // The legacy first sequence numbers the events of a hand stored before the event log, which had no sequence.
+    public HandDto toDto(Map<UUID, PlayerDto> players, long legacyFirstSequence){
         final Function<String, CardDto> toCardDto = card -> card != null?
                 new CardDto(card.substring(0, 1), card.substring(1, 2)) : null;
         final Function<UUID, PlayerDto> toPlayerDtoOrNull = uuid -> uuid != null ? players.get(uuid) : null;
@@ -90,7 +92,7 @@ public class HandEntity {
                 dealtCard.stream().map(toCardDto).toList(),
                 openCards.stream().map(toCardDto).toList(),
                 roundsPlayed.stream().map(round -> round.toDto(players)).toList(),
-                history.stream().map(IntelEntity::toDto).toList(),
+                eventLogOrLegacy(legacyFirstSequence).toDto(),
                 possibleActions,
                 players.get(firstToPlay),
                 players.get(lastToPlay),
@@ -103,4 +105,8 @@ public class HandEntity {
                 toPlayerDtoOrNull.apply(winner),
                 state);
     }
+
+    private HandHistoryEntity eventLogOrLegacy(long legacyFirstSequence){
+        return eventLog != null ? eventLog : HandHistoryEntity.fromLegacy(history, legacyFirstSequence);
+    }
 }
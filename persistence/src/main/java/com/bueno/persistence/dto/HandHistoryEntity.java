@@ -0,0 +1,157 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class HandHistoryEntity {
+    private UUID firstSeat;
+    private int firstSeatCards;
+    private long firstSequence;
+    private List<HandEventEntity> events;
+
+    public static HandHistoryEntity from(HandHistoryDto dto){
+        return HandHistoryEntity.builder()
+                .firstSeat(dto.firstSeat())
+                .firstSeatCards(dto.firstSeatCards())
+                .firstSequence(dto.firstSequence())
+                .events(dto.events().stream().map(HandEventEntity::from).toList())
+                .build();
+    }
+
+    // Rebuilds the history of a hand stored as a list of IntelEntity. The first intel is the start of the hand, when
+    // the first player listed is the one in the first seat and still holds every card dealt to that seat.
+    public static HandHistoryEntity fromLegacy(List<IntelEntity> intel, long firstSequence){
+        final List<PlayerEntity> players = intel.get(0).getPlayers();
+        final UUID firstSeat = players.get(0).getId();
+        return HandHistoryEntity.builder()
+                .firstSeat(firstSeat)
+                .firstSeatCards(players.get(0).getCards().size())
+                .firstSequence(firstSequence)
+                .events(intel.stream().map(entry -> HandEventEntity.fromLegacy(entry, firstSeat)).toList())
+                .build();
+    }
+
+    public HandHistoryDto toDto(){
+        return new HandHistoryDto(firstSeat, firstSeatCards, firstSequence, events.stream().map(HandEventEntity::toDto).toList());
+    }
+
+    public Instant lastEventTimestamp(){
+        return events.get(events.size() - 1).getTimestamp();
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Builder
+    public static class HandEventEntity {
+        private String event;
+        private UUID eventPlayer;
+        private UUID currentPlayer;
+        private UUID firstToPlay;
+        private Set<String> possibleActions;
+        private int points;
+        private int pointsProposal;
+        private int roundsPlayed;
+        private int openCards;
+        private String cardToPlayAgainst;
+        private UUID handWinner;
+        private int firstSeatScore;
+        private int lastSeatScore;
+        private boolean maoDeOnze;
+        private List<String> heldCards;
+        private Instant timestamp;
+
+        public static HandEventEntity from(HandEventDto dto){
+            return HandEventEntity.builder()
+                    .event(dto.event())
+                    .eventPlayer(dto.eventPlayer())
+                    .currentPlayer(dto.currentPlayer())
+                    .firstToPlay(dto.firstToPlay())
+                    .possibleActions(dto.possibleActions())
+                    .points(dto.points())
+                    .pointsProposal(dto.pointsProposal())
+                    .roundsPlayed(dto.roundsPlayed())
+                    .openCards(dto.openCards())
+                    .cardToPlayAgainst(dto.cardToPlayAgainst() != null ? dto.cardToPlayAgainst().toString() : null)
+                    .handWinner(dto.handWinner())
+                    .firstSeatScore(dto.firstSeatScore())
+                    .lastSeatScore(dto.lastSeatScore())
+                    .maoDeOnze(dto.maoDeOnze())
+                    .heldCards(dto.heldCards().stream().map(CardDto::toString).toList())
+                    .timestamp(dto.timestamp())
+                    .build();
+        }
+
+        private static HandEventEntity fromLegacy(IntelEntity intel, UUID firstSeat){
+            final List<PlayerEntity> players = intel.getPlayers();
+            final PlayerEntity first = players.stream().filter(player -> player.getId().equals(firstSeat)).findFirst().orElseThrow();
+            final PlayerEntity last = players.stream().filter(player -> !player.getId().equals(firstSeat)).findFirst().orElseThrow();
+            final UUID handWinner = players.stream()
+                    .filter(player -> player.getUsername().equals(intel.getHandWinner()))
+                    .map(PlayerEntity::getId)
+                    .findFirst().orElse(null);
+            return HandEventEntity.builder()
+                    .event(intel.getEvent())
+                    .eventPlayer(intel.getEventPlayerUUID())
+                    .currentPlayer(intel.getCurrentPlayerUuid())
+                    .firstToPlay(players.get(0).getId())
+                    .possibleActions(intel.getPossibleActions())
+                    .points(Objects.requireNonNullElse(intel.getHandPoints(), 0))
+                    .pointsProposal(Objects.requireNonNullElse(intel.getHandPointsProposal(), 0))
+                    .roundsPlayed(intel.getRoundsPlayed())
+                    .openCards(intel.getOpenCards().size())
+                    .cardToPlayAgainst(intel.getCardToPlayAgainst())
+                    .handWinner(handWinner)
+                    .firstSeatScore(first.getScore())
+                    .lastSeatScore(last.getScore())
+                    .maoDeOnze(intel.isMaoDeOnze())
+                    .heldCards(players.stream().flatMap(player -> player.getCards().stream()).toList())
+                    .timestamp(intel.getTimestamp())
+                    .build();
+        }
+
+        public HandEventDto toDto(){
+            final Function<String, CardDto> toCardDto = card -> card != null?
+                    new CardDto(card.substring(0, 1), card.substring(1, 2)) : null;
+            return new HandEventDto(event, eventPlayer, currentPlayer, firstToPlay, possibleActions, points,
+                    pointsProposal, roundsPlayed, openCards, toCardDto.apply(cardToPlayAgainst), handWinner,
+                    firstSeatScore, lastSeatScore, maoDeOnze, heldCards.stream().map(toCardDto).toList(), timestamp);
+        }
+    }
+}
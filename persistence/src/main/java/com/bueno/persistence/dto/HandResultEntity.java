@@ -38,7 +38,11 @@ import java.util.UUID;
 @Table(name = "HAND_RESULT")
 public class HandResultEntity {
 
-    @Id @GeneratedValue(strategy= GenerationType.IDENTITY)
+    // Identity columns make Hibernate insert every row on its own to read the generated key back. A pooled sequence
+    // hands out ids in blocks, so the inserts can be sent in JDBC batches.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hand_result_seq")
+    @SequenceGenerator(name = "hand_result_seq", sequenceName = "HAND_RESULT_SEQ", allocationSize = 50)
     private long id;
 
     @Column(name = "HAND_TYPE", length = 9)
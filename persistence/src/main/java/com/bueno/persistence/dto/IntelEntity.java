@@ -20,8 +20,6 @@
 
 package com.bueno.persistence.dto;
 
-import com.bueno.domain.usecases.intel.dtos.CardDto;
-import com.bueno.domain.usecases.intel.dtos.IntelDto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,11 +27,10 @@ import lombok.NoArgsConstructor;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Function;
 
+// Layout of the hand history written before HandHistoryEntity, kept to read the games stored that way.
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -62,67 +59,4 @@ public class IntelEntity {
     private UUID eventPlayerUUID;
     private String eventPlayerUsername;
     private Set<String> possibleActions;
-
-    public static IntelEntity from(IntelDto dto){
-        final List<String> winnerNames = dto.roundWinnersUsernames().stream()
-                .map(optional -> optional.orElse(null)).toList();
-        final List<UUID> winnerUuids = dto.roundWinnersUuid().stream()
-                .map(optional -> optional.orElse(null)).toList();
-
-        return IntelEntity.builder()
-                .timestamp(dto.timestamp())
-                .isGameDone(dto.isGameDone())
-                .gameWinner(dto.gameWinner())
-                .isMaoDeOnze(dto.isMaoDeOnze())
-                .handPoints(dto.handPoints())
-                .handPointsProposal(dto.handPointsProposal())
-                .roundWinnersUsernames(winnerNames)
-                .roundWinnersUuid(winnerUuids)
-                .roundsPlayed(dto.roundsPlayed())
-                .vira(dto.vira().toString())
-                .openCards(dto.openCards().stream().map(CardDto::toString).toList())
-                .handWinner(dto.handWinner())
-                .currentPlayerUuid(dto.currentPlayerUuid())
-                .currentPlayerScore(dto.currentPlayerScore())
-                .currentPlayerUsername(dto.currentPlayerUsername())
-                .currentOpponentScore(dto.currentOpponentScore())
-                .currentOpponentUsername(dto.currentOpponentUsername())
-                .cardToPlayAgainst(dto.cardToPlayAgainst() != null ? dto.cardToPlayAgainst().toString() : null)
-                .players(dto.players().stream().map(PlayerEntity::from).toList())
-                .event(dto.event())
-                .eventPlayerUUID(dto.eventPlayerUuid())
-                .eventPlayerUsername(dto.eventPlayerUsername())
-                .possibleActions(dto.possibleActions())
-                .build();
-    }
-
-    public IntelDto toDto(){
-        final Function<String, CardDto> toCardDto = card -> card != null?
-                new CardDto(card.substring(0, 1), card.substring(1, 2)) : null;
-        return new IntelDto(
-                timestamp,
-                isGameDone,
-                gameWinner,
-                isMaoDeOnze,
-                handPoints,
-                handPointsProposal,
-                roundWinnersUsernames.stream().map(Optional::ofNullable).toList(),
-                roundWinnersUuid.stream().map(Optional::ofNullable).toList(),
-                roundsPlayed,
-                toCardDto.apply(vira),
-                openCards.stream().map(toCardDto).toList(),
-                handWinner,
-                currentPlayerUuid,
-                currentPlayerScore,
-                currentPlayerUsername,
-                currentOpponentScore,
-                currentOpponentUsername,
-                toCardDto.apply(cardToPlayAgainst),
-                players.stream().map(PlayerEntity::toDto).toList(),
-                event,
-                eventPlayerUUID,
-                eventPlayerUsername,
-                possibleActions
-        );
-    }
 }
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One row per game and player, with the usernames copied in when the result is saved, so the history of a player is
+// read with a single index range scan instead of joining the game results with the users three times.
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@IdClass(MatchHistoryEntity.Key.class)
+@Table(name = "MATCH_HISTORY", indexes = @Index(name = "IDX_MATCH_HISTORY_PLAYER_ENDING",
+        columnList = "PLAYER_ID, ENDING_TIME, GAME_ID"))
+public class MatchHistoryEntity {
+    @Id
+    @Column(name = "PLAYER_ID")
+    private UUID playerUuid;
+    @Id
+    @Column(name = "GAME_ID")
+    private UUID gameUuid;
+    @Column(name = "ENDING_TIME")
+    private LocalDateTime endingTime;
+    @Column(name = "PLAYER1")
+    private String player1;
+    @Column(name = "PLAYER2")
+    private String player2;
+    @Column(name = "WINNER")
+    private String winner;
+
+    public MatchHistoryEntryDto toDto() {
+        return new MatchHistoryEntryDto(gameUuid, endingTime, player1, player2, winner);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private UUID playerUuid;
+        private UUID gameUuid;
+    }
+}
@@ -44,6 +44,8 @@ public class PlayerEntity {
     private int score;
     private boolean isBot;
     private List<String> cards;
+    // Version of the game document this player was last written with, so that stale game writes skip the player.
+    private Long gameVersion;
 
     public static PlayerEntity from(PlayerDto dto){
         return PlayerEntity.builder()
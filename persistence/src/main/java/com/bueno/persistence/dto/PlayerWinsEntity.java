@@ -0,0 +1,55 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "PLAYER_WINS", indexes = @Index(name = "IDX_PLAYER_WINS_WINS", columnList = "WINS"))
+public class PlayerWinsEntity {
+    @Id
+    @Column(name = "PLAYER_ID")
+    private UUID playerUuid;
+    @Column(name = "USERNAME")
+    private String username;
+    @Column(name = "WINS")
+    private int wins;
+
+    public static PlayerWinsEntity from(LeaderboardEntryDto dto) {
+        return new PlayerWinsEntity(dto.playerUuid(), dto.username(), dto.wins());
+    }
+
+    public LeaderboardEntryDto toDto() {
+        return new LeaderboardEntryDto(playerUuid, username, wins);
+    }
+}
@@ -17,14 +17,12 @@
  *  You should have received a copy of the GNU General Public License
  *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
  */
-
 package com.bueno.persistence.dto;
 
-import java.time.LocalDateTime;
+import java.util.UUID;
 
-public interface GameResultQR {
-    LocalDateTime getEnding();
-    String getPlayer1();
-    String getPlayer2();
-    String getWinner();
+public interface WinnerQR {
+    UUID getPlayerUuid();
+    String getUsername();
+    Long getWins();
 }
@@ -21,6 +21,7 @@
 package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.InactiveGameDto;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.utils.exceptions.EntityNotFoundException;
@@ -28,41 +29,181 @@ import com.bueno.persistence.dao.GameDao;
 import com.bueno.persistence.dao.PlayerDao;
 import com.bueno.persistence.dto.GameEntity;
 import com.bueno.persistence.dto.HandEntity;
-import com.bueno.persistence.dto.IntelEntity;
+import com.bueno.persistence.dto.HandHistoryEntity.HandEventEntity;
 import com.bueno.persistence.dto.PlayerEntity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+// Updates are written as deltas: the repository remembers the shape of each game document it loaded or wrote and,
+// on the next update, pushes only the new hands and history events and sets only the fields that changed. A game
+// whose stored shape is unknown or that no longer extends it (e.g. hands dropped by the retention policy) is
+// rewritten as a whole. Both paths only apply over the document version the game was loaded at, which the dto carries,
+// so a writer that loaded the game before another one updated it fails instead of overwriting it. Only the most
+// recently used games are remembered, and a game is forgotten once it is over.
 @Repository
 public class GameRepositoryImpl implements GameRepository {
 
+    private static final Map<String, Function<HandEntity, Object>> HAND_FIELDS = Map.ofEntries(
+            Map.entry("vira", HandEntity::getVira),
+            Map.entry("dealtCard", HandEntity::getDealtCard),
+            Map.entry("openCards", HandEntity::getOpenCards),
+            Map.entry("roundsPlayed", HandEntity::getRoundsPlayed),
+            Map.entry("possibleActions", HandEntity::getPossibleActions),
+            Map.entry("firstToPlay", HandEntity::getFirstToPlay),
+            Map.entry("lastToPlay", HandEntity::getLastToPlay),
+            Map.entry("currentPlayer", HandEntity::getCurrentPlayer),
+            Map.entry("lastBetRaiser", HandEntity::getLastBetRaiser),
+            Map.entry("eventPlayer", HandEntity::getEventPlayer),
+            Map.entry("cartToPlayAgainst", HandEntity::getCartToPlayAgainst),
+            Map.entry("points", HandEntity::getPoints),
+            Map.entry("pointsProposal", HandEntity::getPointsProposal),
+            Map.entry("winner", HandEntity::getWinner),
+            Map.entry("state", HandEntity::getState));
+
+    static final int DEFAULT_STORED_GAMES = 10_000;
+
     private final GameDao gameDao;
     private final PlayerDao playerDao;
+    private final MongoTemplate mongoTemplate;
+    private final Map<UUID, StoredGame> storedGames;
 
-    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao) {
+    @Autowired
+    public GameRepositoryImpl(GameDao dao, PlayerDao playerDao, MongoTemplate mongoTemplate) {
+        this(dao, playerDao, mongoTemplate, DEFAULT_STORED_GAMES);
+    }
+
+    GameRepositoryImpl(GameDao dao, PlayerDao playerDao, MongoTemplate mongoTemplate, int maxStoredGames) {
+        if (maxStoredGames < 1) throw new IllegalArgumentException("Max stored games must be positive: " + maxStoredGames);
         this.gameDao = dao;
         this.playerDao = playerDao;
+        this.mongoTemplate = mongoTemplate;
+        this.storedGames = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, StoredGame> eldest) {
+                return size() > maxStoredGames;
+            }
+        });
     }
 
     @Override
     public void save(GameDto dto) {
         gameDao.findById(dto.gameUuid())
                 .ifPresent(game -> {throw new EntityNotFoundException("Game already exists: " + game.getId());});
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        final PlayerEntity player1 = playerDao.save(playerOfNewGame(dto.player1()));
+        final PlayerEntity player2 = playerDao.save(playerOfNewGame(dto.player2()));
+        final GameEntity newGame = GameEntity.from(dto);
+        newGame.setVersion(null);
+        final GameEntity game = gameDao.save(newGame);
+        remember(game, player1, player2);
     }
 
     @Override
     public void update(GameDto dto) {
-        gameDao.findById(dto.gameUuid())
-                .orElseThrow(() -> new EntityNotFoundException("Can not update non-existing game: " + dto.gameUuid()));
-        playerDao.save(PlayerEntity.from(dto.player1()));
-        playerDao.save(PlayerEntity.from(dto.player2()));
-        gameDao.save(GameEntity.from(dto));
+        final long loadedVersion = Objects.requireNonNull(dto.version(), "Version of the updated game must not be null!");
+        final StoredGame stored = storedGames.get(dto.gameUuid());
+        final GameEntity game = GameEntity.from(dto);
+        final PlayerEntity player1 = PlayerEntity.from(dto.player1());
+        final PlayerEntity player2 = PlayerEntity.from(dto.player2());
+
+        if (stored != null && stored.isExtendedBy(game, loadedVersion)) updateDelta(stored, game, loadedVersion);
+        else replace(game, loadedVersion);
+
+        updatePlayer(stored != null ? stored.player1() : null, player1, game.getVersion());
+        updatePlayer(stored != null ? stored.player2() : null, player2, game.getVersion());
+        remember(game, player1, player2);
+    }
+
+    // A game whose last hand has no current player is over and is not updated again, so its shape is not kept.
+    private void remember(GameEntity game, PlayerEntity player1, PlayerEntity player2) {
+        if (game.getCurrentPlayer() == null) storedGames.remove(game.getId());
+        else storedGames.put(game.getId(), StoredGame.of(game, player1, player2));
+    }
+
+    private void updateDelta(StoredGame stored, GameEntity game, long loadedVersion) {
+        final Update update = new Update();
+        if (!Objects.equals(stored.firstToPlay(), game.getFirstToPlay())) update.set("firstToPlay", game.getFirstToPlay());
+        if (!Objects.equals(stored.lastToPlay(), game.getLastToPlay())) update.set("lastToPlay", game.getLastToPlay());
+        if (!Objects.equals(stored.lastActivity(), game.getLastActivity())) update.set("lastActivity", game.getLastActivity());
+        if (!Objects.equals(stored.currentPlayer(), game.getCurrentPlayer())) update.set("currentPlayer", game.getCurrentPlayer());
+
+        final List<HandEntity> hands = game.getHands();
+        final int storedLastHand = stored.handCount() - 1;
+        if (storedLastHand >= 0) setHandDelta(update, storedLastHand, stored.lastHand(), hands.get(storedLastHand));
+
+        // Positional sets append to the array without touching the hands already stored, and unlike a push on
+        // "hands" they do not conflict with the updates inside the last stored hand.
+        for (int index = stored.handCount(); index < hands.size(); index++) update.set("hands." + index, hands.get(index));
+
+        update.inc("version", 1);
+        final Query sameVersion = query(where("_id").is(game.getId()).and("version").is(loadedVersion));
+        if (mongoTemplate.updateFirst(sameVersion, update, GameEntity.class).getMatchedCount() == 0)
+            throw concurrentUpdate(game.getId());
+        game.setVersion(loadedVersion + 1);
+    }
+
+    private void setHandDelta(Update update, int index, HandEntity before, HandEntity after) {
+        final String path = "hands." + index + ".";
+        HAND_FIELDS.forEach((field, getter) -> {
+            final Object value = getter.apply(after);
+            if (!Objects.equals(getter.apply(before), value)) update.set(path + field, value);
+        });
+
+        final List<HandEventEntity> storedEvents = before.getEventLog().getEvents();
+        final List<HandEventEntity> events = after.getEventLog().getEvents();
+        if (events.size() > storedEvents.size())
+            update.push(path + "eventLog.events").each(events.subList(storedEvents.size(), events.size()).toArray());
+    }
+
+    private void replace(GameEntity game, long loadedVersion) {
+        game.setVersion(loadedVersion + 1);
+        final Query sameVersion = query(where("_id").is(game.getId()).and("version").is(loadedVersion));
+        if (mongoTemplate.findAndReplace(sameVersion, game) != null) return;
+        if (!gameDao.existsById(game.getId()))
+            throw new EntityNotFoundException("Can not update non-existing game: " + game.getId());
+        throw concurrentUpdate(game.getId());
+    }
+
+    // A new game document starts at version 0, and so do the players written with it.
+    private static PlayerEntity playerOfNewGame(PlayerDto dto) {
+        final PlayerEntity player = PlayerEntity.from(dto);
+        player.setGameVersion(0L);
+        return player;
+    }
+
+    // Players are documents of their own, so each write carries the version of the game write it belongs to and only
+    // applies over players written by an older one: a slow writer of an earlier game version can not overwrite them.
+    private void updatePlayer(PlayerEntity stored, PlayerEntity player, long gameVersion) {
+        final boolean scoreChanged = stored == null || stored.getScore() != player.getScore();
+        final boolean cardsChanged = stored == null || !Objects.equals(stored.getCards(), player.getCards());
+        player.setGameVersion(gameVersion);
+        if (!scoreChanged && !cardsChanged) return;
+
+        final Update update = new Update().set("gameVersion", gameVersion);
+        if (scoreChanged) update.set("score", player.getScore());
+        if (cardsChanged) update.set("cards", player.getCards());
+        final Criteria olderGameVersion = new Criteria()
+                .orOperator(where("gameVersion").lt(gameVersion), where("gameVersion").exists(false));
+        mongoTemplate.updateFirst(query(where("_id").is(player.getId()).andOperator(olderGameVersion)), update,
+                PlayerEntity.class);
+    }
+
+    private OptimisticLockingFailureException concurrentUpdate(UUID gameUuid) {
+        storedGames.remove(gameUuid);
+        return new OptimisticLockingFailureException("Game was updated concurrently: " + gameUuid);
     }
 
     @Override
@@ -72,41 +213,122 @@ public class GameRepositoryImpl implements GameRepository {
         playerDao.deleteById(game.getPlayer1());
         playerDao.deleteById(game.getPlayer2());
         gameDao.delete(game);
+        storedGames.remove(uuid);
+    }
+
+    @Override
+    public void deleteAll(Collection<UUID> gameUuids) {
+        if (gameUuids.isEmpty()) return;
+        final Query games = query(where("_id").in(gameUuids));
+        games.fields().include("player1").include("player2");
+        final List<UUID> players = mongoTemplate.find(games, GameEntity.class).stream()
+                .flatMap(game -> Stream.of(game.getPlayer1(), game.getPlayer2()))
+                .toList();
+        mongoTemplate.remove(query(where("_id").in(players)), PlayerEntity.class);
+        mongoTemplate.remove(query(where("_id").in(gameUuids)), GameEntity.class);
+        gameUuids.forEach(storedGames::remove);
     }
 
     @Override
     public Optional<GameDto> findByPlayerUuid(UUID playerUuid) {
         final UUID uuid = Objects.requireNonNull(playerUuid, "User UUID must not be null.");
         final Optional<GameEntity> possibleGame = gameDao.findByPlayer1OrPlayer2(uuid, uuid);
-        return getGameDto(possibleGame.orElse(null));
+        return possibleGame.map(game -> toGameDto(game, true));
     }
 
     @Override
     public Collection<GameDto> findAllInactiveAfter(int minutes) {
-        return gameDao.findAll().stream()
-                .filter(game -> isInactive(game, minutes))
-                .map(this::getGameDto)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+        final Instant limit = limitOf(minutes);
+        final List<GameDto> inactiveGames = new ArrayList<>();
+        for (GameEntity game : mongoTemplate.find(inactiveBefore(limit), GameEntity.class)) {
+            final GameDto dto = toGameDto(game, false);
+            if (game.getLastActivity() == null && !isInactive(backfilled(GameEntity.from(dto)), limit)) continue;
+            inactiveGames.add(dto);
+        }
+        return inactiveGames;
+    }
+
+    @Override
+    public List<InactiveGameDto> findInactiveGamesAfter(int minutes) {
+        final Instant limit = limitOf(minutes);
+        final Query inactiveGames = inactiveBefore(limit);
+        inactiveGames.fields().include("timestamp").include("player1").include("player2").include("lastActivity")
+                .include("currentPlayer");
+        return mongoTemplate.find(inactiveGames, GameEntity.class).stream()
+                .map(game -> game.getLastActivity() != null ? game : backfilled(game.getId()))
+                .filter(Objects::nonNull)
+                .filter(game -> isInactive(game, limit))
+                .map(game -> new InactiveGameDto(game.getId(), game.getTimestamp(), game.getPlayer1(), game.getPlayer2(),
+                        game.getCurrentPlayer()))
                 .toList();
     }
 
-    public boolean isInactive(GameEntity game, int minutes){
-        if(game.getHands().isEmpty()) return false;
-        final int index = game.getHands().size() - 1;
-        final HandEntity hand = game.getHands().get(index);
-        final IntelEntity intel = hand.getHistory().get(hand.getHistory().size() - 1);
-        final Instant lastInteraction = intel.getTimestamp();
-        final Instant now = Instant.now();
-        final long inactivityInMinutes = Duration.between(lastInteraction, now).toMinutes();
-        System.out.println("Inactive during (minutes): " + inactivityInMinutes);
-        return inactivityInMinutes >= minutes;
+    private static Instant limitOf(int minutes) {
+        return Instant.now().minus(Duration.ofMinutes(minutes));
+    }
+
+    // Games stored before the last activity was copied to the document do not have it, so they are matched too
+    // and their copies are filled in from their hands the first time they are read.
+    private static Query inactiveBefore(Instant limit) {
+        return query(new Criteria().orOperator(where("lastActivity").lt(limit), where("lastActivity").is(null)));
     }
 
-    private Optional<GameDto> getGameDto(GameEntity game) {
-        if(game == null) return Optional.empty();
-        final PlayerDto player1 = playerDao.findById(game.getPlayer1()).orElseThrow().toDto();
-        final PlayerDto player2 = playerDao.findById(game.getPlayer2()).orElseThrow().toDto();
-        return Optional.of(game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2)));
+    private static boolean isInactive(GameEntity game, Instant limit) {
+        return game.getLastActivity() == null || game.getLastActivity().isBefore(limit);
+    }
+
+    private GameEntity backfilled(UUID gameUuid) {
+        return gameDao.findById(gameUuid)
+                .map(game -> backfilled(GameEntity.from(toGameDto(game, false))))
+                .orElse(null);
+    }
+
+    // The game is rebuilt from its hands, so the version is left untouched: the stored document has not changed.
+    private GameEntity backfilled(GameEntity game) {
+        if (game.getLastActivity() == null) return game;
+        final Update copies = new Update().set("lastActivity", game.getLastActivity());
+        if (game.getCurrentPlayer() != null) copies.set("currentPlayer", game.getCurrentPlayer());
+        mongoTemplate.updateFirst(query(where("_id").is(game.getId()).and("lastActivity").is(null)), copies,
+                GameEntity.class);
+        return game;
+    }
+
+    // Games read to be played are remembered for the next update; games read only to be closed, like the inactive
+    // ones, are not.
+    private GameDto toGameDto(GameEntity game, boolean toBeUpdated) {
+        final PlayerEntity player1Entity = playerDao.findById(game.getPlayer1()).orElseThrow();
+        final PlayerEntity player2Entity = playerDao.findById(game.getPlayer2()).orElseThrow();
+        if (toBeUpdated) remember(game, player1Entity, player2Entity);
+
+        final PlayerDto player1 = player1Entity.toDto();
+        final PlayerDto player2 = player2Entity.toDto();
+        return game.toDto(Map.of(player1.uuid(), player1, player2.uuid(), player2));
+    }
+
+    // What the document of a game looked like when it was last read or written by this repository.
+    private record StoredGame(Long version, UUID firstToPlay, UUID lastToPlay, Instant lastActivity, UUID currentPlayer,
+                              int handCount, HandEntity lastHand, PlayerEntity player1, PlayerEntity player2) {
+
+        private static StoredGame of(GameEntity game, PlayerEntity player1, PlayerEntity player2) {
+            final List<HandEntity> hands = game.getHands();
+            final HandEntity lastHand = hands.isEmpty() ? null : hands.get(hands.size() - 1);
+            return new StoredGame(game.getVersion(), game.getFirstToPlay(), game.getLastToPlay(), game.getLastActivity(),
+                    game.getCurrentPlayer(), hands.size(), lastHand, player1, player2);
+        }
+
+        // True if the game was loaded from this version of the document and only appended to it: no hand was dropped
+        // and the history of the last stored hand still starts with the events already written. A hand still stored
+        // as a legacy intel list is rewritten as a whole, so that it gets an event log.
+        private boolean isExtendedBy(GameEntity game, long loadedVersion) {
+            if (version == null || version != loadedVersion || game.getHands().size() < handCount) return false;
+            if (lastHand == null) return true;
+            if (lastHand.getEventLog() == null) return false;
+            final List<HandEventEntity> storedEvents = lastHand.getEventLog().getEvents();
+            final HandEntity hand = game.getHands().get(handCount - 1);
+            final List<HandEventEntity> events = hand.getEventLog().getEvents();
+            if (events.size() < storedEvents.size()) return false;
+            if (hand.getEventLog().getFirstSequence() != lastHand.getEventLog().getFirstSequence()) return false;
+            return storedEvents.isEmpty() || storedEvents.get(storedEvents.size() - 1).equals(events.get(storedEvents.size() - 1));
+        }
     }
 }
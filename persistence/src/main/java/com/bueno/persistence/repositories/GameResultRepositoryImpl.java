@@ -22,29 +22,94 @@ package com.bueno.persistence.repositories;
 
 import com.bueno.domain.usecases.game.dtos.GameResultDto;
 import com.bueno.domain.usecases.game.dtos.GameResultUsernamesDto;
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
+import com.bueno.domain.usecases.game.dtos.MatchHistoryEntryDto;
 import com.bueno.domain.usecases.game.dtos.PlayerWinsDto;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.persistence.dao.GameResultDao;
+import com.bueno.persistence.dao.MatchHistoryDao;
+import com.bueno.persistence.dao.UserDao;
 import com.bueno.persistence.dto.GameResultEntity;
-import com.bueno.persistence.dto.GameResultQR;
+import com.bueno.persistence.dto.MatchHistoryEntity;
+import com.bueno.persistence.dto.UserEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
 public class GameResultRepositoryImpl implements GameResultRepository {
 
+    private static final int FLUSH_SIZE = 50;
+
     private final GameResultDao repo;
+    private final MatchHistoryDao historyDao;
+    private final UserDao userDao;
+    private final EntityManager entityManager;
 
-    public GameResultRepositoryImpl(GameResultDao repo) {
+    public GameResultRepositoryImpl(GameResultDao repo, MatchHistoryDao historyDao, UserDao userDao,
+                                    EntityManager entityManager) {
         this.repo = repo;
+        this.historyDao = historyDao;
+        this.userDao = userDao;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public void save(GameResultDto gameResult) {
         repo.save(GameResultEntity.from(gameResult));
+        historyDao.saveAll(historyOf(gameResult, usernamesOf(List.of(gameResult))));
+    }
+
+    // Results are new rows, so they are persisted instead of merged: no select per result, and the inserts are sent
+    // in JDBC batches when hibernate.jdbc.batch_size is set.
+    @Override
+    @Transactional
+    public void saveAll(Collection<GameResultDto> gameResults) {
+        final Map<UUID, String> usernames = usernamesOf(gameResults);
+        int pending = 0;
+        for (GameResultDto gameResult : gameResults) {
+            entityManager.persist(GameResultEntity.from(gameResult));
+            historyOf(gameResult, usernames).forEach(entityManager::persist);
+            if (++pending % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    private Map<UUID, String> usernamesOf(Collection<GameResultDto> gameResults) {
+        final Set<UUID> players = new HashSet<>();
+        gameResults.forEach(gameResult -> {
+            players.add(gameResult.player1Uuid());
+            players.add(gameResult.player2Uuid());
+        });
+        return userDao.findAllByUuidIn(players).stream()
+                .collect(Collectors.toMap(UserEntity::getUuid, UserEntity::getUsername));
+    }
+
+    // Only registered players have a history. Players without an account, like bots, keep a null username.
+    private List<MatchHistoryEntity> historyOf(GameResultDto gameResult, Map<UUID, String> usernames) {
+        final String player1 = usernames.get(gameResult.player1Uuid());
+        final String player2 = usernames.get(gameResult.player2Uuid());
+        final String winner = gameResult.winnerUuid() == null ? null : usernames.get(gameResult.winnerUuid());
+        final List<MatchHistoryEntity> history = new ArrayList<>(2);
+        for (UUID player : List.of(gameResult.player1Uuid(), gameResult.player2Uuid())) {
+            if (!usernames.containsKey(player)) continue;
+            history.add(new MatchHistoryEntity(player, gameResult.gameUuid(), gameResult.gameEnd(), player1, player2, winner));
+        }
+        return history;
     }
 
     @Override
@@ -56,9 +121,25 @@ public class GameResultRepositoryImpl implements GameResultRepository {
 
     @Override
     public List<GameResultUsernamesDto> findAllByUserUuid(UUID uuid) {
-        final List<GameResultQR> result = repo.findAllByPlayerUuid(uuid);
-        return result.stream()
-                .map(r -> new GameResultUsernamesDto(r.getEnding(), r.getPlayer1(), r.getPlayer2(), r.getWinner()))
+        return historyDao.findLatest(uuid, Pageable.unpaged()).stream()
+                .map(MatchHistoryEntity::toDto)
+                .map(MatchHistoryEntryDto::toGameResultUsernames)
+                .toList();
+    }
+
+    @Override
+    public List<MatchHistoryEntryDto> findMatchesByUserUuid(UUID uuid, MatchCursorDto after, int limit) {
+        final Pageable page = Pageable.ofSize(limit);
+        final List<MatchHistoryEntity> matches = after == null
+                ? historyDao.findLatest(uuid, page)
+                : historyDao.findBefore(uuid, after.endingTime(), after.gameUuid(), page);
+        return matches.stream().map(MatchHistoryEntity::toDto).toList();
+    }
+
+    @Override
+    public List<LeaderboardEntryDto> findWinsByPlayer() {
+        return repo.findWinsByWinner().stream()
+                .map(winner -> new LeaderboardEntryDto(winner.getPlayerUuid(), winner.getUsername(), winner.getWins().intValue()))
                 .toList();
     }
 }
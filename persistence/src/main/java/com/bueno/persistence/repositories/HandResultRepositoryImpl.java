@@ -25,18 +25,39 @@ import com.bueno.domain.usecases.hand.dtos.HandResultDto;
 import com.bueno.persistence.dao.HandResultDao;
 import com.bueno.persistence.dto.HandResultEntity;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Collection;
 
 @Repository
 public class HandResultRepositoryImpl implements HandResultRepository {
 
+    private static final int FLUSH_SIZE = 50;
+
     private final HandResultDao dao;
+    private final EntityManager entityManager;
 
-    public HandResultRepositoryImpl(HandResultDao dao) {
+    public HandResultRepositoryImpl(HandResultDao dao, EntityManager entityManager) {
         this.dao = dao;
+        this.entityManager = entityManager;
     }
 
     @Override
     public void save(HandResultDto handResultDto) {
         dao.save(HandResultEntity.from(handResultDto));
     }
+
+    @Override
+    @Transactional
+    public void saveAll(Collection<HandResultDto> handResults) {
+        int pending = 0;
+        for (HandResultDto handResult : handResults) {
+            entityManager.persist(HandResultEntity.from(handResult));
+            if (++pending % FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
 }
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.LeaderboardEntryDto;
+import com.bueno.domain.usecases.game.repos.LeaderboardRepository;
+import com.bueno.persistence.dao.PlayerWinsDao;
+import com.bueno.persistence.dto.PlayerWinsEntity;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+@Repository
+public class LeaderboardRepositoryImpl implements LeaderboardRepository {
+
+    private final PlayerWinsDao dao;
+
+    public LeaderboardRepositoryImpl(PlayerWinsDao dao) {
+        this.dao = dao;
+    }
+
+    @Override
+    public void saveAll(Collection<LeaderboardEntryDto> entries) {
+        dao.saveAll(entries.stream().map(PlayerWinsEntity::from).toList());
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(Collection<LeaderboardEntryDto> entries) {
+        dao.deleteAllInBatch();
+        saveAll(entries);
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.persistence.repositories;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.hand.dtos.HandEventDto;
+import com.bueno.domain.usecases.hand.dtos.HandHistoryDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import com.bueno.persistence.dao.GameDao;
+import com.bueno.persistence.dao.PlayerDao;
+import com.bueno.persistence.dto.GameEntity;
+import com.bueno.persistence.dto.PlayerEntity;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameRepositoryImplTest {
+
+    private static final long STORED_VERSION = 3L;
+
+    @Mock private GameDao gameDao;
+    @Mock private PlayerDao playerDao;
+    @Mock private MongoTemplate mongoTemplate;
+
+    private GameRepositoryImpl sut;
+    private PlayerDto player1;
+    private PlayerDto player2;
+
+    @BeforeEach
+    void setUp() {
+        sut = new GameRepositoryImpl(gameDao, playerDao, mongoTemplate, 2);
+        player1 = new PlayerDto("user", UUID.randomUUID(), 0, false, List.of(new CardDto("4", "C")));
+        player2 = new PlayerDto("bot", UUID.randomUUID(), 0, true, List.of(new CardDto("A", "C")));
+    }
+
+    @Test
+    @DisplayName("Should push only the new events of the last stored hand")
+    void shouldPushOnlyTheNewEventsOfTheLastStoredHand() {
+        final UUID gameUuid = UUID.randomUUID();
+        load(game(gameUuid, 2, player1));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        sut.update(game(gameUuid, 3, player2));
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(GameEntity.class));
+        verify(mongoTemplate, never()).findAndReplace(any(Query.class), any(GameEntity.class));
+
+        final Document delta = update.getValue().getUpdateObject();
+        assertThat(query.getValue().getQueryObject().get("version")).isEqualTo(STORED_VERSION);
+        assertThat(delta.get("$push", Document.class).keySet()).containsExactly("hands.0.eventLog.events");
+        assertThat(delta.get("$set", Document.class).keySet()).containsExactlyInAnyOrder("lastActivity", "currentPlayer", "hands.0.currentPlayer");
+        assertThat(delta.get("$inc", Document.class).get("version")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rewrite the whole game if its stored shape is unknown")
+    void shouldRewriteTheWholeGameIfItsStoredShapeIsUnknown() {
+        final UUID gameUuid = UUID.randomUUID();
+        final GameEntity stored = storedEntity(game(gameUuid, 2, player1));
+        when(mongoTemplate.findAndReplace(any(Query.class), any(GameEntity.class))).thenReturn(stored);
+
+        sut.update(game(gameUuid, 3, player2));
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        final ArgumentCaptor<GameEntity> replacement = ArgumentCaptor.forClass(GameEntity.class);
+        verify(mongoTemplate).findAndReplace(query.capture(), replacement.capture());
+        assertThat(query.getValue().getQueryObject().get("version")).isEqualTo(STORED_VERSION);
+        assertThat(replacement.getValue().getVersion()).isEqualTo(STORED_VERSION + 1);
+    }
+
+    @Test
+    @DisplayName("Should fail and forget the game if it was updated concurrently")
+    void shouldFailAndForgetTheGameIfItWasUpdatedConcurrently() {
+        final UUID gameUuid = UUID.randomUUID();
+        load(game(gameUuid, 2, player1));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(0, 0L, null));
+
+        assertThatExceptionOfType(OptimisticLockingFailureException.class)
+                .isThrownBy(() -> sut.update(game(gameUuid, 3, player2)));
+        assertRewrittenOnNextUpdate(gameUuid);
+    }
+
+    @Test
+    @DisplayName("Should reject an update built on a version older than the stored one")
+    void shouldRejectAnUpdateBuiltOnAVersionOlderThanTheStoredOne() {
+        final UUID gameUuid = UUID.randomUUID();
+        load(game(gameUuid, 2, player1));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        when(gameDao.existsById(gameUuid)).thenReturn(true);
+        sut.update(game(gameUuid, 3, player2));
+
+        assertThatExceptionOfType(OptimisticLockingFailureException.class)
+                .isThrownBy(() -> sut.update(game(gameUuid, 4, player2)));
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findAndReplace(query.capture(), any(GameEntity.class));
+        assertThat(query.getValue().getQueryObject().get("version")).isEqualTo(STORED_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should forget a game once it is over")
+    void shouldForgetAGameOnceItIsOver() {
+        final UUID gameUuid = UUID.randomUUID();
+        load(game(gameUuid, 2, player1));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        sut.update(game(gameUuid, 3, null));
+        assertRewrittenOnNextUpdate(gameUuid);
+    }
+
+    @Test
+    @DisplayName("Should remember only the most recently used games")
+    void shouldRememberOnlyTheMostRecentlyUsedGames() {
+        final UUID oldest = UUID.randomUUID();
+        load(game(oldest, 2, player1));
+        load(game(UUID.randomUUID(), 2, player1));
+        load(game(UUID.randomUUID(), 2, player1));
+        assertRewrittenOnNextUpdate(oldest);
+    }
+
+    @Test
+    @DisplayName("Should not remember games read by the inactivity scan")
+    void shouldNotRememberGamesReadByTheInactivityScan() {
+        final UUID gameUuid = UUID.randomUUID();
+        final GameEntity stored = storedEntity(game(gameUuid, 2, player1));
+        when(mongoTemplate.find(any(Query.class), eq(GameEntity.class))).thenReturn(List.of(stored));
+        stubPlayers();
+
+        assertThat(sut.findAllInactiveAfter(10)).hasSize(1);
+        assertRewrittenOnNextUpdate(gameUuid);
+    }
+
+    @Test
+    @DisplayName("Should write changed players only over an older game version")
+    void shouldWriteChangedPlayersOnlyOverAnOlderGameVersion() {
+        final UUID gameUuid = UUID.randomUUID();
+        load(game(gameUuid, 2, player1));
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+        player1 = new PlayerDto(player1.username(), player1.uuid(), 3, false, List.of());
+
+        sut.update(game(gameUuid, 3, player2));
+
+        final ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(PlayerEntity.class));
+        assertThat(query.getValue().getQueryObject().get("_id")).isEqualTo(player1.uuid());
+        assertThat(String.valueOf(query.getValue().getQueryObject().get("$and"))).contains("$lt=" + (STORED_VERSION + 1));
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("score", 3)
+                .containsEntry("gameVersion", STORED_VERSION + 1);
+    }
+
+    @Test
+    @DisplayName("Should close games stored without last activity after filling it in from their hands")
+    void shouldCloseGamesStoredWithoutLastActivityAfterFillingItInFromTheirHands() {
+        final UUID gameUuid = UUID.randomUUID();
+        final GameEntity legacy = legacyEntity(game(gameUuid, 2, player1));
+        when(mongoTemplate.find(any(Query.class), eq(GameEntity.class))).thenReturn(List.of(legacy));
+        when(gameDao.findById(gameUuid)).thenReturn(Optional.of(legacy));
+        stubPlayers();
+
+        assertThat(sut.findInactiveGamesAfter(10)).singleElement()
+                .satisfies(game -> assertThat(game.currentPlayerUuid()).isEqualTo(player1.uuid()));
+
+        final ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(GameEntity.class));
+        assertThat(update.getValue().getUpdateObject().get("$set", Document.class))
+                .containsEntry("lastActivity", Instant.ofEpochSecond(1))
+                .containsEntry("currentPlayer", player1.uuid());
+    }
+
+    @Test
+    @DisplayName("Should keep games stored without last activity if their last event is recent")
+    void shouldKeepGamesStoredWithoutLastActivityIfTheirLastEventIsRecent() {
+        final UUID gameUuid = UUID.randomUUID();
+        final GameEntity legacy = legacyEntity(game(gameUuid, 2, player1, Instant.now()));
+        when(mongoTemplate.find(any(Query.class), eq(GameEntity.class))).thenReturn(List.of(legacy));
+        when(gameDao.findById(gameUuid)).thenReturn(Optional.of(legacy));
+        stubPlayers();
+
+        assertThat(sut.findInactiveGamesAfter(10)).isEmpty();
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(GameEntity.class));
+    }
+
+    private void assertRewrittenOnNextUpdate(UUID gameUuid) {
+        final GameEntity stored = storedEntity(game(gameUuid, 3, player2));
+        when(mongoTemplate.findAndReplace(any(Query.class), any(GameEntity.class))).thenReturn(stored);
+
+        sut.update(game(gameUuid, 4, player1));
+
+        verify(mongoTemplate).findAndReplace(any(Query.class), any(GameEntity.class));
+    }
+
+    private void load(GameDto game) {
+        when(gameDao.findByPlayer1OrPlayer2(player1.uuid(), player1.uuid())).thenReturn(Optional.of(storedEntity(game)));
+        stubPlayers();
+        assertThat(sut.findByPlayerUuid(player1.uuid())).isPresent();
+    }
+
+    private void stubPlayers() {
+        lenient().when(playerDao.findById(player1.uuid())).thenReturn(Optional.of(PlayerEntity.from(player1)));
+        lenient().when(playerDao.findById(player2.uuid())).thenReturn(Optional.of(PlayerEntity.from(player2)));
+    }
+
+    private static GameEntity storedEntity(GameDto game) {
+        final GameEntity entity = GameEntity.from(game);
+        entity.setVersion(STORED_VERSION);
+        return entity;
+    }
+
+    // A document written before the last activity and the current player were copied to it.
+    private static GameEntity legacyEntity(GameDto game) {
+        final GameEntity entity = storedEntity(game);
+        entity.setLastActivity(null);
+        entity.setCurrentPlayer(null);
+        return entity;
+    }
+
+    private GameDto game(UUID gameUuid, int events, PlayerDto currentPlayer) {
+        return game(gameUuid, events, currentPlayer, Instant.EPOCH);
+    }
+
+    // A game loaded at the stored version, with a single hand and the given number of events, whose current player is
+    // the given one or none if over.
+    private GameDto game(UUID gameUuid, int events, PlayerDto currentPlayer, Instant firstEvent) {
+        final List<HandEventDto> history = IntStream.range(0, events)
+                .mapToObj(index -> new HandEventDto("PLAY", player1.uuid(), player2.uuid(), player1.uuid(), Set.of(),
+                        1, 0, 0, 1, null, null, 0, 0, false, List.of(), firstEvent.plusSeconds(index)))
+                .toList();
+        final HandDto hand = new HandDto(new CardDto("7", "H"), List.of(new CardDto("7", "H")), List.of(new CardDto("7", "H")),
+                List.of(), new HandHistoryDto(player1.uuid(), 0, 0, history), Set.of("PLAY"), player1, player2,
+                currentPlayer, null, player1, null, 1, 0, null, "NoCard");
+        return new GameDto(gameUuid, LocalDateTime.of(2022, 1, 1, 0, 0), player1, player2, player1, player2, List.of(hand),
+                STORED_VERSION);
+    }
+}
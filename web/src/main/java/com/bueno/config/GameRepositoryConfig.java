@@ -0,0 +1,74 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.config;
+
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.game.repos.GameJournal;
+import com.bueno.domain.usecases.game.repos.GameRepository;
+import com.bueno.domain.usecases.game.repos.WriteBehindGameRepository;
+import com.bueno.persistence.repositories.GameRepositoryImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Puts the write-behind cache in front of the Mongo repository, so every use case gets it when asking for a
+// GameRepository. Journal records are the JSON of the game DTO.
+@Configuration
+public class GameRepositoryConfig {
+
+    @Bean
+    @Primary
+    public GameRepository gameRepository(GameRepositoryImpl mongoRepository, WriteBehindProperties properties,
+                                         ObjectMapper objectMapper) {
+        if (!properties.isEnabled()) return mongoRepository;
+        final GameJournal journal = GameJournal.open(Path.of(properties.getJournalDirectory()), jsonCodec(objectMapper));
+        return new WriteBehindGameRepository(mongoRepository, Duration.ofMillis(properties.getFlushIntervalMillis()), journal);
+    }
+
+    private static GameJournal.Codec jsonCodec(ObjectMapper objectMapper) {
+        return new GameJournal.Codec() {
+            @Override
+            public byte[] encode(GameDto game) {
+                try {
+                    return objectMapper.writeValueAsBytes(game);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Can not write game to journal: " + game.gameUuid(), e);
+                }
+            }
+
+            @Override
+            public GameDto decode(byte[] bytes) {
+                try {
+                    return objectMapper.readValue(bytes, GameDto.class);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Can not read game from journal.", e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (C) 2022 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.config;
+
+import com.bueno.domain.usecases.game.repos.AsyncResultSink;
+import com.bueno.domain.usecases.game.repos.GameResultRepository;
+import com.bueno.domain.usecases.game.repos.Leaderboard;
+import com.bueno.domain.usecases.game.repos.LeaderboardGameResultRepository;
+import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.persistence.repositories.GameResultRepositoryImpl;
+import com.bueno.persistence.repositories.HandResultRepositoryImpl;
+import com.bueno.persistence.repositories.LeaderboardRepositoryImpl;
+import com.bueno.persistence.repositories.UserRepositoryImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+// Result repositories injected into the use cases. Game results are recorded in the leaderboard once they are stored
+// and, when the sink is enabled, both kinds of result are written through it. Spring calls the close method of the
+// sink on shutdown, which writes whatever is still queued.
+@Configuration
+public class ResultRepositoryConfig {
+
+    @Bean
+    public Leaderboard leaderboard(GameResultRepositoryImpl gameResultRepository,
+                                   LeaderboardRepositoryImpl leaderboardRepository, UserRepositoryImpl userRepository) {
+        final Leaderboard leaderboard = new Leaderboard(gameResultRepository, leaderboardRepository, userRepository);
+        leaderboard.rebuild();
+        return leaderboard;
+    }
+
+    @Bean
+    public LeaderboardGameResultRepository storedGameResults(GameResultRepositoryImpl gameResultRepository,
+                                                             Leaderboard leaderboard) {
+        return new LeaderboardGameResultRepository(gameResultRepository, leaderboard);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.results.sink", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AsyncResultSink resultSink(HandResultRepositoryImpl handResultRepository,
+                                      LeaderboardGameResultRepository storedGameResults, ResultSinkProperties properties) {
+        return new AsyncResultSink(handResultRepository, storedGameResults, properties.getCapacity(),
+                properties.getBatchSize(), Duration.ofMillis(properties.getMaxDelayMillis()));
+    }
+
+    @Bean
+    @Primary
+    public HandResultRepository handResultRepository(HandResultRepositoryImpl handResultRepository,
+                                                     ObjectProvider<AsyncResultSink> resultSink) {
+        final AsyncResultSink sink = resultSink.getIfAvailable();
+        return sink != null ? sink.handResults() : handResultRepository;
+    }
+
+    @Bean
+    @Primary
+    public GameResultRepository gameResultRepository(LeaderboardGameResultRepository storedGameResults,
+                                                     ObjectProvider<AsyncResultSink> resultSink) {
+        final AsyncResultSink sink = resultSink.getIfAvailable();
+        return sink != null ? sink.gameResults() : storedGameResults;
+    }
+}
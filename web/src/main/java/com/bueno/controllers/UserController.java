@@ -20,6 +20,7 @@
 
 package com.bueno.controllers;
 
+import com.bueno.domain.usecases.game.dtos.MatchCursorDto;
 import com.bueno.domain.usecases.game.usecase.UserRecordUseCase;
 import com.bueno.domain.usecases.game.dtos.UserRecordDto;
 import com.bueno.domain.usecases.user.FindUserUseCase;
@@ -27,11 +28,13 @@ import com.bueno.domain.usecases.user.RegisterUserUseCase;
 import com.bueno.domain.usecases.user.dtos.ApplicationUserDto;
 import com.bueno.domain.usecases.user.dtos.RegisterUserRequestDto;
 import com.bueno.domain.usecases.user.dtos.RegisterUserResponseDto;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @RestController
@@ -74,8 +77,15 @@ public class UserController {
         return ResponseEntity.ok(responseWithoutPassword);
     }
 
+    // The next page is requested with the ending time and game UUID of the "next" cursor of the previous response.
     @GetMapping(path = "/api/v1/users/{uuid}/matches")
-    public UserRecordDto removeGame(@PathVariable UUID uuid){
-        return userRecordUseCase.listByUuid(uuid);
+    public UserRecordDto removeGame(@PathVariable UUID uuid,
+                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endingTime,
+                                    @RequestParam(required = false) UUID gameUuid,
+                                    @RequestParam(defaultValue = "" + UserRecordUseCase.DEFAULT_PAGE_SIZE) int size){
+        if ((endingTime == null) != (gameUuid == null))
+            throw new IllegalArgumentException("Ending time and game UUID must be given together.");
+        final MatchCursorDto after = endingTime == null ? null : new MatchCursorDto(endingTime, gameUuid);
+        return userRecordUseCase.listByUuid(uuid, after, size);
     }
 }